@@ -21,6 +21,7 @@ package org.pdfsam.alternatemix;
 import static org.pdfsam.module.ModuleDescriptorBuilder.builder;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import javax.inject.Inject;
@@ -32,6 +33,7 @@ import org.pdfsam.module.ModuleCategory;
 import org.pdfsam.module.ModuleDescriptor;
 import org.pdfsam.module.ModuleInputOutputType;
 import org.pdfsam.module.ModulePriority;
+import org.pdfsam.module.RequiredPdfData;
 import org.pdfsam.ui.commons.ClearModuleEvent;
 import org.pdfsam.ui.io.BrowsablePdfOutputField;
 import org.pdfsam.ui.io.PdfDestinationPane;
@@ -63,7 +65,7 @@ public class AlternateMixModule extends BaseTaskExecutionModule {
 
     private static final String MODULE_ID = "alternatemix";
 
-    private AlternateMixSelectionPane selectionPane = new AlternateMixSelectionPane(MODULE_ID);
+    private AlternateMixSelectionPane selectionPane;
     private BrowsablePdfOutputField destinationFileField;
     private PdfDestinationPane destinationPane;
     private ModuleDescriptor descriptor = builder().category(ModuleCategory.MERGE)
@@ -78,7 +80,6 @@ public class AlternateMixModule extends BaseTaskExecutionModule {
         super(footer);
         this.destinationFileField = destinationFileField;
         this.destinationPane = destinationPane;
-        initModuleSettingsPanel(settingPanel());
     }
 
     @Override
@@ -115,7 +116,15 @@ public class AlternateMixModule extends BaseTaskExecutionModule {
         destinationPane.restoreStateFrom(data);
     }
 
-    private VBox settingPanel() {
+    @Override
+    protected CompletableFuture<Void> restored() {
+        return selectionPane.table().restored();
+    }
+
+    @Override
+    protected VBox settingPanel() {
+        selectionPane = new AlternateMixSelectionPane(MODULE_ID);
+
         VBox pane = new VBox();
         pane.setAlignment(Pos.TOP_CENTER);
         VBox.setVgrow(selectionPane, Priority.ALWAYS);
@@ -138,6 +147,11 @@ public class AlternateMixModule extends BaseTaskExecutionModule {
         }
     }
 
+    @Override
+    public RequiredPdfData[] requires() {
+        return new RequiredPdfData[] { RequiredPdfData.DEFAULT, RequiredPdfData.FINGERPRINT };
+    }
+
     @Override
     public Node graphic() {
         return new ImageView("alternate_mix.png");
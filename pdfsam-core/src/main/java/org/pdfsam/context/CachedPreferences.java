@@ -0,0 +1,163 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.context;
+
+import static java.util.Objects.nonNull;
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+import static org.sejda.eventstudio.StaticStudio.eventStudio;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.PreferenceChangeEvent;
+import java.util.prefs.PreferenceChangeListener;
+import java.util.prefs.Preferences;
+
+import org.pdfsam.ShutdownEvent;
+import org.sejda.eventstudio.annotation.EventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In memory copy of a {@link Preferences} node. Reads are served by an immutable snapshot of the node values. Changes replace the snapshot
+ * and they are written to the node in background, in batch. Changes made to the node by others are applied to the snapshot as they are
+ * notified to the registered {@link PreferenceChangeListener}.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+final class CachedPreferences {
+    private static final Logger LOG = LoggerFactory.getLogger(CachedPreferences.class);
+    static final long WRITE_DELAY_MILLIS = 500;
+
+    private final String path;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "preferences-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, String> pending = new LinkedHashMap<>();
+    private volatile Map<String, String> snapshot = Collections.emptyMap();
+    private Preferences node;
+    private ScheduledFuture<?> write;
+
+    CachedPreferences(String path) {
+        this.path = path;
+        open();
+        eventStudio().addAnnotatedListeners(this);
+    }
+
+    private void open() {
+        this.node = Preferences.userRoot().node(path);
+        Map<String, String> values = new HashMap<>();
+        try {
+            for (String key : node.keys()) {
+                String value = node.get(key, null);
+                if (nonNull(value)) {
+                    values.put(key, value);
+                }
+            }
+        } catch (BackingStoreException e) {
+            LOG.error("Unable to read user preferences", e);
+        }
+        this.snapshot = Collections.unmodifiableMap(values);
+        this.node.addPreferenceChangeListener(this::onPreferenceChange);
+    }
+
+    /**
+     * @param key
+     * @return the value for the given key or null if there's no value
+     */
+    String get(String key) {
+        return snapshot.get(key);
+    }
+
+    synchronized void put(String key, String value) {
+        requireNotNull(key, "Key cannot be null");
+        requireNotNull(value, "Value cannot be null");
+        replace(key, value);
+        pending.put(key, value);
+        if (write == null || write.isDone()) {
+            write = writer.schedule(this::flush, WRITE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void replace(String key, String value) {
+        Map<String, String> values = new HashMap<>(snapshot);
+        if (nonNull(value)) {
+            values.put(key, value);
+        } else {
+            values.remove(key);
+        }
+        snapshot = Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * Writes the pending changes to the {@link Preferences} node
+     */
+    synchronized void flush() {
+        if (!pending.isEmpty()) {
+            try {
+                pending.forEach(node::put);
+                node.flush();
+            } catch (BackingStoreException | IllegalStateException e) {
+                LOG.error("Unable to store user preferences", e);
+            } finally {
+                pending.clear();
+            }
+        }
+    }
+
+    /**
+     * Removes every value, from the snapshot and from the {@link Preferences} node
+     */
+    synchronized void clear() {
+        pending.clear();
+        try {
+            node.removeNode();
+            node.flush();
+        } catch (BackingStoreException e) {
+            LOG.error("Unable to clear user preferences", e);
+        }
+        open();
+    }
+
+    private synchronized void onPreferenceChange(PreferenceChangeEvent event) {
+        // values we still have to write are more recent than the stored one
+        if (event.getNode() == node && !pending.containsKey(event.getKey())) {
+            try {
+                // notifications are asynchronous, the current value might be more recent than the notified one
+                replace(event.getKey(), node.get(event.getKey(), null));
+            } catch (IllegalStateException e) {
+                LOG.debug("Preferences node has been removed", e);
+            }
+        }
+    }
+
+    @EventListener
+    public void onShutdown(ShutdownEvent event) {
+        flush();
+    }
+}
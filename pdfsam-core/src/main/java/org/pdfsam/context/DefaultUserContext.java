@@ -18,23 +18,22 @@
  */
 package org.pdfsam.context;
 
-import java.util.prefs.BackingStoreException;
+import static java.util.Objects.nonNull;
+
 import java.util.prefs.Preferences;
 
 import org.apache.commons.lang3.StringUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.apache.commons.lang3.math.NumberUtils;
 
 /**
- * {@link Preferences} implementation for the {@link UserContext}.
+ * {@link Preferences} implementation for the {@link UserContext}. Values are read from an in memory snapshot of the preferences, shared
+ * by all the instances, and changes are written to the {@link Preferences} in background.
  * 
  * @author Andrea Vacondio
  * 
  */
 public final class DefaultUserContext implements UserContext {
 
-    private static final Logger LOG = LoggerFactory.getLogger(DefaultUserContext.class);
-
     static final String CHECK_FOR_UPDATES_PROP = "org.pdfsam.default.checkforupdate";
     static final String CHECK_FOR_NEWS_PROP = "org.pdfsam.default.checkfornews";
     static final String DONATE_NOTIFICATION_PROP = "org.pdfsam.default.donate.notification";
@@ -42,109 +41,130 @@ public final class DefaultUserContext implements UserContext {
     static final String FETCH_PREMIUM_MODULES_PROP = "org.pdfsam.default.fetch.premium.modules";
     static final String LOCALE_PROP = "org.pdfsam.default.locale";
 
-    private Preferences prefs;
+    static final String NODE_PATH = "/org/pdfsam/user/conf";
+
+    private static final CachedPreferences PREFERENCES = new CachedPreferences(NODE_PATH);
+
+    private boolean getBoolean(String key, boolean defaultValue) {
+        String value = PREFERENCES.get(key);
+        if (Boolean.TRUE.toString().equalsIgnoreCase(value)) {
+            return true;
+        }
+        if (Boolean.FALSE.toString().equalsIgnoreCase(value)) {
+            return false;
+        }
+        return defaultValue;
+    }
 
-    public DefaultUserContext() {
-        initNode();
+    private int getInt(String key, int defaultValue) {
+        return NumberUtils.toInt(PREFERENCES.get(key), defaultValue);
     }
 
-    private void initNode() {
-        this.prefs = Preferences.userRoot().node("/org/pdfsam/user/conf");
+    private String get(String key, String defaultValue) {
+        String value = PREFERENCES.get(key);
+        if (nonNull(value)) {
+            return value;
+        }
+        return defaultValue;
     }
 
     @Override
     public String getDefaultWorkspacePath() {
-        return prefs.get(StringUserPreference.WORKSPACE_PATH.toString(), StringUtils.EMPTY);
+        return get(StringUserPreference.WORKSPACE_PATH.toString(), StringUtils.EMPTY);
     }
 
     @Override
     public String getDefaultWorkingPath() {
-        return prefs.get(StringUserPreference.WORKING_PATH.toString(), StringUtils.EMPTY);
+        return get(StringUserPreference.WORKING_PATH.toString(), StringUtils.EMPTY);
     }
 
     @Override
     public boolean isPlaySounds() {
-        return prefs.getBoolean(BooleanUserPreference.PLAY_SOUNDS.toString(),
+        return getBoolean(BooleanUserPreference.PLAY_SOUNDS.toString(),
                 Boolean.valueOf(System.getProperty(PLAY_SOUNDS_PROP, Boolean.TRUE.toString())));
     }
 
     @Override
     public boolean isDonationNotification() {
-        return prefs.getBoolean(BooleanUserPreference.DONATION_NOTIFICATION.toString(),
+        return getBoolean(BooleanUserPreference.DONATION_NOTIFICATION.toString(),
                 Boolean.valueOf(System.getProperty(DONATE_NOTIFICATION_PROP, Boolean.TRUE.toString())));
     }
 
     @Override
     public boolean isFetchPremiumModules() {
-        return prefs.getBoolean(BooleanUserPreference.PREMIUM_MODULES.toString(),
+        return getBoolean(BooleanUserPreference.PREMIUM_MODULES.toString(),
                 Boolean.valueOf(System.getProperty(FETCH_PREMIUM_MODULES_PROP, Boolean.TRUE.toString())));
     }
 
     @Override
     public boolean isUseSmartOutput() {
-        return prefs.getBoolean(BooleanUserPreference.SMART_OUTPUT.toString(), Boolean.TRUE);
+        return getBoolean(BooleanUserPreference.SMART_OUTPUT.toString(), Boolean.TRUE);
     }
 
     @Override
     public boolean isSaveWorkspaceOnExit() {
-        return prefs.getBoolean(BooleanUserPreference.SAVE_WORKSPACE_ON_EXIT.toString(), Boolean.FALSE);
+        return getBoolean(BooleanUserPreference.SAVE_WORKSPACE_ON_EXIT.toString(), Boolean.FALSE);
     }
 
     @Override
     public int getNumberOfLogRows() {
-        return prefs.getInt(IntUserPreference.LOGVIEW_ROWS_NUMBER.toString(), 200);
+        return getInt(IntUserPreference.LOGVIEW_ROWS_NUMBER.toString(), 200);
+    }
+
+    @Override
+    public int getThumbnailsSize() {
+        return getInt(IntUserPreference.THUMBNAILS_SIZE.toString(), 190);
+    }
+
+    @Override
+    public boolean isHighQualityThumbnails() {
+        return getBoolean(BooleanUserPreference.HIGH_QUALITY_THUMB.toString(), Boolean.TRUE);
     }
 
     @Override
     public String getStartupModule() {
-        return prefs.get(StringUserPreference.STARTUP_MODULE.toString(), StringUtils.EMPTY);
+        return get(StringUserPreference.STARTUP_MODULE.toString(), StringUtils.EMPTY);
     }
 
     @Override
     public boolean isCheckForUpdates() {
-        return prefs.getBoolean(BooleanUserPreference.CHECK_UPDATES.toString(),
+        return getBoolean(BooleanUserPreference.CHECK_UPDATES.toString(),
                 Boolean.valueOf(System.getProperty(CHECK_FOR_UPDATES_PROP, Boolean.TRUE.toString())));
     }
 
     @Override
     public boolean isCheckForNews() {
-        return prefs.getBoolean(BooleanUserPreference.CHECK_FOR_NEWS.toString(),
+        return getBoolean(BooleanUserPreference.CHECK_FOR_NEWS.toString(),
                 Boolean.valueOf(System.getProperty(CHECK_FOR_NEWS_PROP, Boolean.TRUE.toString())));
     }
 
     @Override
     public boolean isSavePwdInWorkspaceFile() {
-        return prefs.getBoolean(BooleanUserPreference.SAVE_PWD_IN_WORKSPACE.toString(), Boolean.FALSE);
+        return getBoolean(BooleanUserPreference.SAVE_PWD_IN_WORKSPACE.toString(), Boolean.FALSE);
     }
 
     @Override
     public String getLocale() {
-        return prefs.get(StringUserPreference.LOCALE.toString(), System.getProperty(LOCALE_PROP));
+        return get(StringUserPreference.LOCALE.toString(), System.getProperty(LOCALE_PROP));
     }
 
     @Override
     public void clear() {
-        try {
-            prefs.removeNode();
-            prefs.flush();
-            initNode();
-        } catch (BackingStoreException e) {
-            LOG.error("Unable to clear user preferences", e);
-        }
+        PREFERENCES.clear();
     }
 
     @Override
     public void setBooleanPreference(BooleanUserPreference pref, boolean value) {
-        prefs.putBoolean(pref.toString(), value);
+        PREFERENCES.put(pref.toString(), Boolean.toString(value));
     }
 
     @Override
     public void setIntegerPreference(IntUserPreference pref, int value) {
-        prefs.putInt(pref.toString(), value);
+        PREFERENCES.put(pref.toString(), Integer.toString(value));
     }
 
     @Override
     public void setStringPreference(StringUserPreference pref, String value) {
-        prefs.put(pref.toString(), value);
+        PREFERENCES.put(pref.toString(), value);
     }
 }
@@ -86,6 +86,16 @@ public interface UserContext {
      */
     int getNumberOfLogRows();
 
+    /**
+     * @return the size in px of the longest side of the pages thumbnails
+     */
+    int getThumbnailsSize();
+
+    /**
+     * @return true if thumbnails should be generated in high quality
+     */
+    boolean isHighQualityThumbnails();
+
     /**
      * @return the module to load at application startup
      */
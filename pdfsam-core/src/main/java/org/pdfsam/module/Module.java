@@ -42,7 +42,7 @@ public interface Module {
     ModuleDescriptor descriptor();
 
     /**
-     * @return the module panel.
+     * @return the module panel. It's requested on the JavaFX Application Thread and it can be built the first time it's requested.
      */
     Pane modulePanel();
 
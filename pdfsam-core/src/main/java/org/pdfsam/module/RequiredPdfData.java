@@ -26,5 +26,13 @@ package org.pdfsam.module;
  */
 public enum RequiredPdfData {
     DEFAULT,
-    BOOMARKS;
+    BOOMARKS,
+    /**
+     * A fingerprint of the document content, used to detect the same document loaded more than once
+     */
+    FINGERPRINT,
+    /**
+     * Media box, crop box and rotation of every page
+     */
+    PAGES_GEOMETRY;
 }
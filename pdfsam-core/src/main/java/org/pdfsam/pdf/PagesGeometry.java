@@ -0,0 +1,159 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.pdf;
+
+import static org.pdfsam.support.RequireUtils.require;
+import static org.pdfsam.support.RequireUtils.requireNotNegative;
+
+import java.util.Arrays;
+
+/**
+ * Compact index of the geometry of the pages of a document, holding media box, crop box and rotation of every page in primitive arrays so
+ * that size and orientation of the pages can be queried without going back to the document pages tree. Pages are numbered starting from
+ * 1, boxes are expressed in PDF units as lower left x, lower left y, upper right x, upper right y.
+ *
+ * @author Andrea Vacondio
+ *
+ */
+public class PagesGeometry {
+    private static final int BOX_SIZE = 4;
+
+    private final float[] mediaBoxes;
+    private final float[] cropBoxes;
+    private final short[] rotations;
+
+    public PagesGeometry(int pages) {
+        requireNotNegative(pages);
+        this.mediaBoxes = new float[pages * BOX_SIZE];
+        this.cropBoxes = new float[pages * BOX_SIZE];
+        this.rotations = new short[pages];
+    }
+
+    /**
+     * Sets the geometry of the given page
+     *
+     * @param page
+     *            page number, starting from 1
+     * @param mediaBox
+     *            the media box as {llx, lly, urx, ury}
+     * @param cropBox
+     *            the crop box as {llx, lly, urx, ury}
+     * @param rotation
+     *            the page rotation in degrees
+     */
+    public void setPage(int page, float[] mediaBox, float[] cropBox, int rotation) {
+        int index = index(page);
+        require(mediaBox != null && mediaBox.length == BOX_SIZE, "Invalid media box");
+        require(cropBox != null && cropBox.length == BOX_SIZE, "Invalid crop box");
+        System.arraycopy(mediaBox, 0, mediaBoxes, index * BOX_SIZE, BOX_SIZE);
+        System.arraycopy(cropBox, 0, cropBoxes, index * BOX_SIZE, BOX_SIZE);
+        rotations[index] = (short) (((rotation % 360) + 360) % 360);
+    }
+
+    public int numberOfPages() {
+        return rotations.length;
+    }
+
+    /**
+     * @param page
+     * @return a copy of the media box of the page as {llx, lly, urx, ury}
+     */
+    public float[] mediaBox(int page) {
+        int start = index(page) * BOX_SIZE;
+        return Arrays.copyOfRange(mediaBoxes, start, start + BOX_SIZE);
+    }
+
+    /**
+     * @param page
+     * @return a copy of the crop box of the page as {llx, lly, urx, ury}
+     */
+    public float[] cropBox(int page) {
+        int start = index(page) * BOX_SIZE;
+        return Arrays.copyOfRange(cropBoxes, start, start + BOX_SIZE);
+    }
+
+    /**
+     * @param page
+     * @return the rotation of the page in degrees, normalized in the [0, 360) range
+     */
+    public int rotation(int page) {
+        return rotations[index(page)];
+    }
+
+    /**
+     * @param page
+     * @return the width of the visible area of the page (crop box) as displayed, taking rotation into account
+     */
+    public float width(int page) {
+        int index = index(page);
+        if (isRotated(index)) {
+            return boxHeight(cropBoxes, index);
+        }
+        return boxWidth(cropBoxes, index);
+    }
+
+    /**
+     * @param page
+     * @return the height of the visible area of the page (crop box) as displayed, taking rotation into account
+     */
+    public float height(int page) {
+        int index = index(page);
+        if (isRotated(index)) {
+            return boxWidth(cropBoxes, index);
+        }
+        return boxHeight(cropBoxes, index);
+    }
+
+    /**
+     * @param page
+     * @return true if the page is displayed wider than it's tall
+     */
+    public boolean isLandscape(int page) {
+        return width(page) > height(page);
+    }
+
+    /**
+     * @return true if all the pages are displayed with the same size
+     */
+    public boolean isUniform() {
+        for (int page = 2; page <= numberOfPages(); page++) {
+            if (Float.compare(width(page), width(1)) != 0 || Float.compare(height(page), height(1)) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isRotated(int index) {
+        return rotations[index] == 90 || rotations[index] == 270;
+    }
+
+    private static float boxWidth(float[] boxes, int index) {
+        return Math.abs(boxes[index * BOX_SIZE + 2] - boxes[index * BOX_SIZE]);
+    }
+
+    private static float boxHeight(float[] boxes, int index) {
+        return Math.abs(boxes[index * BOX_SIZE + 3] - boxes[index * BOX_SIZE + 1]);
+    }
+
+    private int index(int page) {
+        require(page > 0 && page <= numberOfPages(), "Invalid page number " + page);
+        return page - 1;
+    }
+}
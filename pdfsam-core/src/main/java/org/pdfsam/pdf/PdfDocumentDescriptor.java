@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.StringUtils;
@@ -48,12 +49,16 @@ public class PdfDocumentDescriptor {
     private ObservableAtomicReference<PdfDescriptorLoadingStatus> loadingStatus = new ObservableAtomicReference<>(
             PdfDescriptorLoadingStatus.INITIAL);
     private AtomicInteger references = new AtomicInteger(1);
+    private CopyOnWriteArrayList<Runnable> releaseListeners = new CopyOnWriteArrayList<>();
     private ObservableAtomicReference<Integer> pages = new ObservableAtomicReference<>(0);
     private String password;
     private File file;
     private PdfVersion version;
     private Map<String, String> metadata = new HashMap<>();
     private SortedSet<Integer> validBookmarksLevels = Collections.emptySortedSet();
+    private PdfLoadTimings loadTimings = new PdfLoadTimings();
+    private String fingerprint;
+    private PagesGeometry pagesGeometry;
 
     private PdfDocumentDescriptor(File file, String password) {
         requireNotNull(file, "Input file is mandatory");
@@ -146,6 +151,41 @@ public class PdfDocumentDescriptor {
         return validBookmarksLevels;
     }
 
+    /**
+     * @return a fingerprint of the document content, documents with the same fingerprint are considered duplicates. It's null if the
+     *         fingerprint hasn't been computed.
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @return the geometry of the document pages or null if it hasn't been loaded
+     */
+    public PagesGeometry getPagesGeometry() {
+        return pagesGeometry;
+    }
+
+    public void setPagesGeometry(PagesGeometry pagesGeometry) {
+        this.pagesGeometry = pagesGeometry;
+    }
+
+    /**
+     * @return the times spent loading this descriptor, empty if the descriptor hasn't been loaded yet
+     */
+    public PdfLoadTimings getLoadTimings() {
+        return loadTimings;
+    }
+
+    public void setLoadTimings(PdfLoadTimings loadTimings) {
+        requireNotNull(loadTimings, "Load timings cannot be null");
+        this.loadTimings = loadTimings;
+    }
+
     /**
      * @return true if this descriptor has references, this can be false if the user deletes it from the UI and it tells to any service performing or about to perform some action
      *         on the descriptor that it should be ignored since not relevant anymore.
@@ -158,11 +198,38 @@ public class PdfDocumentDescriptor {
      * @return true if the descriptor has become invalid because of the release
      */
     public boolean release() {
-        return this.references.decrementAndGet() <= 0;
+        if (this.references.decrementAndGet() <= 0) {
+            notifyReleased();
+            return true;
+        }
+        return false;
     }
 
     public void releaseAll() {
         this.references.set(0);
+        notifyReleased();
+    }
+
+    /**
+     * Registers an action to perform once this descriptor has no more references. The action is performed immediately if the descriptor
+     * has already been released.
+     * 
+     * @param action
+     */
+    public void onRelease(Runnable action) {
+        requireNotNull(action, "Release action cannot be null");
+        releaseListeners.add(action);
+        if (!hasReferences()) {
+            notifyReleased();
+        }
+    }
+
+    private void notifyReleased() {
+        for (Runnable action : releaseListeners) {
+            if (releaseListeners.remove(action)) {
+                action.run();
+            }
+        }
     }
 
     /**
@@ -0,0 +1,85 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.pdf;
+
+import static org.pdfsam.support.RequireUtils.requireNotBlank;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times spent in the different phases of the loading of a {@link PdfDocumentDescriptor}. Phases are kept in the order they are recorded.
+ *
+ * @author Andrea Vacondio
+ *
+ */
+public class PdfLoadTimings {
+
+    public static final String OPEN = "open";
+    public static final String PARSE = "parse";
+
+    private final Map<String, Long> phases = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Records the time spent in the given phase, adding it to any previously recorded time for the same phase
+     *
+     * @param phase
+     * @param nanos
+     */
+    public void record(String phase, long nanos) {
+        requireNotBlank(phase, "Phase name cannot be blank");
+        phases.merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * @param phase
+     * @return the time in milliseconds spent in the given phase or -1 if the phase has not been recorded
+     */
+    public long millis(String phase) {
+        Long nanos = phases.get(phase);
+        if (nanos == null) {
+            return -1;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * @return the total time in milliseconds of the recorded phases
+     */
+    public long totalMillis() {
+        synchronized (phases) {
+            return TimeUnit.NANOSECONDS.toMillis(phases.values().stream().mapToLong(Long::longValue).sum());
+        }
+    }
+
+    /**
+     * @return an unmodifiable copy of the recorded phases and their time in nanoseconds
+     */
+    public Map<String, Long> phases() {
+        synchronized (phases) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+        }
+    }
+
+    public boolean isEmpty() {
+        return phases.isEmpty();
+    }
+}
@@ -21,15 +21,19 @@ package org.pdfsam.support;
 import static org.pdfsam.support.RequireUtils.require;
 
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
 
 /**
- * A {@link LinkedList} with size constraints. When at maxCapacity and an element is added, the eldest element is removed.
+ * A {@link Deque} with size constraints. When at maxCapacity and an element is added, the eldest element is removed. Elements are stored in
+ * a {@link RingBuffer} so random access is O(1) and the eldest elements are evicted in a single operation.
  * 
  * @author Andrea Vacondio
  *
  */
-public class CircularLinkedList<E> extends LinkedList<E> {
+public class CircularLinkedList<E> extends RingBuffer<E> implements Deque<E> {
     private int maxCapacity;
 
     public CircularLinkedList(int maxCapacity) {
@@ -53,26 +57,46 @@ public class CircularLinkedList<E> extends LinkedList<E> {
     @Override
     public void addFirst(E e) {
         makeRoom();
-        super.addFirst(e);
+        super.add(0, e);
     }
 
     @Override
     public void addLast(E e) {
         makeRoom();
-        super.addLast(e);
+        super.add(size(), e);
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
     }
 
     @Override
     public boolean add(E e) {
-        makeRoom();
-        return super.add(e);
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
     }
 
     @Override
     public boolean addAll(Collection<? extends E> c) {
-        boolean retVal = super.addAll(c);
-        houseKeep();
-        return retVal;
+        return addAll(size(), c);
     }
 
     @Override
@@ -88,12 +112,137 @@ public class CircularLinkedList<E> extends LinkedList<E> {
         houseKeep();
     }
 
+    @Override
+    public E removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(0);
+    }
+
+    @Override
+    public E removeLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return remove(size() - 1);
+    }
+
+    @Override
+    public E pollFirst() {
+        if (isEmpty()) {
+            return null;
+        }
+        return remove(0);
+    }
+
+    @Override
+    public E pollLast() {
+        if (isEmpty()) {
+            return null;
+        }
+        return remove(size() - 1);
+    }
+
+    @Override
+    public E getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0);
+    }
+
+    @Override
+    public E getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size() - 1);
+    }
+
+    @Override
+    public E peekFirst() {
+        if (isEmpty()) {
+            return null;
+        }
+        return get(0);
+    }
+
+    @Override
+    public E peekLast() {
+        if (isEmpty()) {
+            return null;
+        }
+        return get(size() - 1);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return remove(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        int index = lastIndexOf(o);
+        if (index >= 0) {
+            remove(index);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        ListIterator<E> iterator = listIterator(size());
+        return new Iterator<E>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasPrevious();
+            }
+
+            @Override
+            public E next() {
+                return iterator.previous();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+
     /**
      * Makes a space available if the list is already full. Calling this prior the insertion avoids that the list exceeds its limits.
      */
     private void makeRoom() {
-        while (isFull()) {
-            pollFirst();
+        if (isFull()) {
+            removeHead(size() - maxCapacity + 1);
         }
     }
 
@@ -101,8 +250,8 @@ public class CircularLinkedList<E> extends LinkedList<E> {
      * Makes the list fit its limits by removing last items in cases where the list might have exceeded its limits.
      */
     private void houseKeep() {
-        while (size() > maxCapacity) {
-            pollFirst();
+        if (size() > maxCapacity) {
+            removeHead(size() - maxCapacity);
         }
     }
 }
@@ -0,0 +1,228 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.support;
+
+import static org.pdfsam.support.RequireUtils.require;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A {@link List} backed by a growable circular array. Random access is O(1) and elements can be added or removed at both ends in constant
+ * time, making it a good fit for bounded lists where the eldest elements are evicted as new ones are appended.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+public class RingBuffer<E> extends AbstractList<E> implements RandomAccess {
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private Object[] elements;
+    private int head = 0;
+    private int size = 0;
+
+    public RingBuffer() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public RingBuffer(int initialCapacity) {
+        require(initialCapacity > 0, "Initial capacity must be a positive value");
+        this.elements = new Object[initialCapacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) elements[physical(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index);
+        int position = physical(index);
+        E previous = (E) elements[position];
+        elements[position] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(E element) {
+        add(size, element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndexForAdd(index);
+        ensureCapacity(size + 1);
+        if (index < size / 2) {
+            head = physical(elements.length - 1);
+            for (int i = 0; i < index; i++) {
+                elements[physical(i)] = elements[physical(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[physical(i)] = elements[physical(i - 1)];
+            }
+        }
+        elements[physical(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        checkIndexForAdd(index);
+        Object[] toAdd = c.toArray();
+        if (toAdd.length == 0) {
+            return false;
+        }
+        ensureCapacity(size + toAdd.length);
+        for (int i = size - 1; i >= index; i--) {
+            elements[physical(i + toAdd.length)] = elements[physical(i)];
+        }
+        for (int i = 0; i < toAdd.length; i++) {
+            elements[physical(index + i)] = toAdd[i];
+        }
+        size += toAdd.length;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index);
+        E removed = (E) elements[physical(index)];
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                elements[physical(i)] = elements[physical(i - 1)];
+            }
+            elements[head] = null;
+            head = physical(1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[physical(i)] = elements[physical(i + 1)];
+            }
+            elements[physical(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    /**
+     * Removes the first elements of the list in a single operation
+     * 
+     * @param count
+     *            number of elements to remove
+     * @return the removed elements, in the order they were in the list
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> removeHead(int count) {
+        require(count >= 0 && count <= size, "Invalid number of elements to remove");
+        List<E> removed = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int position = physical(i);
+            removed.add((E) elements[position]);
+            elements[position] = null;
+        }
+        if (count > 0) {
+            head = size == count ? 0 : physical(count);
+            size -= count;
+            modCount++;
+        }
+        return removed;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == 0) {
+            removeHead(toIndex);
+        } else {
+            int count = toIndex - fromIndex;
+            for (int i = fromIndex; i < size - count; i++) {
+                elements[physical(i)] = elements[physical(i + count)];
+            }
+            for (int i = size - count; i < size; i++) {
+                elements[physical(i)] = null;
+            }
+            size -= count;
+            modCount++;
+        }
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > elements.length) {
+            Object[] grown = new Object[Math.max(capacity, elements.length * 2)];
+            for (int i = 0; i < size; i++) {
+                grown[i] = elements[physical(i)];
+            }
+            elements = grown;
+            head = 0;
+        }
+    }
+
+    /**
+     * @return the position in the backing array of the element at the given index
+     */
+    private int physical(int index) {
+        int position = head + index;
+        if (position >= elements.length) {
+            return position - elements.length;
+        }
+        return position;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void checkIndexForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
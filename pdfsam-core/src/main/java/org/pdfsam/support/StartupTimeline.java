@@ -0,0 +1,242 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.support;
+
+import static org.pdfsam.support.RequireUtils.requireNotBlank;
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Records the phases of the application startup with their wall clock and CPU time. Phases can be recorded until the timeline is
+ * closed, after that they are silently discarded so instrumented code paths can be executed again without any bookkeeping.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+public final class StartupTimeline {
+    static final int MAX_PHASES = 512;
+    private static final StartupTimeline INSTANCE = new StartupTimeline();
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final long origin = System.nanoTime();
+    private final List<Phase> phases = new ArrayList<>();
+    private final CompletableFuture<List<Phase>> completed = new CompletableFuture<>();
+    private int running = 0;
+    private boolean closed = false;
+
+    StartupTimeline() {
+        // hide
+    }
+
+    /**
+     * @return the application startup timeline
+     */
+    public static StartupTimeline startupTimeline() {
+        return INSTANCE;
+    }
+
+    /**
+     * Begins a new phase that is recorded once {@link Phase#end()} is called
+     * 
+     * @param name
+     * @return the started phase
+     */
+    public Phase begin(String name) {
+        requireNotBlank(name, "Phase name cannot be blank");
+        synchronized (this) {
+            if (closed) {
+                return new Phase(name, false);
+            }
+            running++;
+        }
+        return new Phase(name, true);
+    }
+
+    /**
+     * Executes the given supplier recording its execution as a phase with the given name
+     * 
+     * @return the supplied value
+     */
+    public <T> T measure(String name, Supplier<T> supplier) {
+        requireNotNull(supplier, "Supplier cannot be null");
+        Phase phase = begin(name);
+        try {
+            return supplier.get();
+        } finally {
+            phase.end();
+        }
+    }
+
+    /**
+     * Executes the given action recording its execution as a phase with the given name
+     */
+    public void measure(String name, Runnable action) {
+        requireNotNull(action, "Action cannot be null");
+        measure(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * @return the phases recorded so far, in order of start
+     */
+    public synchronized List<Phase> phases() {
+        List<Phase> snapshot = new ArrayList<>(phases);
+        snapshot.sort(Comparator.comparingLong(Phase::startNanos));
+        return Collections.unmodifiableList(snapshot);
+    }
+
+    /**
+     * Closes the timeline, phases begun from now on are not recorded.
+     * 
+     * @return a future completing with the recorded phases once all the phases begun before closing the timeline have ended
+     */
+    public CompletableFuture<List<Phase>> close() {
+        synchronized (this) {
+            closed = true;
+        }
+        completeIfIdle();
+        return completed;
+    }
+
+    /**
+     * @return nanoseconds elapsed since the timeline was created
+     */
+    public long elapsedNanos() {
+        return System.nanoTime() - origin;
+    }
+
+    private void record(Phase phase) {
+        synchronized (this) {
+            running--;
+            if (phases.size() < MAX_PHASES) {
+                phases.add(phase);
+            }
+        }
+        completeIfIdle();
+    }
+
+    private void completeIfIdle() {
+        boolean idle;
+        synchronized (this) {
+            idle = closed && running == 0;
+        }
+        if (idle) {
+            completed.complete(phases());
+        }
+    }
+
+    private long cpuTime() {
+        if (threads.isCurrentThreadCpuTimeSupported()) {
+            try {
+                return threads.getCurrentThreadCpuTime();
+            } catch (UnsupportedOperationException e) {
+                // disabled
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A phase of the startup
+     */
+    public final class Phase {
+        private final String name;
+        private final boolean recorded;
+        private final Thread thread;
+        private final long start;
+        private final long cpuStart;
+        private long wall = -1;
+        private long cpu = -1;
+
+        private Phase(String name, boolean recorded) {
+            this.name = name;
+            this.recorded = recorded;
+            this.thread = Thread.currentThread();
+            this.start = System.nanoTime();
+            this.cpuStart = cpuTime();
+        }
+
+        /**
+         * Ends the phase. CPU time is available only if the phase ends on the same thread where it begun. Ending an already ended phase
+         * has no effect.
+         */
+        public void end() {
+            long now = System.nanoTime();
+            synchronized (this) {
+                if (wall >= 0) {
+                    return;
+                }
+                wall = now - start;
+                if (thread == Thread.currentThread() && cpuStart >= 0) {
+                    cpu = Math.max(0, cpuTime() - cpuStart);
+                }
+            }
+            if (recorded) {
+                record(this);
+            }
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return the name of the thread where the phase begun
+         */
+        public String thread() {
+            return thread.getName();
+        }
+
+        /**
+         * @return nanoseconds from the creation of the timeline to the beginning of this phase
+         */
+        public long startNanos() {
+            return start - origin;
+        }
+
+        /**
+         * @return the wall clock duration in nanoseconds or -1 if the phase didn't end
+         */
+        public synchronized long wallNanos() {
+            return wall;
+        }
+
+        /**
+         * @return the CPU time in nanoseconds or -1 if not available
+         */
+        public synchronized long cpuNanos() {
+            return cpu;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s [%s]", name, thread());
+        }
+    }
+}
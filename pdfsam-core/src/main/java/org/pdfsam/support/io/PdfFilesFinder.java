@@ -0,0 +1,273 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.support.io;
+
+import static org.pdfsam.support.RequireUtils.requireNotNegative;
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Component finding PDF files in a collection of files and directories. Directories are walked recursively and in parallel, up to a
+ * configurable depth, and files are recognized as PDF by their extension or, when the extension doesn't match, by the {@value #PDF_HEADER}
+ * header in their first bytes. Found files are notified in batches following the order of the given files and directories, the content of
+ * each directory sorted by name, so that the documents are loaded in a predictable order, and each batch is notified as soon as the ones
+ * preceding it have been, so that loading starts before the walk is over.
+ *
+ * @author Andrea Vacondio
+ *
+ */
+public class PdfFilesFinder {
+    private static final Logger LOG = LoggerFactory.getLogger(PdfFilesFinder.class);
+
+    /**
+     * System property to configure how deep in the directories tree the finder goes
+     */
+    public static final String PDFSAM_FIND_MAX_DEPTH = "org.pdfsam.find.max.depth";
+    public static final int DEFAULT_MAX_DEPTH = 16;
+    static final String PDF_HEADER = "%PDF-";
+    /**
+     * The PDF specification allows some garbage before the header, readers usually look for it in the first 1024 bytes
+     */
+    static final int HEADER_LOOKUP_RANGE = 1024;
+    private static final byte[] HEADER_BYTES = PDF_HEADER.getBytes(StandardCharsets.US_ASCII);
+
+    private final ExecutorService executor;
+    private final int maxDepth;
+
+    PdfFilesFinder(ExecutorService executor, int maxDepth) {
+        requireNotNull(executor, "Executor cannot be null");
+        requireNotNegative(maxDepth);
+        this.executor = executor;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Finds PDF files in the given files and directories
+     *
+     * @param roots
+     *            files and directories to look into
+     * @param consumer
+     *            consumer for the batches of PDF files found. It's called from the finder threads following the order of the roots and,
+     *            within a directory, the order of its entries. A batch is notified as soon as every batch preceding it has been
+     *            notified, without waiting for the rest of the walk.
+     * @return a future completing with the total number of PDF files found once every directory has been walked
+     */
+    public CompletableFuture<Integer> find(Collection<File> roots, Consumer<List<File>> consumer) {
+        requireNotNull(consumer, "Consumer cannot be null");
+        CompletableFuture<Integer> result = CompletableFuture.completedFuture(0);
+        List<Path> files = new ArrayList<>();
+        for (File current : new ArrayList<>(roots)) {
+            if (current.isDirectory()) {
+                result = notifyAfter(result, files(files), consumer);
+                files = new ArrayList<>();
+                result = walk(current.toPath(), maxDepth, result, consumer);
+            } else {
+                files.add(current.toPath());
+            }
+        }
+        return notifyAfter(result, files(files), consumer);
+    }
+
+    /**
+     * Batches are notified once the previous ones have been notified, so that the consumer receives them in order while the
+     * directories are walked in parallel
+     */
+    private static CompletableFuture<Integer> notifyAfter(CompletableFuture<Integer> previous,
+            CompletableFuture<List<File>> batch, Consumer<List<File>> consumer) {
+        return previous.thenCombine(batch, (found, files) -> {
+            if (!files.isEmpty()) {
+                consumer.accept(files);
+            }
+            return found + files.size();
+        });
+    }
+
+    /**
+     * @return a future completing with the PDF files among the given ones, in the given order
+     */
+    private CompletableFuture<List<File>> files(List<Path> files) {
+        if (files.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        return submit(() -> files.stream().filter(PdfFilesFinder::isPdf).map(Path::toFile).collect(Collectors.toList()),
+                Collections.emptyList(), "files");
+    }
+
+    /**
+     * Walks the directory, notifying the PDF files it contains after the previous batches. The files preceding each subdirectory are
+     * notified as soon as they are listed, the subdirectory is walked in its own task and the files following it are notified once
+     * the subdirectory has been notified.
+     *
+     * @return a future completing with the number of files notified so far once the whole directory has been notified
+     */
+    private CompletableFuture<Integer> walk(Path directory, int depth, CompletableFuture<Integer> previous,
+            Consumer<List<File>> consumer) {
+        return submit(() -> list(directory, depth), new Listing(), directory.toString()).thenCompose(listing -> {
+            CompletableFuture<Integer> last = notifyAfter(previous,
+                    CompletableFuture.completedFuture(listing.files.get(0)), consumer);
+            for (int i = 0; i < listing.directories.size(); i++) {
+                last = walk(listing.directories.get(i), depth - 1, last, consumer);
+                last = notifyAfter(last, CompletableFuture.completedFuture(listing.files.get(i + 1)), consumer);
+            }
+            return last;
+        });
+    }
+
+    /**
+     * Lists a single directory with a {@link DirectoryStream} rather than {@link Files#walkFileTree(Path, java.nio.file.FileVisitor)},
+     * which visits the whole tree depth first on the calling thread, so that each subdirectory can be listed in its own task.
+     */
+    private static Listing list(Path directory, int depth) {
+        List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            stream.forEach(entries::add);
+        } catch (IOException | DirectoryIteratorException e) {
+            LOG.warn("Unable to walk {}", directory, e);
+        }
+        Collections.sort(entries);
+        Listing listing = new Listing();
+        for (Path entry : entries) {
+            if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                if (depth > 0) {
+                    listing.directories.add(entry);
+                    listing.files.add(new ArrayList<>());
+                }
+            } else if (isPdf(entry)) {
+                listing.files.get(listing.files.size() - 1).add(entry.toFile());
+            }
+        }
+        return listing;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task, T fallback, String description) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor).exceptionally(e -> {
+                LOG.warn("Unable to find PDF files in {}", description, e);
+                return fallback;
+            });
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Unable to find PDF files in {}", description, e);
+            return CompletableFuture.completedFuture(fallback);
+        }
+    }
+
+    /**
+     * Content of a directory, sorted by name. The PDF files are grouped by the subdirectories separating them, the files in the first
+     * group precede the first subdirectory and so on, so there's always one more group of files than subdirectories.
+     */
+    private static class Listing {
+        private final List<List<File>> files = new ArrayList<>();
+        private final List<Path> directories = new ArrayList<>();
+
+        Listing() {
+            files.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * @param file
+     * @return true if the file has a PDF extension or contains the PDF header in its first bytes
+     */
+    public static boolean isPdf(Path file) {
+        return FileType.PDF.matches(file.getFileName().toString()) || hasPdfHeader(file);
+    }
+
+    /**
+     * @param file
+     * @return true if the {@value #PDF_HEADER} header is found at the beginning of the given file
+     */
+    public static boolean hasPdfHeader(Path file) {
+        if (Files.isRegularFile(file)) {
+            try (InputStream stream = Files.newInputStream(file)) {
+                byte[] buffer = new byte[HEADER_LOOKUP_RANGE];
+                int read = 0;
+                int current = 0;
+                while (read < buffer.length && (current = stream.read(buffer, read, buffer.length - read)) > 0) {
+                    read += current;
+                }
+                return indexOf(buffer, read) >= 0;
+            } catch (IOException e) {
+                LOG.debug("Unable to read the header of {}", file, e);
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(byte[] buffer, int length) {
+        for (int i = 0; i <= length - HEADER_BYTES.length; i++) {
+            int j = 0;
+            while (j < HEADER_BYTES.length && buffer[i + j] == HEADER_BYTES[j]) {
+                j++;
+            }
+            if (j == HEADER_BYTES.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the default instance, walking directories using daemon threads
+     */
+    public static PdfFilesFinder getInstance() {
+        return DefaultPdfFilesFinderHolder.FINDER;
+    }
+
+    /**
+     * Lazy initialization holder class idiom (Joshua Bloch, Effective Java second edition, item 71).
+     */
+    private static final class DefaultPdfFilesFinderHolder {
+
+        private DefaultPdfFilesFinderHolder() {
+            // hide constructor
+        }
+
+        static final PdfFilesFinder FINDER = new PdfFilesFinder(
+                Executors.newFixedThreadPool(Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())),
+                        r -> {
+                            Thread thread = new Thread(r, "pdf-files-finder");
+                            thread.setDaemon(true);
+                            return thread;
+                        }),
+                Integer.getInteger(PDFSAM_FIND_MAX_DEPTH, DEFAULT_MAX_DEPTH));
+    }
+}
@@ -18,14 +18,8 @@
  */
 package org.pdfsam.support.params;
 
-import static org.apache.commons.lang3.StringUtils.isNotBlank;
-import static org.sejda.conversion.AdapterUtils.splitAndTrim;
-
-import java.util.Collections;
 import java.util.Set;
 
-import org.pdfsam.i18n.DefaultI18nContext;
-import org.sejda.common.collection.NullSafeSet;
 import org.sejda.conversion.exception.ConversionException;
 import org.sejda.model.pdf.page.PageRange;
 
@@ -41,49 +35,9 @@ public final class ConversionUtils {
 
     /**
      * @return the {@link PageRange} set for the given string, an empty set otherwise.
+     * @see PageRanges#parse(String)
      */
     public static Set<PageRange> toPageRangeSet(String selection) throws ConversionException {
-        if (isNotBlank(selection)) {
-            Set<PageRange> pageRangeSet = new NullSafeSet<>();
-            String[] tokens = splitAndTrim(selection, ",");
-            for (String current : tokens) {
-                PageRange range = toPageRange(current);
-                if (range.getEnd() < range.getStart()) {
-                    throw new ConversionException(
-                            DefaultI18nContext.getInstance().i18n("Invalid range: {0}.", range.toString()));
-                }
-                pageRangeSet.add(range);
-            }
-            return pageRangeSet;
-        }
-        return Collections.emptySet();
-    }
-
-    private static PageRange toPageRange(String value) throws ConversionException {
-        String[] limits = splitAndTrim(value, "-");
-        if (limits.length > 2) {
-            throw new ConversionException(DefaultI18nContext.getInstance().i18n(
-                    "Ambiguous page range definition: {0}. Use following formats: [n] or [n1-n2] or [-n] or [n-]",
-                    value));
-        }
-        if (limits.length == 1) {
-            int limitNumber = parsePageNumber(limits[0]);
-            if (value.endsWith("-")) {
-                return new PageRange(limitNumber);
-            }
-            if (value.startsWith("-")) {
-                return new PageRange(1, limitNumber);
-            }
-            return new PageRange(limitNumber, limitNumber);
-        }
-        return new PageRange(parsePageNumber(limits[0]), parsePageNumber(limits[1]));
-    }
-
-    private static int parsePageNumber(String value) throws ConversionException {
-        try {
-            return Integer.parseInt(value.trim());
-        } catch (NumberFormatException nfe) {
-            throw new ConversionException(DefaultI18nContext.getInstance().i18n("Invalid number: {0}.", value));
-        }
+        return PageRanges.parse(selection).toPageRangeSet();
     }
 }
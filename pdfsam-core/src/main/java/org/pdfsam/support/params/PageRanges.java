@@ -0,0 +1,300 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.support.params;
+
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.pdfsam.i18n.DefaultI18nContext;
+import org.sejda.common.collection.NullSafeSet;
+import org.sejda.conversion.exception.ConversionException;
+import org.sejda.model.pdf.page.PageRange;
+
+/**
+ * Immutable result of the parsing of a page selection string (ex: 2,5-7,12-). Ranges are kept in the order they are defined, as
+ * primitive start/end pairs. Parsing results, valid or not, are cached per distinct selection string so that the same selection set
+ * on many documents is parsed once.
+ *
+ * @author Andrea Vacondio
+ *
+ */
+public final class PageRanges {
+    static final int CACHE_SIZE = 512;
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+    private static final PageRanges EMPTY = new PageRanges(new int[0], null);
+
+    private static final Map<String, PageRanges> CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PageRanges> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * start and end of each range, in definition order
+     */
+    private final int[] bounds;
+    private final String invalid;
+
+    private PageRanges(int[] bounds, String invalid) {
+        this.bounds = bounds;
+        this.invalid = invalid;
+    }
+
+    /**
+     * @param selection
+     * @return the parsed page ranges, empty if the selection is blank
+     * @throws ConversionException
+     *             if the selection is not valid
+     */
+    public static PageRanges parse(String selection) throws ConversionException {
+        if (isBlank(selection)) {
+            return EMPTY;
+        }
+        PageRanges ranges;
+        synchronized (CACHE) {
+            ranges = CACHE.get(selection);
+        }
+        if (isNull(ranges)) {
+            ranges = tokenize(selection);
+            synchronized (CACHE) {
+                CACHE.put(selection, ranges);
+            }
+        }
+        if (isNull(ranges.invalid)) {
+            return ranges;
+        }
+        throw new ConversionException(ranges.invalid);
+    }
+
+    static int cacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Single pass over the selection, comma separated tokens are parsed in place without splitting the string
+     */
+    private static PageRanges tokenize(String selection) {
+        int[] bounds = new int[8];
+        int size = 0;
+        int length = selection.length();
+        int from = 0;
+        while (from <= length) {
+            int to = selection.indexOf(',', from);
+            if (to < 0) {
+                to = length;
+            }
+            int start = from;
+            int end = to;
+            while (start < end && Character.isWhitespace(selection.charAt(start))) {
+                start++;
+            }
+            while (end > start && Character.isWhitespace(selection.charAt(end - 1))) {
+                end--;
+            }
+            if (start < end) {
+                String error = parseRange(selection, start, end, bounds, size);
+                if (error != null) {
+                    return new PageRanges(null, error);
+                }
+                size += 2;
+                if (size == bounds.length) {
+                    bounds = Arrays.copyOf(bounds, size * 2);
+                }
+            }
+            from = to + 1;
+        }
+        return new PageRanges(Arrays.copyOf(bounds, size), null);
+    }
+
+    /**
+     * Parses the range between start (inclusive) and end (exclusive) and stores its limits in the given array at the given position
+     *
+     * @return an error message if the range is not valid, null otherwise
+     */
+    private static String parseRange(String selection, int start, int end, int[] bounds, int position) {
+        int dash = selection.indexOf('-', start);
+        if (dash >= end) {
+            dash = -1;
+        }
+        if (dash >= 0 && selection.indexOf('-', dash + 1) >= 0 && selection.indexOf('-', dash + 1) < end) {
+            return DefaultI18nContext.getInstance().i18n(
+                    "Ambiguous page range definition: {0}. Use following formats: [n] or [n1-n2] or [-n] or [n-]",
+                    selection.substring(start, end));
+        }
+        if (dash < 0) {
+            int page = parsePageNumber(selection, start, end);
+            if (page < 0) {
+                return invalidNumber(selection, start, end);
+            }
+            bounds[position] = page;
+            bounds[position + 1] = page;
+            return null;
+        }
+        int first = 1;
+        if (dash > start) {
+            first = parsePageNumber(selection, start, dash);
+            if (first < 0) {
+                return invalidNumber(selection, start, dash);
+            }
+        }
+        int last = UNBOUNDED;
+        if (dash < end - 1) {
+            last = parsePageNumber(selection, dash + 1, end);
+            if (last < 0) {
+                return invalidNumber(selection, dash + 1, end);
+            }
+        } else if (dash == start) {
+            return invalidNumber(selection, start, end);
+        }
+        if (last < first) {
+            return DefaultI18nContext.getInstance().i18n("Invalid range: {0}.", selection.substring(start, end));
+        }
+        bounds[position] = first;
+        bounds[position + 1] = last;
+        return null;
+    }
+
+    /**
+     * @return the number between start (inclusive) and end (exclusive), ignoring surrounding whitespaces, or -1 if not a valid number
+     */
+    private static int parsePageNumber(String selection, int start, int end) {
+        while (start < end && Character.isWhitespace(selection.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(selection.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = Character.digit(selection.charAt(i), 10);
+            if (digit < 0) {
+                return -1;
+            }
+            value = value * 10 + digit;
+            if (value >= UNBOUNDED) {
+                return -1;
+            }
+        }
+        return (int) value;
+    }
+
+    private static String invalidNumber(String selection, int start, int end) {
+        return DefaultI18nContext.getInstance().i18n("Invalid number: {0}.", selection.substring(start, end).trim());
+    }
+
+    /**
+     * @return true if no range has been defined
+     */
+    public boolean isEmpty() {
+        return bounds.length == 0;
+    }
+
+    /**
+     * @return a new set containing the ranges, in definition order
+     */
+    public Set<PageRange> toPageRangeSet() {
+        if (isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<PageRange> ranges = new NullSafeSet<>();
+        for (int i = 0; i < bounds.length; i += 2) {
+            ranges.add(toPageRange(bounds[i], bounds[i + 1]));
+        }
+        return ranges;
+    }
+
+    /**
+     * @return true if two distinct ranges have pages in common, the same check performed by the NoIntersections constraint
+     */
+    public boolean hasIntersections() {
+        long[] sorted = sorted();
+        int maxEnd = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            // identical ranges collapse into one in the page range set
+            if (i > 0 && sorted[i] == sorted[i - 1]) {
+                continue;
+            }
+            int start = (int) (sorted[i] >>> 32);
+            if (i > 0 && start <= maxEnd) {
+                return true;
+            }
+            maxEnd = Math.max(maxEnd, (int) sorted[i]);
+        }
+        return false;
+    }
+
+    /**
+     * @return the ranges sorted by start page, with overlapping and contiguous ranges merged together
+     */
+    public List<PageRange> normalized() {
+        long[] sorted = sorted();
+        List<PageRange> ranges = new ArrayList<>();
+        int i = 0;
+        while (i < sorted.length) {
+            int start = (int) (sorted[i] >>> 32);
+            int end = (int) sorted[i];
+            i++;
+            while (i < sorted.length && end != UNBOUNDED && (int) (sorted[i] >>> 32) <= end + 1) {
+                end = Math.max(end, (int) sorted[i]);
+                i++;
+            }
+            ranges.add(toPageRange(start, end));
+        }
+        return ranges;
+    }
+
+    /**
+     * @return the ranges packed as start in the high and end in the low 32 bits, sorted by start and then end
+     */
+    private long[] sorted() {
+        long[] sorted = new long[bounds.length / 2];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = ((long) bounds[2 * i] << 32) | bounds[2 * i + 1];
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static PageRange toPageRange(int start, int end) {
+        if (end == UNBOUNDED) {
+            return new PageRange(start);
+        }
+        return new PageRange(start, end);
+    }
+}
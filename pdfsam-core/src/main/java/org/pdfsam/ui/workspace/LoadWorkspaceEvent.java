@@ -24,6 +24,9 @@ import static java.util.Optional.ofNullable;
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Event to notify that the user asked to load a workspace.
@@ -33,6 +36,8 @@ import java.util.Map;
  */
 public class LoadWorkspaceEvent extends BaseWorkspaceEvent {
     private Map<String, Map<String, String>> data = new HashMap<>();
+    private final Queue<CompletableFuture<Void>> restores = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<Void> loaded = new CompletableFuture<>();
 
     public LoadWorkspaceEvent(File workspace) {
         super(workspace);
@@ -47,4 +52,34 @@ public class LoadWorkspaceEvent extends BaseWorkspaceEvent {
         return ofNullable(this.data.get(module)).orElseGet(HashMap::new);
     }
 
+    /**
+     * Registers a module state restore that completes asynchronously, after the event has been delivered
+     * 
+     * @param restore
+     */
+    public void restoring(CompletableFuture<Void> restore) {
+        requireNonNull(restore);
+        restores.add(restore);
+    }
+
+    /**
+     * @return a future completing once all the registered restores have completed
+     */
+    public CompletableFuture<Void> restored() {
+        return CompletableFuture.allOf(restores.toArray(new CompletableFuture[restores.size()]));
+    }
+
+    /**
+     * Notifies that the workspace load has completed, successfully or not
+     */
+    public void loadCompleted() {
+        loaded.complete(null);
+    }
+
+    /**
+     * @return a future completing once the workspace load has completed, successfully or not
+     */
+    public CompletableFuture<Void> loaded() {
+        return loaded.copy();
+    }
 }
@@ -0,0 +1,98 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.context;
+
+import static com.google.code.tempusfugit.temporal.Duration.seconds;
+import static com.google.code.tempusfugit.temporal.Timeout.timeout;
+import static com.google.code.tempusfugit.temporal.WaitFor.waitOrTimeout;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.TimeoutException;
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pdfsam.ShutdownEvent;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class CachedPreferencesTest {
+    private static final String PATH = "/org/pdfsam/test/cached";
+    private CachedPreferences victim;
+
+    @Before
+    public void setUp() {
+        victim = new CachedPreferences(PATH);
+        victim.clear();
+    }
+
+    @After
+    public void tearDown() {
+        victim.clear();
+    }
+
+    @Test
+    public void loadsExistingValues() throws BackingStoreException {
+        Preferences node = Preferences.userRoot().node(PATH);
+        node.put("key", "value");
+        node.flush();
+        assertEquals("value", new CachedPreferences(PATH).get("key"));
+    }
+
+    @Test
+    public void writeBehind() throws InterruptedException, TimeoutException {
+        victim.put("key", "value");
+        assertEquals("value", victim.get("key"));
+        waitOrTimeout(() -> "value".equals(Preferences.userRoot().node(PATH).get("key", null)), timeout(seconds(2)));
+    }
+
+    @Test
+    public void flushOnShutdown() {
+        victim.put("key", "value");
+        victim.onShutdown(new ShutdownEvent());
+        assertEquals("value", Preferences.userRoot().node(PATH).get("key", null));
+    }
+
+    @Test
+    public void externalChanges() throws InterruptedException, TimeoutException {
+        Preferences.userRoot().node(PATH).put("key", "external");
+        waitOrTimeout(() -> "external".equals(victim.get("key")), timeout(seconds(2)));
+        Preferences.userRoot().node(PATH).remove("key");
+        waitOrTimeout(() -> victim.get("key") == null, timeout(seconds(2)));
+    }
+
+    @Test
+    public void clear() {
+        victim.put("key", "value");
+        victim.clear();
+        assertNull(victim.get("key"));
+        victim.flush();
+        assertNull(Preferences.userRoot().node(PATH).get("key", null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullValue() {
+        victim.put("key", null);
+    }
+}
@@ -212,4 +212,18 @@ public class DefaultUserContextTest {
         victim.setIntegerPreference(IntUserPreference.LOGVIEW_ROWS_NUMBER, 20);
         assertEquals(20, victim.getNumberOfLogRows());
     }
+
+    @Test
+    public void getThumbnailsSize() {
+        assertEquals(190, victim.getThumbnailsSize());
+        victim.setIntegerPreference(IntUserPreference.THUMBNAILS_SIZE, 120);
+        assertEquals(120, victim.getThumbnailsSize());
+    }
+
+    @Test
+    public void isHighQualityThumbnails() {
+        assertTrue(victim.isHighQualityThumbnails());
+        victim.setBooleanPreference(BooleanUserPreference.HIGH_QUALITY_THUMB, false);
+        assertFalse(victim.isHighQualityThumbnails());
+    }
 }
@@ -0,0 +1,113 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.pdf;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class PagesGeometryTest {
+    private static final float[] A4 = new float[] { 0, 0, 595, 842 };
+    private static final float[] CROPPED = new float[] { 10, 20, 410, 320 };
+
+    private PagesGeometry victim;
+
+    @Before
+    public void setUp() {
+        victim = new PagesGeometry(3);
+        victim.setPage(1, A4, A4, 0);
+        victim.setPage(2, A4, A4, 90);
+        victim.setPage(3, A4, CROPPED, -180);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativePages() {
+        new PagesGeometry(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPage() {
+        victim.width(4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroPage() {
+        victim.rotation(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidBox() {
+        victim.setPage(1, new float[] { 0, 0 }, A4, 0);
+    }
+
+    @Test
+    public void boxes() {
+        assertEquals(3, victim.numberOfPages());
+        assertArrayEquals(A4, victim.mediaBox(3), 0);
+        assertArrayEquals(CROPPED, victim.cropBox(3), 0);
+    }
+
+    @Test
+    public void boxesAreCopies() {
+        victim.cropBox(3)[0] = 100;
+        assertArrayEquals(CROPPED, victim.cropBox(3), 0);
+    }
+
+    @Test
+    public void rotation() {
+        assertEquals(0, victim.rotation(1));
+        assertEquals(90, victim.rotation(2));
+        assertEquals(180, victim.rotation(3));
+    }
+
+    @Test
+    public void size() {
+        assertEquals(595, victim.width(1), 0);
+        assertEquals(842, victim.height(1), 0);
+        assertEquals(842, victim.width(2), 0);
+        assertEquals(595, victim.height(2), 0);
+        assertEquals(400, victim.width(3), 0);
+        assertEquals(300, victim.height(3), 0);
+    }
+
+    @Test
+    public void landscape() {
+        assertFalse(victim.isLandscape(1));
+        assertTrue(victim.isLandscape(2));
+        assertTrue(victim.isLandscape(3));
+    }
+
+    @Test
+    public void uniform() {
+        assertFalse(victim.isUniform());
+        PagesGeometry uniform = new PagesGeometry(2);
+        uniform.setPage(1, A4, A4, 0);
+        uniform.setPage(2, A4, A4, 180);
+        assertTrue(uniform.isUniform());
+        assertTrue(new PagesGeometry(0).isUniform());
+    }
+}
@@ -24,6 +24,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -80,6 +82,26 @@ public class PdfDocumentDescriptorTest {
         assertFalse(victim.retain().retain().release());
     }
 
+    @Test
+    public void onRelease() {
+        Runnable action = mock(Runnable.class);
+        victim.retain();
+        victim.onRelease(action);
+        victim.release();
+        verify(action, never()).run();
+        victim.release();
+        victim.releaseAll();
+        verify(action).run();
+    }
+
+    @Test
+    public void onReleaseAlreadyReleased() {
+        Runnable action = mock(Runnable.class);
+        victim.releaseAll();
+        victim.onRelease(action);
+        verify(action).run();
+    }
+
     @Test
     public void noVersionString() {
         assertEquals("", victim.getVersionString());
@@ -125,4 +147,32 @@ public class PdfDocumentDescriptorTest {
         assertEquals("value", victim.getInformation("key"));
     }
 
+    @Test
+    public void loadTimings() {
+        assertTrue(victim.getLoadTimings().isEmpty());
+        PdfLoadTimings timings = new PdfLoadTimings();
+        victim.setLoadTimings(timings);
+        assertEquals(timings, victim.getLoadTimings());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullLoadTimings() {
+        victim.setLoadTimings(null);
+    }
+
+    @Test
+    public void fingerprint() {
+        assertNull(victim.getFingerprint());
+        victim.setFingerprint("chuck");
+        assertEquals("chuck", victim.getFingerprint());
+    }
+
+    @Test
+    public void pagesGeometry() {
+        assertNull(victim.getPagesGeometry());
+        PagesGeometry geometry = new PagesGeometry(1);
+        victim.setPagesGeometry(geometry);
+        assertEquals(geometry, victim.getPagesGeometry());
+    }
+
 }
@@ -0,0 +1,68 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.pdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class PdfLoadTimingsTest {
+
+    @Test
+    public void empty() {
+        PdfLoadTimings victim = new PdfLoadTimings();
+        assertTrue(victim.isEmpty());
+        assertEquals(-1, victim.millis(PdfLoadTimings.OPEN));
+        assertEquals(0, victim.totalMillis());
+    }
+
+    @Test
+    public void record() {
+        PdfLoadTimings victim = new PdfLoadTimings();
+        victim.record(PdfLoadTimings.OPEN, TimeUnit.MILLISECONDS.toNanos(2));
+        victim.record(PdfLoadTimings.PARSE, TimeUnit.MILLISECONDS.toNanos(10));
+        victim.record(PdfLoadTimings.OPEN, TimeUnit.MILLISECONDS.toNanos(3));
+        assertFalse(victim.isEmpty());
+        assertEquals(5, victim.millis(PdfLoadTimings.OPEN));
+        assertEquals(10, victim.millis(PdfLoadTimings.PARSE));
+        assertEquals(15, victim.totalMillis());
+        assertEquals(Arrays.asList(PdfLoadTimings.OPEN, PdfLoadTimings.PARSE),
+                new ArrayList<>(victim.phases().keySet()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void blankPhase() {
+        new PdfLoadTimings().record(" ", 1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void unmodifiablePhases() {
+        new PdfLoadTimings().phases().put("chuck", 1L);
+    }
+}
@@ -20,9 +20,13 @@ package org.pdfsam.support;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.junit.Test;
 
@@ -154,4 +158,49 @@ public class CircularLinkedListTest {
         assertEquals(Integer.valueOf(2), victim.get(1));
         assertEquals(Integer.valueOf(3), victim.get(2));
     }
+
+    @Test
+    public void dequeOperations() {
+        CircularLinkedList<Integer> victim = new CircularLinkedList<>(3);
+        assertNull(victim.pollFirst());
+        assertNull(victim.peekLast());
+        victim.addAll(Arrays.asList(1, 2, 3, 4));
+        assertEquals(Integer.valueOf(2), victim.peekFirst());
+        assertEquals(Integer.valueOf(4), victim.getLast());
+        assertEquals(Integer.valueOf(4), victim.pollLast());
+        assertEquals(Integer.valueOf(2), victim.pop());
+        assertEquals(Integer.valueOf(3), victim.element());
+        assertEquals(1, victim.size());
+    }
+
+    @Test
+    public void descendingIterator() {
+        CircularLinkedList<Integer> victim = new CircularLinkedList<>(3);
+        victim.addAll(Arrays.asList(1, 2, 3, 4));
+        List<Integer> values = new ArrayList<>();
+        victim.descendingIterator().forEachRemaining(values::add);
+        assertEquals(Arrays.asList(4, 3, 2), values);
+    }
+
+    @Test
+    public void removeLastOccurrence() {
+        CircularLinkedList<Integer> victim = new CircularLinkedList<>(4);
+        victim.addAll(Arrays.asList(1, 2, 1, 3));
+        assertTrue(victim.removeLastOccurrence(1));
+        assertEquals(Arrays.asList(1, 2, 3), victim);
+        assertFalse(victim.removeLastOccurrence(5));
+    }
+
+    @Test
+    public void shrink() {
+        CircularLinkedList<Integer> victim = new CircularLinkedList<>(4);
+        victim.addAll(Arrays.asList(1, 2, 3, 4));
+        victim.setMaxCapacity(2);
+        assertEquals(Arrays.asList(3, 4), victim);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void removeFirstEmpty() {
+        new CircularLinkedList<>(2).removeFirst();
+    }
 }
@@ -0,0 +1,156 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class RingBufferTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongCapacity() {
+        new RingBuffer<>(0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void getOutOfBounds() {
+        RingBuffer<Integer> victim = new RingBuffer<>();
+        victim.add(1);
+        victim.get(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void addOutOfBounds() {
+        new RingBuffer<>().add(1, 1);
+    }
+
+    @Test
+    public void addAndGet() {
+        RingBuffer<Integer> victim = new RingBuffer<>(2);
+        assertTrue(victim.add(1));
+        assertTrue(victim.add(2));
+        assertTrue(victim.add(3));
+        assertEquals(Arrays.asList(1, 2, 3), victim);
+        victim.add(0, 0);
+        victim.add(2, 100);
+        assertEquals(Arrays.asList(0, 1, 100, 2, 3), victim);
+    }
+
+    @Test
+    public void wrapAround() {
+        RingBuffer<Integer> victim = new RingBuffer<>(4);
+        victim.addAll(Arrays.asList(1, 2, 3, 4));
+        assertEquals(Arrays.asList(1, 2), victim.removeHead(2));
+        victim.add(5);
+        victim.add(6);
+        assertEquals(Arrays.asList(3, 4, 5, 6), victim);
+        assertEquals(Integer.valueOf(6), victim.get(3));
+        victim.set(3, 7);
+        assertEquals(Arrays.asList(3, 4, 5, 7), victim);
+    }
+
+    @Test
+    public void addAllIndex() {
+        RingBuffer<Integer> victim = new RingBuffer<>(2);
+        victim.addAll(Arrays.asList(1, 2, 3));
+        assertTrue(victim.addAll(1, Arrays.asList(10, 11)));
+        assertFalse(victim.addAll(1, Collections.emptyList()));
+        assertEquals(Arrays.asList(1, 10, 11, 2, 3), victim);
+    }
+
+    @Test
+    public void remove() {
+        RingBuffer<Integer> victim = new RingBuffer<>();
+        victim.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        assertEquals(Integer.valueOf(2), victim.remove(1));
+        assertEquals(Integer.valueOf(4), victim.remove(2));
+        assertEquals(Arrays.asList(1, 3, 5), victim);
+        assertTrue(victim.remove(Integer.valueOf(5)));
+        assertEquals(Arrays.asList(1, 3), victim);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void removeHeadTooMany() {
+        RingBuffer<Integer> victim = new RingBuffer<>();
+        victim.add(1);
+        victim.removeHead(2);
+    }
+
+    @Test
+    public void removeHead() {
+        RingBuffer<Integer> victim = new RingBuffer<>();
+        victim.addAll(Arrays.asList(1, 2, 3));
+        assertEquals(Arrays.asList(1, 2, 3), victim.removeHead(3));
+        assertTrue(victim.isEmpty());
+        victim.add(4);
+        assertEquals(Arrays.asList(4), victim);
+    }
+
+    @Test
+    public void subListClear() {
+        RingBuffer<Integer> victim = new RingBuffer<>();
+        victim.addAll(Arrays.asList(1, 2, 3, 4, 5));
+        victim.subList(1, 3).clear();
+        assertEquals(Arrays.asList(1, 4, 5), victim);
+        victim.subList(0, 1).clear();
+        assertEquals(Arrays.asList(4, 5), victim);
+        victim.clear();
+        assertTrue(victim.isEmpty());
+    }
+
+    @Test
+    public void behavesLikeArrayList() {
+        Random random = new Random(42);
+        RingBuffer<Integer> victim = new RingBuffer<>(3);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                victim.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), victim.remove(index));
+            } else if (operation == 2) {
+                int count = random.nextInt(expected.size() + 1);
+                List<Integer> head = new ArrayList<>(expected.subList(0, count));
+                expected.subList(0, count).clear();
+                assertEquals(head, victim.removeHead(count));
+            } else {
+                victim.add(i);
+                expected.add(i);
+            }
+            assertEquals(expected, victim);
+        }
+    }
+}
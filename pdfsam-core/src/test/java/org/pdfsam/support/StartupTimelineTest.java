@@ -0,0 +1,115 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.pdfsam.support.StartupTimeline.Phase;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class StartupTimelineTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void blankName() {
+        new StartupTimeline().begin(" ");
+    }
+
+    @Test
+    public void measure() {
+        StartupTimeline victim = new StartupTimeline();
+        assertEquals("value", victim.measure("first", () -> "value"));
+        victim.measure("second", () -> {
+            // nothing
+        });
+        List<Phase> phases = victim.phases();
+        assertEquals(2, phases.size());
+        assertEquals("first", phases.get(0).name());
+        assertEquals("second", phases.get(1).name());
+        assertEquals(Thread.currentThread().getName(), phases.get(0).thread());
+        assertTrue(phases.get(0).wallNanos() >= 0);
+        assertTrue(phases.get(0).startNanos() <= phases.get(1).startNanos());
+    }
+
+    @Test
+    public void measureFailing() {
+        StartupTimeline victim = new StartupTimeline();
+        try {
+            victim.measure("failing", () -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertEquals(1, victim.phases().size());
+        assertTrue(victim.close().isDone());
+    }
+
+    @Test
+    public void notRecordedUntilEnded() {
+        StartupTimeline victim = new StartupTimeline();
+        Phase phase = victim.begin("phase");
+        assertTrue(victim.phases().isEmpty());
+        phase.end();
+        phase.end();
+        assertEquals(1, victim.phases().size());
+    }
+
+    @Test
+    public void cpuOnlyOnSameThread() throws Exception {
+        StartupTimeline victim = new StartupTimeline();
+        Phase phase = victim.begin("phase");
+        Thread thread = new Thread(phase::end);
+        thread.start();
+        thread.join();
+        assertEquals(-1, phase.cpuNanos());
+        assertTrue(phase.wallNanos() >= 0);
+    }
+
+    @Test
+    public void closeWaitsForRunningPhases() throws Exception {
+        StartupTimeline victim = new StartupTimeline();
+        Phase phase = victim.begin("phase");
+        CompletableFuture<List<Phase>> completed = victim.close();
+        assertFalse(completed.isDone());
+        victim.begin("discarded").end();
+        phase.end();
+        assertTrue(completed.isDone());
+        assertEquals(1, completed.get().size());
+        assertEquals("phase", completed.get().get(0).name());
+    }
+
+    @Test
+    public void bounded() {
+        StartupTimeline victim = new StartupTimeline();
+        for (int i = 0; i <= StartupTimeline.MAX_PHASES; i++) {
+            victim.begin("phase" + i).end();
+        }
+        assertEquals(StartupTimeline.MAX_PHASES, victim.phases().size());
+        assertTrue(victim.close().isDone());
+    }
+}
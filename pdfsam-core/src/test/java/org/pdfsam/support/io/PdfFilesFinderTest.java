@@ -0,0 +1,195 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.support.io;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class PdfFilesFinderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeDepth() {
+        new PdfFilesFinder(executor, -1);
+    }
+
+    @Test
+    public void header() throws IOException {
+        assertTrue(PdfFilesFinder.hasPdfHeader(pdf(folder.newFile("noextension")).toPath()));
+        File garbage = folder.newFile("garbage");
+        FileUtils.writeStringToFile(garbage, "garbage%PDF-1.7", "UTF-8");
+        assertTrue(PdfFilesFinder.hasPdfHeader(garbage.toPath()));
+        File notPdf = folder.newFile("chuck.txt");
+        FileUtils.writeStringToFile(notPdf, "Chuck Norris", "UTF-8");
+        assertFalse(PdfFilesFinder.hasPdfHeader(notPdf.toPath()));
+        assertFalse(PdfFilesFinder.hasPdfHeader(folder.newFile("empty").toPath()));
+        assertFalse(PdfFilesFinder.hasPdfHeader(folder.newFolder().toPath()));
+    }
+
+    @Test
+    public void isPdf() throws IOException {
+        assertTrue(PdfFilesFinder.isPdf(folder.newFile("empty.PDF").toPath()));
+        assertTrue(PdfFilesFinder.isPdf(pdf(folder.newFile("misnamed.txt")).toPath()));
+        assertFalse(PdfFilesFinder.isPdf(folder.newFile("empty.txt").toPath()));
+    }
+
+    @Test
+    public void find() throws Exception {
+        File root = folder.newFolder("root");
+        File first = pdf(new File(root, "first.pdf"));
+        File noExtension = pdf(new File(root, "noextension"));
+        FileUtils.writeStringToFile(new File(root, "chuck.txt"), "Chuck Norris", "UTF-8");
+        File nested = pdf(new File(root, "a/b/c/nested.pdf"));
+        File other = pdf(new File(root, "other/other.bin"));
+        File single = pdf(folder.newFile("single.pdf"));
+        ConcurrentLinkedQueue<List<File>> batches = new ConcurrentLinkedQueue<>();
+        int found = new PdfFilesFinder(executor, 10).find(Arrays.asList(root, single), batches::add).get(2,
+                TimeUnit.SECONDS);
+        assertEquals(5, found);
+        assertThat(batches, contains(Arrays.asList(nested), Arrays.asList(first, noExtension), Arrays.asList(other),
+                Arrays.asList(single)));
+    }
+
+    @Test
+    public void rootsOrder() throws Exception {
+        File single = pdf(folder.newFile("z.pdf"));
+        File root = folder.newFolder("root");
+        File second = pdf(new File(root, "b/second.pdf"));
+        File first = pdf(new File(root, "a.pdf"));
+        File third = pdf(new File(root, "c.pdf"));
+        File other = pdf(folder.newFile("another.pdf"));
+        File notPdf = folder.newFile("chuck.txt");
+        ConcurrentLinkedQueue<List<File>> batches = new ConcurrentLinkedQueue<>();
+        int found = new PdfFilesFinder(executor, 10).find(Arrays.asList(single, root, other, notPdf), batches::add)
+                .get(2, TimeUnit.SECONDS);
+        assertEquals(5, found);
+        assertThat(batches, contains(Arrays.asList(single), Arrays.asList(first), Arrays.asList(second),
+                Arrays.asList(third), Arrays.asList(other)));
+    }
+
+    @Test
+    public void streamedBeforeSubdirectoriesAreWalked() throws Exception {
+        File root = folder.newFolder("root");
+        File first = pdf(new File(root, "a.pdf"));
+        File nested = pdf(new File(root, "b/c.pdf"));
+        File last = pdf(new File(root, "d.pdf"));
+        AtomicInteger tasks = new AtomicInteger();
+        CountDownLatch subdirectories = new CountDownLatch(1);
+        // only the listing of the root runs until the latch is released
+        ExecutorService gated = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            protected void beforeExecute(Thread t, Runnable r) {
+                if (tasks.getAndIncrement() > 0) {
+                    try {
+                        subdirectories.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+        try {
+            ConcurrentLinkedQueue<List<File>> batches = new ConcurrentLinkedQueue<>();
+            CountDownLatch firstBatch = new CountDownLatch(1);
+            CompletableFuture<Integer> result = new PdfFilesFinder(gated, 10).find(Collections.singletonList(root),
+                    b -> {
+                        batches.add(b);
+                        firstBatch.countDown();
+                    });
+            assertTrue(firstBatch.await(2, TimeUnit.SECONDS));
+            assertFalse(result.isDone());
+            assertThat(batches, contains(Arrays.asList(first)));
+            subdirectories.countDown();
+            assertEquals(3, result.get(2, TimeUnit.SECONDS).intValue());
+            assertThat(batches, contains(Arrays.asList(first), Arrays.asList(nested), Arrays.asList(last)));
+        } finally {
+            gated.shutdownNow();
+        }
+    }
+
+    @Test
+    public void maxDepth() throws Exception {
+        File root = folder.newFolder("root");
+        File first = pdf(new File(root, "first.pdf"));
+        File second = pdf(new File(root, "a/second.pdf"));
+        pdf(new File(root, "a/b/third.pdf"));
+        ConcurrentLinkedQueue<List<File>> batches = new ConcurrentLinkedQueue<>();
+        int found = new PdfFilesFinder(executor, 1).find(Collections.singletonList(root), batches::add).get(2,
+                TimeUnit.SECONDS);
+        assertEquals(2, found);
+        assertThat(batches.stream().flatMap(List::stream).toArray(File[]::new), containsInAnyOrder(first, second));
+    }
+
+    @Test
+    public void nothingFound() throws Exception {
+        File root = folder.newFolder("root");
+        FileUtils.writeStringToFile(new File(root, "chuck.txt"), "Chuck Norris", "UTF-8");
+        ConcurrentLinkedQueue<List<File>> batches = new ConcurrentLinkedQueue<>();
+        assertEquals(0, new PdfFilesFinder(executor, 10).find(Collections.singletonList(root), batches::add)
+                .get(2, TimeUnit.SECONDS).intValue());
+        assertTrue(batches.isEmpty());
+    }
+
+    private static File pdf(File file) throws IOException {
+        FileUtils.writeStringToFile(file, "%PDF-1.4\n%%EOF", "UTF-8");
+        return file;
+    }
+}
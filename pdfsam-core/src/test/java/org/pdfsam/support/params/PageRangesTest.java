@@ -0,0 +1,137 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.support.params;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.sejda.conversion.exception.ConversionException;
+import org.sejda.model.pdf.page.PageRange;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class PageRangesTest {
+
+    @Before
+    public void setUp() {
+        PageRanges.clearCache();
+    }
+
+    @Test
+    public void blank() {
+        assertTrue(PageRanges.parse(null).isEmpty());
+        assertTrue(PageRanges.parse("  ").toPageRangeSet().isEmpty());
+        assertEquals(0, PageRanges.cacheSize());
+    }
+
+    @Test
+    public void definitionOrder() {
+        List<PageRange> ranges = new ArrayList<>(PageRanges.parse(" 10- , 2 - 4,1").toPageRangeSet());
+        assertEquals(3, ranges.size());
+        assertEquals(10, ranges.get(0).getStart());
+        assertTrue(ranges.get(0).isUnbounded());
+        assertEquals(2, ranges.get(1).getStart());
+        assertEquals(4, ranges.get(1).getEnd());
+        assertEquals(1, ranges.get(2).getStart());
+        assertEquals(1, ranges.get(2).getEnd());
+    }
+
+    @Test
+    public void emptyTokensIgnored() {
+        assertEquals(2, PageRanges.parse("1,,3,").toPageRangeSet().size());
+    }
+
+    @Test
+    public void cached() {
+        PageRanges first = PageRanges.parse("2,5-7,12-");
+        assertSame(first, PageRanges.parse("2,5-7,12-"));
+        assertEquals(1, PageRanges.cacheSize());
+    }
+
+    @Test
+    public void newSetEveryTime() {
+        Set<PageRange> first = PageRanges.parse("2,5-7").toPageRangeSet();
+        first.clear();
+        assertEquals(2, PageRanges.parse("2,5-7").toPageRangeSet().size());
+    }
+
+    @Test
+    public void cacheBounded() {
+        for (int i = 1; i <= PageRanges.CACHE_SIZE + 10; i++) {
+            PageRanges.parse(Integer.toString(i));
+        }
+        assertEquals(PageRanges.CACHE_SIZE, PageRanges.cacheSize());
+    }
+
+    @Test
+    public void invalidCached() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                PageRanges.parse("2,Chuck");
+            } catch (ConversionException e) {
+                assertTrue(e.getMessage().contains("Chuck"));
+            }
+        }
+        assertEquals(1, PageRanges.cacheSize());
+    }
+
+    @Test(expected = ConversionException.class)
+    public void dashOnly() {
+        PageRanges.parse("-");
+    }
+
+    @Test(expected = ConversionException.class)
+    public void tooBig() {
+        PageRanges.parse("1-99999999999");
+    }
+
+    @Test
+    public void intersections() {
+        assertFalse(PageRanges.parse("1-3,4,5-").hasIntersections());
+        assertFalse(PageRanges.parse("5-,1-3").hasIntersections());
+        assertFalse(PageRanges.parse("1-3,1-3").hasIntersections());
+        assertTrue(PageRanges.parse("1-3,3").hasIntersections());
+        assertTrue(PageRanges.parse("10-,2,1-20").hasIntersections());
+        assertTrue(PageRanges.parse("1-10,5-6,5-6").hasIntersections());
+    }
+
+    @Test
+    public void normalized() {
+        List<PageRange> ranges = PageRanges.parse("20-,7,1-3,4-5,2,9-10,15-30").normalized();
+        assertEquals(4, ranges.size());
+        assertEquals(1, ranges.get(0).getStart());
+        assertEquals(5, ranges.get(0).getEnd());
+        assertEquals(7, ranges.get(1).getStart());
+        assertEquals(7, ranges.get(1).getEnd());
+        assertEquals(9, ranges.get(2).getStart());
+        assertEquals(10, ranges.get(2).getEnd());
+        assertEquals(15, ranges.get(3).getStart());
+        assertTrue(ranges.get(3).isUnbounded());
+    }
+}
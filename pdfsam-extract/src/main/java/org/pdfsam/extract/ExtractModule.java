@@ -23,6 +23,7 @@ import static org.pdfsam.ui.io.PdfDestinationPane.DestinationPanelFields.DISCARD
 import static org.pdfsam.ui.support.Views.titledPane;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import javax.inject.Inject;
@@ -68,11 +69,11 @@ public class ExtractModule extends BaseTaskExecutionModule {
 
     private static final String MODULE_ID = "extract";
 
-    private ExtractSelectionPane selectionPane = new ExtractSelectionPane(MODULE_ID);
-    private ExtractOptionsPane extractOptions = new ExtractOptionsPane();
+    private ExtractSelectionPane selectionPane;
+    private ExtractOptionsPane extractOptions;
     private BrowsableOutputDirectoryField destinationDirectoryField;
     private PdfDestinationPane destinationPane;
-    private PrefixPane prefix = new PrefixPane();
+    private PrefixPane prefix;
 
     private ModuleDescriptor descriptor = builder().category(ModuleCategory.SPLIT)
             .inputTypes(ModuleInputOutputType.MULTIPLE_PDF, ModuleInputOutputType.SINGLE_PDF)
@@ -87,7 +88,6 @@ public class ExtractModule extends BaseTaskExecutionModule {
         super(footer);
         this.destinationDirectoryField = destinationDirectoryField;
         this.destinationPane = destinationPane;
-        initModuleSettingsPanel(settingPanel());
     }
 
     @Override
@@ -129,7 +129,17 @@ public class ExtractModule extends BaseTaskExecutionModule {
         prefix.restoreStateFrom(data);
     }
 
-    private VBox settingPanel() {
+    @Override
+    protected CompletableFuture<Void> restored() {
+        return selectionPane.table().restored();
+    }
+
+    @Override
+    protected VBox settingPanel() {
+        selectionPane = new ExtractSelectionPane(MODULE_ID);
+        extractOptions = new ExtractOptionsPane();
+        prefix = new PrefixPane();
+
         VBox pane = new VBox();
         pane.setAlignment(Pos.TOP_CENTER);
         VBox.setVgrow(selectionPane, Priority.ALWAYS);
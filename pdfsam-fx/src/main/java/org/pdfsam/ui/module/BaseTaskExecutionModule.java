@@ -18,8 +18,12 @@
  */
 package org.pdfsam.ui.module;
 
+import static java.util.Objects.nonNull;
+import static org.pdfsam.support.StartupTimeline.startupTimeline;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import org.apache.commons.lang3.builder.Builder;
@@ -42,6 +46,8 @@ import javafx.scene.layout.VBox;
 
 /**
  * Base class for a {@link Module}. Modules are automatically scanned for event listener annotations and have their {@link EventStation} set to their {@link #id()}.
+ * The settings panel is built the first time the {@link #modulePanel()} is requested, a workspace restored before that is kept and applied
+ * once the panel is built.
  * 
  * @author Andrea Vacondio
  *
@@ -50,12 +56,23 @@ public abstract class BaseTaskExecutionModule implements Module {
 
     private BorderPane modulePanel = new BorderPane();
     private Footer footer;
+    private volatile boolean initialized = false;
+    private volatile Map<String, String> pendingState;
 
     public BaseTaskExecutionModule(Footer footer) {
         this.footer = footer;
+        eventStudio().addAnnotatedListeners(this);
     }
 
-    protected final void initModuleSettingsPanel(VBox panel) {
+    /**
+     * Builds the settings panel of the module. It's called once, on the JavaFX Application Thread, the first time the module panel is
+     * requested.
+     * 
+     * @return the settings panel
+     */
+    protected abstract VBox settingPanel();
+
+    private void initModuleSettingsPanel(VBox panel) {
         panel.getStyleClass().addAll(Style.DEAULT_CONTAINER.css());
         panel.getStyleClass().addAll(Style.MODULE_CONTAINER.css());
         panel.getChildren().add(footer);
@@ -70,17 +87,45 @@ public abstract class BaseTaskExecutionModule implements Module {
             }
         });
         modulePanel.setCenter(panel);
-        eventStudio().addAnnotatedListeners(this);
     }
 
     @EventListener
     public final void saveStateData(SaveWorkspaceEvent event) {
-        onSaveWorkspace(event.getDataForModule(id()));
+        Map<String, String> pending = pendingState;
+        if (initialized) {
+            onSaveWorkspace(event.getDataForModule(id()));
+        } else if (nonNull(pending)) {
+            event.getDataForModule(id()).putAll(pending);
+        }
     }
 
     @EventListener
     public final void restoreState(LoadWorkspaceEvent event) {
-        Platform.runLater(() -> onLoadWorkspace(event.getData(id())));
+        Map<String, String> data = event.getData(id());
+        CompletableFuture<Void> restore = new CompletableFuture<>();
+        event.restoring(restore);
+        Platform.runLater(() -> {
+            try {
+                if (initialized) {
+                    onLoadWorkspace(data);
+                    restored().whenComplete((r, e) -> restore.complete(null));
+                } else {
+                    pendingState = data;
+                    restore.complete(null);
+                }
+            } catch (RuntimeException e) {
+                restore.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Modules restoring part of their state asynchronously override this to let the workspace load wait for it.
+     * 
+     * @return a future completing once the state requested by the last {@link #onLoadWorkspace(Map)} has been restored
+     */
+    protected CompletableFuture<Void> restored() {
+        return CompletableFuture.completedFuture(null);
     }
 
     /**
@@ -91,7 +136,17 @@ public abstract class BaseTaskExecutionModule implements Module {
     protected abstract Builder<? extends AbstractParameters> getBuilder(Consumer<String> onError);
 
     @Override
-    public Pane modulePanel() {
+    public final Pane modulePanel() {
+        if (!initialized) {
+            startupTimeline().measure(getClass().getSimpleName() + " panel",
+                    () -> initModuleSettingsPanel(settingPanel()));
+            initialized = true;
+            Map<String, String> pending = pendingState;
+            if (nonNull(pending)) {
+                pendingState = null;
+                onLoadWorkspace(pending);
+            }
+        }
         return modulePanel;
     }
 
@@ -122,8 +122,8 @@ public class Footer extends HBox {
             bar.setProgress(ProgressIndicator.INDETERMINATE_PROGRESS);
         } else {
             bar.setProgress(event.getPercentage().divide(new BigDecimal(100)).doubleValue());
-            statusLabel.setText(DefaultI18nContext.getInstance().i18n("Running {0}%",
-                    Integer.toString(event.getPercentage().intValue())));
+            statusLabel.setText(
+                    DefaultI18nContext.getInstance().i18n("Running {0}%", event.getPercentage().intValue()));
         }
     }
 }
@@ -153,8 +153,9 @@ public class OpenButton extends SplitMenuButton implements TaskOutputDispatcher
         private OpenWithMenuItem(Module module) {
             setText(module.descriptor().getName());
             setOnAction((e) -> {
-                eventStudio().broadcast(new ClearModuleEvent(), module.id());
+                // activating the module builds its panel, so it's there to receive the events
                 eventStudio().broadcast(activeteModule(module.id()));
+                eventStudio().broadcast(new ClearModuleEvent(), module.id());
                 PdfLoadRequestEvent loadEvent = new PdfLoadRequestEvent(module.id());
                 latestOutput.stream().map(PdfDocumentDescriptor::newDescriptorNoPassword).forEach(loadEvent::add);
                 eventStudio().broadcast(loadEvent, module.id());
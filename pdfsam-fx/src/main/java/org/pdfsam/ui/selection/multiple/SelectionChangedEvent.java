@@ -22,47 +22,67 @@ import static org.pdfsam.support.RequireUtils.require;
 import static org.pdfsam.support.RequireUtils.requireNotNull;
 import static org.pdfsam.support.RequireUtils.requireState;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
 import org.pdfsam.ui.selection.multiple.move.MoveType;
 
 /**
- * Event sent when the selection on the selection table changed
+ * Event sent when the selection on the selection table changed. The selected rows are held as sorted, non overlapping ranges.
  * 
  * @author Andrea Vacondio
  * 
  */
 final class SelectionChangedEvent {
 
-    private int top = Integer.MAX_VALUE;
-    private int bottom = -1;
+    private static final int[] NO_RANGES = new int[0];
+    /**
+     * pairs of start (inclusive) and end (exclusive) indices
+     */
+    private int[] ranges = NO_RANGES;
     private int totalRows = 0;
 
     private SelectionChangedEvent(Collection<? extends Integer> selected) {
         requireNotNull(selected, "Input selection cannot be null");
-        selected.forEach(i -> {
-            bottom = Math.max(i, bottom);
-            top = Math.min(i, top);
-        });
+        int[] indices = selected.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        int[] collected = new int[indices.length * 2];
+        int size = 0;
+        for (int index : indices) {
+            if (size > 0 && collected[size - 1] == index) {
+                collected[size - 1] = index + 1;
+            } else {
+                collected[size++] = index;
+                collected[size++] = index + 1;
+            }
+        }
+        this.ranges = Arrays.copyOf(collected, size);
     }
 
     private SelectionChangedEvent() {
         // nothing
     }
 
+    private int top() {
+        return ranges[0];
+    }
+
+    private int bottom() {
+        return ranges[ranges.length - 1] - 1;
+    }
+
     /**
      * @return true the selection has been cleared
      */
     public boolean isClearSelection() {
-        return top == Integer.MAX_VALUE && bottom == -1;
+        return ranges.length == 0;
     }
 
     /**
      * @return true if its a single row selection event
      */
     public boolean isSingleSelection() {
-        return !isClearSelection() && top == bottom;
+        return !isClearSelection() && top() == bottom();
     }
 
     /**
@@ -72,7 +92,25 @@ final class SelectionChangedEvent {
      */
     public int getSingleSelection() {
         requireState(isSingleSelection(), "Single selection expected");
-        return top;
+        return top();
+    }
+
+    /**
+     * @return the number of selected rows
+     */
+    public int getSelectedCount() {
+        int count = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            count += ranges[i + 1] - ranges[i];
+        }
+        return count;
+    }
+
+    /**
+     * @return the selected ranges as pairs of start (inclusive) and end (exclusive) indices, sorted and non overlapping
+     */
+    public int[] getRanges() {
+        return ranges.clone();
     }
 
     public boolean canMove(MoveType type) {
@@ -81,13 +119,13 @@ final class SelectionChangedEvent {
         }
         switch (type) {
         case BOTTOM:
-            return isSingleSelection() && bottom < totalRows - 1;
+            return isSingleSelection() && bottom() < totalRows - 1;
         case DOWN:
-            return bottom < totalRows - 1;
+            return bottom() < totalRows - 1;
         case TOP:
-            return isSingleSelection() && top > 0;
+            return isSingleSelection() && top() > 0;
         default:
-            return top > 0;
+            return top() > 0;
         }
     }
 
@@ -18,8 +18,7 @@
  */
 package org.pdfsam.ui.selection.multiple;
 
-import static java.util.Arrays.stream;
-import static java.util.Optional.of;
+import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.defaultString;
 import static org.pdfsam.support.EncryptionUtils.encrypt;
@@ -33,26 +32,31 @@ import static org.sejda.eventstudio.StaticStudio.eventStudio;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.pdfsam.context.DefaultUserContext;
 import org.pdfsam.i18n.DefaultI18nContext;
 import org.pdfsam.module.ModuleOwned;
+import org.pdfsam.pdf.PdfDescriptorLoadingStatus;
 import org.pdfsam.pdf.PdfDocumentDescriptor;
 import org.pdfsam.pdf.PdfLoadRequestEvent;
 import org.pdfsam.support.EncryptionUtils;
-import org.pdfsam.support.io.FileType;
+import org.pdfsam.support.io.PdfFilesFinder;
 import org.pdfsam.ui.commons.ClearModuleEvent;
 import org.pdfsam.ui.commons.OpenFileRequest;
 import org.pdfsam.ui.commons.RemoveSelectedEvent;
@@ -74,8 +78,11 @@ import org.slf4j.LoggerFactory;
 import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIcon;
 import de.jensd.fx.glyphs.materialdesignicons.utils.MaterialDesignIconFactory;
 import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ListChangeListener.Change;
 import javafx.collections.ObservableList;
+import javafx.css.PseudoClass;
 import javafx.geometry.Point2D;
 import javafx.scene.Scene;
 import javafx.scene.control.ContextMenu;
@@ -108,11 +115,17 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
 
     private static final DataFormat DND_TABLE_SELECTION_MIME_TYPE = new DataFormat(
             "application/x-java-table-selection-list");
+    private static final PseudoClass DUPLICATE_PSEUDO_CLASS = PseudoClass.getPseudoClass("duplicate");
+    private static final int RESTORE_CHUNK_SIZE = 500;
 
     private String ownerModule = StringUtils.EMPTY;
     private Label placeHolder = new Label(DefaultI18nContext.getInstance().i18n("Drag and drop PDF files here"));
     private PasswordFieldPopup passwordPopup;
     private Consumer<SelectionChangedEvent> selectionChangedConsumer;
+    private Map<String, Set<PdfDocumentDescriptor>> fingerprints = new HashMap<>();
+    private boolean selectionChangePending = false;
+    private long restoreGeneration = 0;
+    private CompletableFuture<Void> restored = CompletableFuture.completedFuture(null);
 
     public SelectionTable(String ownerModule, boolean canDuplicateItems, boolean canMove,
             TableColumnProvider<?>... columns) {
@@ -125,17 +138,11 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
         getStyleClass().add("selection-table");
         initDragAndDrop(canMove);
         getSelectionModel().getSelectedIndices().addListener((Change<? extends Integer> c) -> {
-
-            ObservableList<? extends Integer> selected = c.getList();
-            if (selected.isEmpty()) {
-                eventStudio().broadcast(clearSelectionEvent(), ownerModule);
-                LOG.trace("Selection cleared for {}", ownerModule);
-            } else {
-                SelectionChangedEvent newSelectionEvent = select(selected).ofTotalRows(getItems().size());
-                eventStudio().broadcast(newSelectionEvent, ownerModule);
-                LOG.trace("{} for {}", newSelectionEvent, ownerModule);
+            // selection changes are coalesced and notified once per pulse
+            if (!selectionChangePending) {
+                selectionChangePending = true;
+                Platform.runLater(this::broadcastSelectionChanged);
             }
-
         });
         placeHolder.getStyleClass().add("drag-drop-placeholder");
         placeHolder.setDisable(true);
@@ -151,6 +158,19 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
         eventStudio().add(SelectionChangedEvent.class, e -> selectionChangedConsumer.accept(e), ownerModule);
     }
 
+    private void broadcastSelectionChanged() {
+        selectionChangePending = false;
+        ObservableList<Integer> selected = getSelectionModel().getSelectedIndices();
+        if (selected.isEmpty()) {
+            eventStudio().broadcast(clearSelectionEvent(), ownerModule);
+            LOG.trace("Selection cleared for {}", ownerModule);
+        } else {
+            SelectionChangedEvent newSelectionEvent = select(selected).ofTotalRows(getItems().size());
+            eventStudio().broadcast(newSelectionEvent, ownerModule);
+            LOG.trace("{} for {}", newSelectionEvent, ownerModule);
+        }
+    }
+
     private void initTopSectionContextMenu(ContextMenu contextMenu, boolean hasRanges) {
         MenuItem setDestinationItem = createMenuItem(DefaultI18nContext.getInstance().i18n("Set destination"),
                 MaterialDesignIcon.AIRPLANE_LANDING);
@@ -282,9 +302,9 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
         setOnDragEntered(e -> dragConsume(e, this.onDragEnteredConsumer()));
         setOnDragExited(this::onDragExited);
         setOnDragDropped(e -> dragConsume(e, this.onDragDropped()));
-        if (canMove) {
-            setRowFactory(tv -> {
-                TableRow<SelectionTableRowData> row = new TableRow<>();
+        setRowFactory(tv -> {
+            TableRow<SelectionTableRowData> row = new DuplicateAwareTableRow();
+            if (canMove) {
                 row.setOnDragDetected(e -> {
                     ArrayList<Integer> selection = new ArrayList<>(getSelectionModel().getSelectedIndices());
                     if (!row.isEmpty() && !selection.isEmpty()) {
@@ -328,39 +348,22 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
                     Dragboard db = e.getDragboard();
                     if (db.hasContent(DND_TABLE_SELECTION_MIME_TYPE)) {
                         Optional<SelectionTableRowData> focus = ofNullable(getFocusModel().getFocusedItem());
-                        Optional<SelectionTableRowData> toDrop = of(row).filter(r -> !r.isEmpty())
-                                .map(TableRow::getIndex).map(getItems()::get);
-
                         List<Integer> dragged = (List<Integer>) e.getDragboard()
                                 .getContent(DND_TABLE_SELECTION_MIME_TYPE);
-                        List<SelectionTableRowData> toMove = dragged.stream().map(getItems()::get)
-                                .filter(Objects::nonNull).collect(Collectors.toList());
-                        getItems().removeAll(toMove);
-
-                        int dropIndex = getItems().size();
-                        if (toDrop.isPresent()) {
-                            int toDropNewIndex = toDrop.map(getItems()::indexOf).get();
-                            if (toDropNewIndex == row.getIndex()) {
-                                // we dropped up
-                                dropIndex = toDropNewIndex;
-                            } else {
-                                // we dropped down
-                                dropIndex = toDropNewIndex + 1;
-                            }
-                        }
-
-                        getItems().addAll(dropIndex, toMove);
+                        int target = row.isEmpty() ? -1 : row.getIndex();
+                        int moved = (int) dragged.stream().filter(i -> i >= 0 && i < getItems().size()).distinct()
+                                .count();
+                        int dropIndex = moveItems(getItems(), dragged, target);
                         e.setDropCompleted(true);
                         getSelectionModel().clearSelection();
-                        getSelectionModel().selectRange(dropIndex, dropIndex + toMove.size());
+                        getSelectionModel().selectRange(dropIndex, dropIndex + moved);
                         focus.map(getItems()::indexOf).ifPresent(getFocusModel()::focus);
                         e.consume();
                     }
                 });
-
-                return row;
-            });
-        }
+            }
+            return row;
+        });
     }
 
     private void dragConsume(DragEvent e, Consumer<DragEvent> c) {
@@ -386,29 +389,23 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
 
     private Consumer<DragEvent> onDragDropped() {
         return (DragEvent e) -> {
-            final PdfLoadRequestEvent loadEvent = new PdfLoadRequestEvent(getOwnerModule());
-            getFilesFromDragboard(e.getDragboard()).filter(f -> FileType.PDF.matches(f.getName()))
-                    .map(PdfDocumentDescriptor::newDescriptorNoPassword).forEach(loadEvent::add);
-            if (!loadEvent.getDocuments().isEmpty()) {
+            PdfFilesFinder.getInstance().find(e.getDragboard().getFiles(), files -> Platform.runLater(() -> {
+                final PdfLoadRequestEvent loadEvent = new PdfLoadRequestEvent(getOwnerModule());
+                files.stream().map(PdfDocumentDescriptor::newDescriptorNoPassword).forEach(loadEvent::add);
                 eventStudio().broadcast(loadEvent, getOwnerModule());
-            } else {
-                eventStudio().broadcast(new AddNotificationRequestEvent(NotificationType.WARN,
-                        DefaultI18nContext.getInstance()
-                                .i18n("Drag and drop PDF files or directories containing PDF files"),
-                        DefaultI18nContext.getInstance().i18n("No PDF found")));
-            }
+            })).thenAccept(found -> {
+                if (found == 0) {
+                    Platform.runLater(() -> eventStudio().broadcast(new AddNotificationRequestEvent(
+                            NotificationType.WARN,
+                            DefaultI18nContext.getInstance()
+                                    .i18n("Drag and drop PDF files or directories containing PDF files"),
+                            DefaultI18nContext.getInstance().i18n("No PDF found"))));
+                }
+            });
             e.setDropCompleted(true);
         };
     }
 
-    private Stream<File> getFilesFromDragboard(Dragboard board) {
-        List<File> files = board.getFiles();
-        if (files.size() == 1 && files.get(0).isDirectory()) {
-            return stream(files.get(0).listFiles()).sorted();
-        }
-        return files.stream();
-    }
-
     @Override
     @EventStation
     public String getOwnerModule() {
@@ -417,6 +414,7 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
 
     @EventListener(priority = Integer.MIN_VALUE)
     public void onLoadDocumentsRequest(PdfLoadRequestEvent loadEvent) {
+        loadEvent.getDocuments().forEach(this::watchForDuplicates);
         getItems()
                 .addAll(loadEvent.getDocuments().stream().map(SelectionTableRowData::new).collect(Collectors.toList()));
         loadEvent.getDocuments().stream().findFirst().ifPresent(f -> eventStudio()
@@ -427,25 +425,149 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
     @EventListener
     public void onDuplicate(final DuplicateSelectedEvent event) {
         LOG.trace("Duplicating selected items");
-        getSelectionModel().getSelectedItems().forEach(i -> getItems().add(i.duplicate()));
+        getItems().addAll(getSelectionModel().getSelectedItems().stream().map(SelectionTableRowData::duplicate)
+                .collect(Collectors.toList()));
     }
 
     @EventListener
     public void onClear(final ClearModuleEvent event) {
+        restoreGeneration++;
         getItems().forEach(d -> d.descriptor().releaseAll());
+        fingerprints.clear();
         getSelectionModel().clearSelection();
         getItems().clear();
     }
 
     @EventListener
     public void onRemoveSelected(RemoveSelectedEvent event) {
-        SortedSet<Integer> indices = new TreeSet<>(Collections.reverseOrder());
-        indices.addAll(getSelectionModel().getSelectedIndices());
+        List<Integer> indices = new ArrayList<>(getSelectionModel().getSelectedIndices());
         LOG.trace("Removing {} items", indices.size());
-        indices.forEach(i -> getItems().remove(i.intValue()).invalidate());
+        Set<String> removedFingerprints = new HashSet<>();
+        getSelectionModel().clearSelection();
+        removeItems(getItems(), indices).forEach(removed -> {
+            removed.invalidate();
+            ofNullable(removed.descriptor().getFingerprint()).ifPresent(removedFingerprints::add);
+        });
+        removedFingerprints.forEach(this::refreshDuplicates);
+        // as it happens removing selected rows one by one, the row preceding the removed ones is selected
+        indices.stream().mapToInt(Integer::intValue).min().ifPresent(first -> {
+            if (!getItems().isEmpty()) {
+                int toSelect = Math.min(Math.max(0, first - 1), getItems().size() - 1);
+                getSelectionModel().select(toSelect);
+                getFocusModel().focus(toSelect);
+            }
+        });
         requestFocus();
     }
 
+    /**
+     * Removes the items at the given indices as a single change of the list
+     * 
+     * @return the removed items
+     */
+    static <T> List<T> removeItems(ObservableList<T> items, Collection<Integer> indices) {
+        BitSet toRemove = toBitSet(indices, items.size());
+        List<T> removed = new ArrayList<>(toRemove.cardinality());
+        List<T> retained = new ArrayList<>(items.size() - toRemove.cardinality());
+        for (int i = 0; i < items.size(); i++) {
+            if (toRemove.get(i)) {
+                removed.add(items.get(i));
+            } else {
+                retained.add(items.get(i));
+            }
+        }
+        if (!removed.isEmpty()) {
+            items.setAll(retained);
+        }
+        return removed;
+    }
+
+    /**
+     * Moves the items at the given indices where the target item is, as a single change of the list. Items are dropped before the target
+     * if none of them comes before it, after the target otherwise.
+     * 
+     * @param target
+     *            index of the item where the items are dropped, a negative value to drop them at the end of the list
+     * @return the index of the first moved item
+     */
+    static <T> int moveItems(ObservableList<T> items, Collection<Integer> indices, int target) {
+        BitSet toMove = toBitSet(indices, items.size());
+        List<T> moved = new ArrayList<>(toMove.cardinality());
+        List<T> retained = new ArrayList<>(items.size());
+        int dropIndex = -1;
+        for (int i = 0; i < items.size(); i++) {
+            if (i == target) {
+                int first = toMove.nextSetBit(0);
+                dropIndex = (first < 0 || first > i) ? retained.size() : retained.size() + 1;
+            }
+            if (toMove.get(i)) {
+                moved.add(items.get(i));
+            } else {
+                retained.add(items.get(i));
+            }
+        }
+        if (dropIndex < 0 || dropIndex > retained.size()) {
+            dropIndex = retained.size();
+        }
+        retained.addAll(dropIndex, moved);
+        items.setAll(retained);
+        return dropIndex;
+    }
+
+    private static BitSet toBitSet(Collection<Integer> indices, int size) {
+        BitSet bits = new BitSet(size);
+        indices.stream().filter(i -> nonNull(i) && i >= 0 && i < size).forEach(bits::set);
+        return bits;
+    }
+
+    private void watchForDuplicates(PdfDocumentDescriptor descriptor) {
+        descriptor.loadingStatus().addListener(new ChangeListener<PdfDescriptorLoadingStatus>() {
+            @Override
+            public void changed(ObservableValue<? extends PdfDescriptorLoadingStatus> observable,
+                    PdfDescriptorLoadingStatus oldValue, PdfDescriptorLoadingStatus newValue) {
+                if (newValue == PdfDescriptorLoadingStatus.LOADED
+                        || newValue == PdfDescriptorLoadingStatus.LOADED_WITH_USER_PWD_DECRYPTION) {
+                    observable.removeListener(this);
+                    Platform.runLater(() -> onDescriptorLoaded(descriptor));
+                }
+            }
+        });
+    }
+
+    private void onDescriptorLoaded(PdfDocumentDescriptor descriptor) {
+        String fingerprint = descriptor.getFingerprint();
+        if (nonNull(fingerprint) && descriptor.hasReferences()) {
+            Set<PdfDocumentDescriptor> sameContent = fingerprints.computeIfAbsent(fingerprint, k -> new HashSet<>());
+            sameContent.removeIf(d -> !d.hasReferences());
+            sameContent.add(descriptor);
+            if (sameContent.size() > 1) {
+                LOG.debug("{} has the same content of {} other documents", descriptor.getFileName(),
+                        sameContent.size() - 1);
+                getItems().stream().filter(i -> sameContent.contains(i.descriptor()))
+                        .forEach(i -> i.duplicate.set(true));
+                eventStudio().broadcast(new AddNotificationRequestEvent(NotificationType.WARN,
+                        DefaultI18nContext.getInstance().i18n(
+                                "A document with the same content as \"{0}\" has already been loaded",
+                                descriptor.getFileName()),
+                        DefaultI18nContext.getInstance().i18n("Duplicate document")));
+            }
+        }
+    }
+
+    private void refreshDuplicates(String fingerprint) {
+        Set<PdfDocumentDescriptor> sameContent = fingerprints.get(fingerprint);
+        if (nonNull(sameContent)) {
+            sameContent.removeIf(d -> !d.hasReferences());
+            if (sameContent.size() <= 1) {
+                getItems().stream().filter(i -> sameContent.contains(i.descriptor()))
+                        .forEach(i -> i.duplicate.set(false));
+            }
+            if (sameContent.isEmpty()) {
+                fingerprints.remove(fingerprint);
+            }
+        }
+    }
+
     @EventListener
     public void onMoveSelected(final MoveSelectedEvent event) {
         getSortOrder().clear();
@@ -497,40 +619,139 @@ public class SelectionTable extends TableView<SelectionTableRowData> implements
         IntStream.range(0, getItems().size()).forEach(i -> {
             SelectionTableRowData current = getItems().get(i);
             String id = defaultString(getId());
-            data.put(id + "input." + i, current.descriptor().getFile().getAbsolutePath());
+            File file = current.descriptor().getFile();
+            data.put(id + "input." + i, file.getAbsolutePath());
             if (new DefaultUserContext().isSavePwdInWorkspaceFile()) {
                 data.put(id + "input.password.enc" + i, encrypt(current.descriptor().getPassword()));
             }
             data.put(id + "input.range." + i, defaultString(current.pageSelection.get()));
             data.put(id + "input.step." + i, defaultString(current.pace.get()));
             data.put(id + "input.reverse." + i, Boolean.toString(current.reverse.get()));
+            int pages = ofNullable(current.descriptor().pages().getValue()).orElse(0);
+            if (pages > 0) {
+                // cached so that the number of pages can be displayed while the document is loaded again
+                data.put(id + "input.pages." + i, Integer.toString(pages));
+                data.put(id + "input.length." + i, Long.toString(file.length()));
+                data.put(id + "input.modified." + i, Long.toString(file.lastModified()));
+            }
         });
     }
 
+    /**
+     * Rows are prepared on a background thread and added to the table in chunks, one chunk per pulse, so that the UI stays responsive
+     * when restoring a large number of documents
+     * 
+     * @see #restored()
+     */
     @Override
     public void restoreStateFrom(Map<String, String> data) {
         onClear(null);
-        int size = Optional.ofNullable(data.get(defaultString(getId()) + "input.size")).map(Integer::valueOf).orElse(0);
-        if (size > 0) {
-            PdfLoadRequestEvent loadEvent = new PdfLoadRequestEvent(getOwnerModule());
-            List<SelectionTableRowData> items = new ArrayList<>();
-            IntStream.range(0, size).forEach(i -> {
-                String id = defaultString(getId());
-                Optional.ofNullable(data.get(id + "input." + i)).ifPresent(f -> {
-                    PdfDocumentDescriptor descriptor = PdfDocumentDescriptor.newDescriptor(new File(f),
-                            ofNullable(data.get(id + "input.password.enc" + i)).map(EncryptionUtils::decrypt)
-                                    .orElseGet(() -> data.get(defaultString(getId()) + "input.password." + i)));
-                    loadEvent.add(descriptor);
-                    SelectionTableRowData row = new SelectionTableRowData(descriptor);
-                    row.pageSelection.set(data.get(id + "input.range." + i));
-                    row.pace.set(data.get(id + "input.step." + i));
-                    row.reverse.set(Boolean.valueOf(data.get(id + "input.reverse." + i)));
-                    items.add(row);
+        long generation = restoreGeneration;
+        String id = defaultString(getId());
+        restored = CompletableFuture.supplyAsync(() -> restoreRows(id, data), RestoreExecutorHolder.EXECUTOR)
+                .thenCompose(rows -> {
+                    CompletableFuture<Void> added = new CompletableFuture<>();
+                    if (rows.isEmpty()) {
+                        added.complete(null);
+                    } else {
+                        Platform.runLater(() -> addRestoredRows(rows, 0, generation, added));
+                    }
+                    return added;
+                }).whenComplete((r, e) -> {
+                    if (nonNull(e)) {
+                        LOG.error(DefaultI18nContext.getInstance().i18n("Unable to restore the selected documents"), e);
+                    }
                 });
+    }
+
+    /**
+     * @return a future completing once the rows of the last {@link #restoreStateFrom(Map)} have been added to the table, or the restore
+     *         has been superseded
+     */
+    public CompletableFuture<Void> restored() {
+        return restored;
+    }
+
+    private static List<SelectionTableRowData> restoreRows(String id, Map<String, String> data) {
+        int size = Optional.ofNullable(data.get(id + "input.size")).map(Integer::valueOf).orElse(0);
+        List<SelectionTableRowData> rows = new ArrayList<>(size);
+        IntStream.range(0, size).forEach(i -> {
+            Optional.ofNullable(data.get(id + "input." + i)).ifPresent(f -> {
+                File file = new File(f);
+                PdfDocumentDescriptor descriptor = PdfDocumentDescriptor.newDescriptor(file,
+                        ofNullable(data.get(id + "input.password.enc" + i)).map(EncryptionUtils::decrypt)
+                                .orElseGet(() -> data.get(id + "input.password." + i)));
+                int pages = NumberUtils.toInt(data.get(id + "input.pages." + i));
+                if (pages > 0 && NumberUtils.toLong(data.get(id + "input.length." + i), -1) == file.length()
+                        && NumberUtils.toLong(data.get(id + "input.modified." + i), -1) == file.lastModified()) {
+                    descriptor.pages(pages);
+                }
+                SelectionTableRowData row = new SelectionTableRowData(descriptor);
+                row.pageSelection.set(data.get(id + "input.range." + i));
+                row.pace.set(data.get(id + "input.step." + i));
+                row.reverse.set(Boolean.valueOf(data.get(id + "input.reverse." + i)));
+                rows.add(row);
             });
-            getItems().addAll(items);
-            eventStudio().broadcast(loadEvent);
+        });
+        return rows;
+    }
+
+    private void addRestoredRows(List<SelectionTableRowData> rows, int from, long generation,
+            CompletableFuture<Void> added) {
+        if (generation != restoreGeneration) {
+            LOG.trace("Restore of the selected documents superseded");
+            added.complete(null);
+            return;
         }
+        int to = Math.min(rows.size(), from + RESTORE_CHUNK_SIZE);
+        List<SelectionTableRowData> chunk = rows.subList(from, to);
+        PdfLoadRequestEvent loadEvent = new PdfLoadRequestEvent(getOwnerModule());
+        chunk.forEach(row -> {
+            watchForDuplicates(row.descriptor());
+            loadEvent.add(row.descriptor());
+        });
+        getItems().addAll(chunk);
+        eventStudio().broadcast(loadEvent);
+        if (to < rows.size()) {
+            Platform.runLater(() -> addRestoredRows(rows, to, generation, added));
+        } else {
+            added.complete(null);
+        }
+    }
 
+    /**
+     * Lazy initialization holder class idiom (Joshua Bloch, Effective Java second edition, item 71).
+     */
+    private static final class RestoreExecutorHolder {
+
+        private RestoreExecutorHolder() {
+            // hide constructor
+        }
+
+        static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "selection-restore");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Row highlighting documents whose content has already been loaded
+     */
+    private static class DuplicateAwareTableRow extends TableRow<SelectionTableRowData> {
+        private final ChangeListener<Boolean> duplicateListener = (o, oldVal, newVal) -> pseudoClassStateChanged(
+                DUPLICATE_PSEUDO_CLASS, newVal);
+
+        @Override
+        protected void updateItem(SelectionTableRowData item, boolean empty) {
+            ofNullable(getItem()).ifPresent(i -> i.duplicate.removeListener(duplicateListener));
+            super.updateItem(item, empty);
+            if (!empty && nonNull(item)) {
+                item.duplicate.addListener(duplicateListener);
+                pseudoClassStateChanged(DUPLICATE_PSEUDO_CLASS, item.duplicate.get());
+            } else {
+                pseudoClassStateChanged(DUPLICATE_PSEUDO_CLASS, false);
+            }
+        }
     }
 }
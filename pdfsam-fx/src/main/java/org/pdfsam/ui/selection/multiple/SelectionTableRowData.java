@@ -23,6 +23,7 @@ import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.pdfsam.pdf.PdfDocumentDescriptor;
 import org.pdfsam.support.params.ConversionUtils;
+import org.pdfsam.support.params.PageRanges;
 import org.sejda.conversion.exception.ConversionException;
 import org.sejda.model.pdf.page.PageRange;
 
@@ -42,6 +43,10 @@ public final class SelectionTableRowData {
     public final SimpleStringProperty pageSelection = new SimpleStringProperty(StringUtils.EMPTY);
     public final SimpleStringProperty pace = new SimpleStringProperty("1");
     public final SimpleBooleanProperty reverse = new SimpleBooleanProperty(false);
+    /**
+     * true if another document with the same content has been loaded in the same table
+     */
+    public final SimpleBooleanProperty duplicate = new SimpleBooleanProperty(false);
 
     public SelectionTableRowData(PdfDocumentDescriptor descriptor) {
         this.descriptor = descriptor;
@@ -53,6 +58,7 @@ public final class SelectionTableRowData {
         dupe.pageSelection.set(pageSelection.get());
         dupe.reverse.set(reverse.get());
         dupe.pace.set(pace.get());
+        dupe.duplicate.set(duplicate.get());
         return dupe;
     }
 
@@ -74,4 +80,11 @@ public final class SelectionTableRowData {
         return ConversionUtils.toPageRangeSet(pageSelection.get());
     }
 
+    /**
+     * @return the parsed page selection, empty if no selection has been set.
+     */
+    public PageRanges toPageRanges() throws ConversionException {
+        return PageRanges.parse(pageSelection.get());
+    }
+
 }
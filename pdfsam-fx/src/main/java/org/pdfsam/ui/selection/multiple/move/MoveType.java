@@ -18,15 +18,17 @@
  */
 package org.pdfsam.ui.selection.multiple.move;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.apache.commons.lang3.ArrayUtils;
 
 import javafx.collections.ObservableList;
 
 /**
- * Types of moves for the selected items in the selection table
+ * Types of moves for the selected items in the selection table. Moves are applied to the items as a single change.
  * 
  * @author Andrea Vacondio
  * 
@@ -50,10 +52,12 @@ public enum MoveType {
                 MultipleSelectionAndFocus newSelection = new MultipleSelectionAndFocus(focused);
                 Arrays.parallelSort(selected);
                 if (isNotFirst(selected)) {
+                    List<T> moved = new ArrayList<>(items);
                     Arrays.stream(selected).forEach(i -> {
-                        Collections.swap(items, i, i - 1);
+                        Collections.swap(moved, i, i - 1);
                         newSelection.moveUp(i);
                     });
+                    items.setAll(moved);
                     return newSelection;
                 }
             }
@@ -67,10 +71,12 @@ public enum MoveType {
                 MultipleSelectionAndFocus newSelection = new MultipleSelectionAndFocus(focused);
                 Arrays.parallelSort(selected, Collections.reverseOrder(Integer::compare));
                 if (isNotLast(selected, items)) {
+                    List<T> moved = new ArrayList<>(items);
                     Arrays.stream(selected).forEach(i -> {
-                        Collections.swap(items, i, i + 1);
+                        Collections.swap(moved, i, i + 1);
                         newSelection.moveDown(i);
                     });
+                    items.setAll(moved);
                     return newSelection;
                 }
             }
@@ -21,22 +21,26 @@ package org.pdfsam.ui.support;
 import static org.pdfsam.support.RequireUtils.require;
 
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.List;
+
+import org.pdfsam.support.RingBuffer;
 
 import javafx.collections.ModifiableObservableListBase;
 
 /**
  * A {@link ModifiableObservableListBase} with size constraints. When at maxCapacity and an element is added, the eldest element is removed.
+ * Elements are stored in a {@link RingBuffer} so random access is O(1) and the eldest elements are evicted notifying a single removal
+ * change, as part of the change that caused the eviction.
  * 
  * @author Andrea Vacondio
  *
  */
 public class CircularObservableList<E> extends ModifiableObservableListBase<E> {
-    private LinkedList<E> wrapped;
+    private RingBuffer<E> wrapped;
     private int maxCapacity;
 
     public CircularObservableList(int maxCapacity) {
-        this.wrapped = new LinkedList<>();
+        this.wrapped = new RingBuffer<>();
         setMaxCapacity(maxCapacity);
     }
 
@@ -51,14 +55,42 @@ public class CircularObservableList<E> extends ModifiableObservableListBase<E> {
     }
 
     /**
-     * Makes the list fit its limits by removing last items in cases where the list might have exceeded its limits.
+     * Makes the list fit its limits by removing first items in cases where the list might have exceeded its limits.
      */
     private void houseKeep() {
-        while (size() > maxCapacity) {
-            remove(0);
+        if (size() > maxCapacity) {
+            try {
+                beginChange();
+                List<E> removed = wrapped.removeHead(size() - maxCapacity);
+                nextRemove(0, removed);
+                modCount++;
+            } finally {
+                endChange();
+            }
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        try {
+            beginChange();
+            wrapped.add(index, element);
+            nextAdd(index, index + 1);
+            modCount++;
+            houseKeep();
+        } finally {
+            endChange();
         }
     }
 
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
     @Override
     public boolean addAll(int index, Collection<? extends E> c) {
         boolean retVal = false;
@@ -74,6 +106,19 @@ public class CircularObservableList<E> extends ModifiableObservableListBase<E> {
         return retVal;
     }
 
+    @Override
+    public void clear() {
+        if (!isEmpty()) {
+            try {
+                beginChange();
+                nextRemove(0, wrapped.removeHead(size()));
+                modCount++;
+            } finally {
+                endChange();
+            }
+        }
+    }
+
     @Override
     public E get(int index) {
         return wrapped.get(index);
@@ -87,7 +132,6 @@ public class CircularObservableList<E> extends ModifiableObservableListBase<E> {
     @Override
     protected void doAdd(int index, E element) {
         wrapped.add(index, element);
-        houseKeep();
     }
 
     @Override
@@ -0,0 +1,191 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.module;
+
+import static org.hamcrest.Matchers.hasEntry;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.builder.Builder;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.pdfsam.module.ModuleDescriptor;
+import org.pdfsam.module.ModuleInputOutputType;
+import org.pdfsam.test.ClearEventStudioRule;
+import org.pdfsam.test.InitializeJavaFxThreadRule;
+import org.pdfsam.ui.workspace.LoadWorkspaceEvent;
+import org.pdfsam.ui.workspace.SaveWorkspaceEvent;
+import org.sejda.eventstudio.annotation.EventStation;
+import org.sejda.model.parameter.base.AbstractParameters;
+import org.testfx.util.WaitForAsyncUtils;
+
+import javafx.scene.Node;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.VBox;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class BaseTaskExecutionModuleTest {
+    private static final String MODULE_ID = "moduleId";
+    @Rule
+    public InitializeJavaFxThreadRule fxThread = new InitializeJavaFxThreadRule();
+    @Rule
+    public ClearEventStudioRule clearEventStudio = new ClearEventStudioRule();
+
+    private TestModule victim;
+
+    @Before
+    public void setUp() {
+        victim = new TestModule(
+                new Footer(new RunButton(), new OpenButton(MODULE_ID, ModuleInputOutputType.SINGLE_PDF), MODULE_ID));
+    }
+
+    @Test
+    public void panelBuiltOnFirstRequest() {
+        assertEquals(0, victim.panels);
+        BorderPane panel = (BorderPane) victim.modulePanel();
+        assertSame(panel, victim.modulePanel());
+        assertEquals(1, victim.panels);
+        assertTrue(panel.getCenter() instanceof VBox);
+    }
+
+    @Test
+    public void restoredWhenBuilt() {
+        LoadWorkspaceEvent event = new LoadWorkspaceEvent(new File("workspace.json"));
+        event.setData(Collections.singletonMap(MODULE_ID, Collections.singletonMap("key", "value")));
+        victim.restoreState(event);
+        WaitForAsyncUtils.waitForFxEvents();
+        assertNull(victim.loaded);
+        SaveWorkspaceEvent save = new SaveWorkspaceEvent(new File("workspace.json"));
+        victim.saveStateData(save);
+        assertThat(save.getDataForModule(MODULE_ID), hasEntry("key", "value"));
+        assertEquals(0, victim.saves);
+        victim.modulePanel();
+        assertThat(victim.loaded, hasEntry("key", "value"));
+    }
+
+    @Test
+    public void restoredWhenAlreadyBuilt() {
+        victim.modulePanel();
+        LoadWorkspaceEvent event = new LoadWorkspaceEvent(new File("workspace.json"));
+        event.setData(Collections.singletonMap(MODULE_ID, Collections.singletonMap("key", "value")));
+        victim.restoreState(event);
+        WaitForAsyncUtils.waitForFxEvents();
+        assertThat(victim.loaded, hasEntry("key", "value"));
+    }
+
+    @Test
+    public void restoreCompletion() {
+        victim.modulePanel();
+        LoadWorkspaceEvent event = new LoadWorkspaceEvent(new File("workspace.json"));
+        event.setData(Collections.singletonMap(MODULE_ID, Collections.singletonMap("key", "value")));
+        victim.restoreState(event);
+        WaitForAsyncUtils.waitForFxEvents();
+        assertFalse(event.restored().isDone());
+        victim.restored.complete(null);
+        assertTrue(event.restored().isDone());
+    }
+
+    @Test
+    public void restoreCompletedWhenNotBuilt() {
+        LoadWorkspaceEvent event = new LoadWorkspaceEvent(new File("workspace.json"));
+        event.setData(Collections.singletonMap(MODULE_ID, Collections.singletonMap("key", "value")));
+        victim.restoreState(event);
+        WaitForAsyncUtils.waitForFxEvents();
+        assertTrue(event.restored().isDone());
+    }
+
+    @Test
+    public void notSavedUntilBuilt() {
+        SaveWorkspaceEvent save = new SaveWorkspaceEvent(new File("workspace.json"));
+        victim.saveStateData(save);
+        assertTrue(save.getDataForModule(MODULE_ID).isEmpty());
+        victim.modulePanel();
+        victim.saveStateData(save);
+        assertEquals(1, victim.saves);
+        assertThat(save.getDataForModule(MODULE_ID), hasEntry("saved", "true"));
+    }
+
+    private static class TestModule extends BaseTaskExecutionModule {
+        private int panels = 0;
+        private int saves = 0;
+        private Map<String, String> loaded;
+        private final CompletableFuture<Void> restored = new CompletableFuture<>();
+
+        TestModule(Footer footer) {
+            super(footer);
+        }
+
+        @Override
+        protected VBox settingPanel() {
+            panels++;
+            return new VBox();
+        }
+
+        @Override
+        public void onSaveWorkspace(Map<String, String> data) {
+            saves++;
+            data.put("saved", "true");
+        }
+
+        @Override
+        public void onLoadWorkspace(Map<String, String> data) {
+            loaded = data;
+        }
+
+        @Override
+        protected CompletableFuture<Void> restored() {
+            return restored;
+        }
+
+        @Override
+        protected Builder<? extends AbstractParameters> getBuilder(Consumer<String> onError) {
+            return null;
+        }
+
+        @Override
+        @EventStation
+        public String id() {
+            return MODULE_ID;
+        }
+
+        @Override
+        public ModuleDescriptor descriptor() {
+            return null;
+        }
+
+        @Override
+        public Node graphic() {
+            return null;
+        }
+    }
+}
@@ -21,6 +21,7 @@ package org.pdfsam.ui.selection.multiple;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
 import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -113,4 +114,20 @@ public class SelectionChangedEventTest {
     public void canMoveTop() {
         assertTrue(select(asList(3)).ofTotalRows(5).canMove(MoveType.TOP));
     }
+
+    @Test
+    public void ranges() {
+        SelectionChangedEvent victim = select(asList(7, 2, 3, 4, 9, 8, 3)).ofTotalRows(10);
+        assertArrayEquals(new int[] { 2, 5, 7, 10 }, victim.getRanges());
+        assertEquals(6, victim.getSelectedCount());
+        assertFalse(victim.canMove(MoveType.DOWN));
+        assertTrue(victim.canMove(MoveType.UP));
+    }
+
+    @Test
+    public void clearRanges() {
+        SelectionChangedEvent victim = clearSelectionEvent();
+        assertEquals(0, victim.getRanges().length);
+        assertEquals(0, victim.getSelectedCount());
+    }
 }
@@ -0,0 +1,108 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.selection.multiple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.pdfsam.ui.selection.multiple.move.MoveType;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * Rough benchmark comparing the bulk edits of the {@link SelectionTable} items with the previous item by item implementations: removing
+ * every other row, moving up every third row and dragging every other row to the top. It's not a unit test, run it from the IDE or with
+ * {@code java -cp <test classpath> org.pdfsam.ui.selection.multiple.SelectionTableBenchmark [rows...]}.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+public class SelectionTableBenchmark {
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0 ? IntStream.range(0, args.length).map(i -> Integer.parseInt(args[i])).toArray()
+                : new int[] { 1000, 10000, 100000 };
+        for (int i = 0; i < ROUNDS; i++) {
+            System.out.printf("Round %d%n", i + 1);
+            for (int rows : sizes) {
+                System.out.printf(" %d rows%n", rows);
+                List<Integer> everyOther = IntStream.range(0, rows).filter(r -> r % 2 == 1).boxed()
+                        .collect(Collectors.toList());
+                Integer[] everyThird = IntStream.range(0, rows).filter(r -> r % 3 == 1).boxed().toArray(Integer[]::new);
+
+                run("remove item by item", rows, items -> removeItemByItem(items, everyOther));
+                run("remove bulk", rows, items -> SelectionTable.removeItems(items, everyOther));
+                run("move up item by item", rows, items -> moveUpItemByItem(items, everyThird.clone()));
+                run("move up bulk", rows, items -> MoveType.UP.move(everyThird.clone(), items, -1));
+                run("drag item by item", rows, items -> dragItemByItem(items, everyOther, 0));
+                run("drag bulk", rows, items -> SelectionTable.moveItems(items, everyOther, 0));
+            }
+        }
+    }
+
+    private static void run(String name, int rows, Consumer<ObservableList<String>> operation) {
+        ObservableList<String> items = FXCollections
+                .observableArrayList(IntStream.range(0, rows).mapToObj(Integer::toString).collect(Collectors.toList()));
+        int[] changes = new int[1];
+        items.addListener((ListChangeListener<String>) c -> changes[0]++);
+        long start = System.nanoTime();
+        operation.accept(items);
+        System.out.printf("  %-22s %6dms %8d changes%n", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                changes[0]);
+    }
+
+    /**
+     * The way SelectionTable used to remove the selected rows
+     */
+    private static void removeItemByItem(ObservableList<String> items, List<Integer> selected) {
+        SortedSet<Integer> indices = new TreeSet<>(Collections.reverseOrder());
+        indices.addAll(selected);
+        indices.forEach(i -> items.remove(i.intValue()));
+    }
+
+    /**
+     * The way MoveType.UP used to move the selected rows
+     */
+    private static void moveUpItemByItem(ObservableList<String> items, Integer[] selected) {
+        for (Integer i : selected) {
+            Collections.swap(items, i, i - 1);
+        }
+    }
+
+    /**
+     * The way SelectionTable used to move the dragged rows
+     */
+    private static void dragItemByItem(ObservableList<String> items, List<Integer> dragged, int target) {
+        String toDrop = items.get(target);
+        List<String> toMove = dragged.stream().map(items::get).collect(Collectors.toList());
+        items.removeAll(toMove);
+        int toDropNewIndex = items.indexOf(toDrop);
+        items.addAll(toDropNewIndex == target ? toDropNewIndex : toDropNewIndex + 1, new ArrayList<>(toMove));
+    }
+}
@@ -19,6 +19,7 @@
 package org.pdfsam.ui.selection.multiple;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -35,9 +36,14 @@ import static org.testfx.api.FxAssert.verifyThat;
 import static org.testfx.matcher.control.TableViewMatchers.hasTableCell;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.lang3.StringUtils;
 import org.hamcrest.Matchers;
@@ -72,6 +78,8 @@ import org.testfx.framework.junit.ApplicationTest;
 import org.testfx.util.WaitForAsyncUtils;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.scene.Scene;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.DataFormat;
@@ -215,7 +223,7 @@ public class SelectionTableTest extends ApplicationTest {
     }
 
     @Test
-    public void restoreStateFromPwdBackwardCompatible() {
+    public void restoreStateFromPwdBackwardCompatible() throws TimeoutException {
         eventStudio().clear();
         Listener<PdfLoadRequestEvent> listener = mock(Listener.class);
         eventStudio().add(PdfLoadRequestEvent.class, listener);
@@ -224,13 +232,49 @@ public class SelectionTableTest extends ApplicationTest {
         data.put("victiminput.0", "chuck.pdf");
         data.put("victiminput.password.0", "pwd");
         WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.restoreStateFrom(data));
-        assertEquals(1, victim.getItems().size());
+        WaitForAsyncUtils.waitFor(2, TimeUnit.SECONDS, () -> victim.getItems().size() == 1);
         SelectionTableRowData first = victim.getItems().get(0);
         assertEquals("pwd", first.descriptor().getPassword());
     }
 
     @Test
-    public void restoreStateFrom() {
+    public void restoreStateFromInChunks() throws Exception {
+        eventStudio().clear();
+        Listener<PdfLoadRequestEvent> listener = mock(Listener.class);
+        eventStudio().add(PdfLoadRequestEvent.class, listener);
+        Map<String, String> data = new HashMap<>();
+        data.put("victiminput.size", "1200");
+        for (int i = 0; i < 1200; i++) {
+            data.put("victiminput." + i, "chuck" + i + ".pdf");
+        }
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.restoreStateFrom(data));
+        victim.restored().get(5, TimeUnit.SECONDS);
+        assertEquals(1200, victim.getItems().size());
+        assertEquals("chuck1199.pdf", victim.getItems().get(1199).descriptor().getFileName());
+        verify(listener, timeout(1000).times(3)).onEvent(any());
+    }
+
+    @Test
+    public void restoreStateFromCachedPages() throws IOException, TimeoutException {
+        File file = folder.newFile("cached.pdf");
+        Map<String, String> data = new HashMap<>();
+        data.put("victiminput.size", "2");
+        data.put("victiminput.0", file.getAbsolutePath());
+        data.put("victiminput.pages.0", "5");
+        data.put("victiminput.length.0", Long.toString(file.length()));
+        data.put("victiminput.modified.0", Long.toString(file.lastModified()));
+        data.put("victiminput.1", file.getAbsolutePath());
+        data.put("victiminput.pages.1", "5");
+        data.put("victiminput.length.1", Long.toString(file.length() + 1));
+        data.put("victiminput.modified.1", Long.toString(file.lastModified()));
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.restoreStateFrom(data));
+        WaitForAsyncUtils.waitFor(2, TimeUnit.SECONDS, () -> victim.getItems().size() == 2);
+        assertEquals(5, victim.getItems().get(0).descriptor().pages().getValue().intValue());
+        assertEquals(0, victim.getItems().get(1).descriptor().pages().getValue().intValue());
+    }
+
+    @Test
+    public void restoreStateFrom() throws TimeoutException {
         eventStudio().clear();
         Listener<PdfLoadRequestEvent> listener = mock(Listener.class);
         eventStudio().add(PdfLoadRequestEvent.class, listener);
@@ -243,7 +287,7 @@ public class SelectionTableTest extends ApplicationTest {
         data.put("victiminput.reverse.0", "true");
         data.put("victiminput.1", "norris.pdf");
         WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.restoreStateFrom(data));
-        assertEquals(2, victim.getItems().size());
+        WaitForAsyncUtils.waitFor(2, TimeUnit.SECONDS, () -> victim.getItems().size() == 2);
         SelectionTableRowData first = victim.getItems().get(0);
         assertEquals("chuck.pdf", first.descriptor().getFileName());
         assertEquals("pwd", first.descriptor().getPassword());
@@ -258,6 +302,25 @@ public class SelectionTableTest extends ApplicationTest {
         verify(listener).onEvent(any());
     }
 
+    @Test
+    public void restoreSuperseded() throws Exception {
+        Map<String, String> data = new HashMap<>();
+        data.put("victiminput.size", "1200");
+        for (int i = 0; i < 1200; i++) {
+            data.put("victiminput." + i, "chuck" + i + ".pdf");
+        }
+        CompletableFuture<Void> first = WaitForAsyncUtils.asyncFx(() -> {
+            victim.restoreStateFrom(data);
+            CompletableFuture<Void> restored = victim.restored();
+            victim.restoreStateFrom(new HashMap<>());
+            return restored;
+        }).get(2, TimeUnit.SECONDS);
+        first.get(2, TimeUnit.SECONDS);
+        victim.restored().get(2, TimeUnit.SECONDS);
+        WaitForAsyncUtils.waitForFxEvents();
+        assertTrue(victim.getItems().isEmpty());
+    }
+
     @Test
     public void restoreStateFromEmpty() {
         Map<String, String> data = new HashMap<>();
@@ -308,6 +371,21 @@ public class SelectionTableTest extends ApplicationTest {
         verify(listener, times(2)).onEvent(any());
     }
 
+    @Test
+    public void selectionChangesCoalesced() {
+        Listener<SelectionChangedEvent> listener = mock(Listener.class);
+        ArgumentCaptor<SelectionChangedEvent> captor = ArgumentCaptor.forClass(SelectionChangedEvent.class);
+        eventStudio().add(SelectionChangedEvent.class, listener, MODULE);
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> {
+            victim.getSelectionModel().select(0);
+            victim.getSelectionModel().select(2);
+            victim.getSelectionModel().selectAll();
+        });
+        WaitForAsyncUtils.waitForFxEvents();
+        verify(listener).onEvent(captor.capture());
+        assertEquals(4, captor.getValue().getSelectedCount());
+    }
+
     @Test
     public void clearSelectionByclickOn() {
         clickOn("temp.pdf");
@@ -341,6 +419,40 @@ public class SelectionTableTest extends ApplicationTest {
         assertEquals(1, victim.getSelectionModel().getSelectedIndices().size());
     }
 
+    @Test
+    public void removeItemsSingleChange() {
+        ObservableList<String> items = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        int[] changes = new int[1];
+        items.addListener((ListChangeListener<String>) c -> changes[0]++);
+        assertThat(SelectionTable.removeItems(items, Arrays.asList(3, 0, 10, 3)), contains("a", "d"));
+        assertThat(items, contains("b", "c", "e"));
+        assertEquals(1, changes[0]);
+    }
+
+    @Test
+    public void moveItemsUp() {
+        ObservableList<String> items = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        int[] changes = new int[1];
+        items.addListener((ListChangeListener<String>) c -> changes[0]++);
+        assertEquals(1, SelectionTable.moveItems(items, Arrays.asList(2, 4), 1));
+        assertThat(items, contains("a", "c", "e", "b", "d"));
+        assertEquals(1, changes[0]);
+    }
+
+    @Test
+    public void moveItemsDown() {
+        ObservableList<String> items = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        assertEquals(2, SelectionTable.moveItems(items, Arrays.asList(0, 1), 3));
+        assertThat(items, contains("c", "d", "a", "b", "e"));
+    }
+
+    @Test
+    public void moveItemsToTheEnd() {
+        ObservableList<String> items = FXCollections.observableArrayList("a", "b", "c", "d", "e");
+        assertEquals(3, SelectionTable.moveItems(items, Arrays.asList(0, 2), -1));
+        assertThat(items, contains("b", "d", "e", "a", "c"));
+    }
+
     @Test
     public void removeRelease() {
         Optional<SelectionTableRowData> item = victim.getItems().stream()
@@ -30,6 +30,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.pdfsam.pdf.PdfDocumentDescriptor;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 /**
@@ -152,4 +153,22 @@ public class MoveTypeTest {
         MoveType.DOWN.move(indices, items, -1);
         assertThat(items, contains(first, third, second, fourth));
     }
+
+    @Test
+    public void moveUpSingleChange() {
+        int[] changes = new int[1];
+        items.addListener((ListChangeListener<PdfDocumentDescriptor>) c -> changes[0]++);
+        MoveType.UP.move(new Integer[] { 1, 3 }, items, -1);
+        assertThat(items, contains(second, first, fourth, third));
+        assertEquals(1, changes[0]);
+    }
+
+    @Test
+    public void moveDownSingleChange() {
+        int[] changes = new int[1];
+        items.addListener((ListChangeListener<PdfDocumentDescriptor>) c -> changes[0]++);
+        MoveType.DOWN.move(new Integer[] { 0, 2 }, items, -1);
+        assertThat(items, contains(second, first, fourth, third));
+        assertEquals(1, changes[0]);
+    }
 }
@@ -0,0 +1,139 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.support;
+
+import static org.pdfsam.support.RequireUtils.require;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+
+/**
+ * Rough benchmark comparing the {@link CircularObservableList} with the previous {@link LinkedList} based implementation, simulating a log
+ * view with a large rows limit: messages are appended in small batches, evicting the eldest, and the visible rows at the end of the list
+ * are read after every batch. It's not a unit test, run it from the IDE or with
+ * {@code java -cp <test classpath> org.pdfsam.ui.support.CircularObservableListBenchmark [capacity]}.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+public class CircularObservableListBenchmark {
+    private static final int BATCH = 20;
+    private static final int VISIBLE_ROWS = 40;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int capacity = args.length > 0 ? Integer.parseInt(args[0]) : 50000;
+        for (int i = 0; i < ROUNDS; i++) {
+            System.out.printf("Round %d%n", i + 1);
+            run("LinkedList", capacity, LinkedListCircularObservableList::new);
+            run("RingBuffer", capacity, CircularObservableList::new);
+        }
+    }
+
+    private static void run(String name, int capacity, IntFunction<ObservableList<String>> factory) {
+        ObservableList<String> victim = factory.apply(capacity);
+        int[] changes = new int[1];
+        victim.addListener((ListChangeListener<String>) c -> changes[0]++);
+        long start = System.nanoTime();
+        long checksum = 0;
+        for (int i = 0; i < capacity * 2; i += BATCH) {
+            String[] batch = new String[BATCH];
+            for (int j = 0; j < BATCH; j++) {
+                batch[j] = Integer.toString(i + j);
+            }
+            victim.addAll(batch);
+            for (int row = Math.max(0, victim.size() - VISIBLE_ROWS); row < victim.size(); row++) {
+                checksum += victim.get(row).length();
+            }
+        }
+        System.out.printf("  %-10s %6dms %8d changes (checksum %d)%n", name,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), changes[0], checksum);
+    }
+
+    /**
+     * The {@link LinkedList} based implementation the {@link CircularObservableList} used to have
+     */
+    private static class LinkedListCircularObservableList<E> extends ModifiableObservableListBase<E> {
+        private LinkedList<E> wrapped = new LinkedList<>();
+        private int maxCapacity;
+
+        LinkedListCircularObservableList(int maxCapacity) {
+            require(maxCapacity > 0, "Max capacity must be a positive value");
+            this.maxCapacity = maxCapacity;
+        }
+
+        private void houseKeep() {
+            while (size() > maxCapacity) {
+                remove(0);
+            }
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            boolean retVal = false;
+            try {
+                beginChange();
+                retVal = wrapped.addAll(index, c);
+                nextAdd(index, index + c.size());
+                houseKeep();
+                modCount++;
+            } finally {
+                endChange();
+            }
+            return retVal;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            return addAll(size(), c);
+        }
+
+        @Override
+        public E get(int index) {
+            return wrapped.get(index);
+        }
+
+        @Override
+        public int size() {
+            return wrapped.size();
+        }
+
+        @Override
+        protected void doAdd(int index, E element) {
+            wrapped.add(index, element);
+            houseKeep();
+        }
+
+        @Override
+        protected E doSet(int index, E element) {
+            return wrapped.set(index, element);
+        }
+
+        @Override
+        protected E doRemove(int index) {
+            return wrapped.remove(index);
+        }
+    }
+}
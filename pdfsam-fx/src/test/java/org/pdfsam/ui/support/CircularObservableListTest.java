@@ -22,11 +22,16 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 import org.pdfsam.support.CircularLinkedList;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ListChangeListener.Change;
+
 /**
  * @author Andrea Vacondio
  *
@@ -85,4 +90,45 @@ public class CircularObservableListTest {
         assertEquals(Integer.valueOf(2), victim.get(1));
         assertEquals(Integer.valueOf(3), victim.get(2));
     }
+
+    @Test
+    public void evictionIsSingleChange() {
+        CircularObservableList<Integer> victim = new CircularObservableList<>(3);
+        victim.addAll(Arrays.asList(1, 2, 3));
+        List<Change<? extends Integer>> changes = new ArrayList<>();
+        victim.addListener((ListChangeListener<Integer>) c -> changes.add(c));
+        victim.addAll(Arrays.asList(4, 5));
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(3, 4, 5), victim);
+        Change<? extends Integer> change = changes.get(0);
+        List<Integer> removed = new ArrayList<>();
+        List<Integer> added = new ArrayList<>();
+        while (change.next()) {
+            removed.addAll(change.getRemoved());
+            added.addAll(change.getAddedSubList());
+        }
+        assertEquals(Arrays.asList(1, 2), removed);
+        assertEquals(Arrays.asList(4, 5), added);
+    }
+
+    @Test
+    public void setMaxCapacity() {
+        CircularObservableList<Integer> victim = new CircularObservableList<>(4);
+        victim.addAll(Arrays.asList(1, 2, 3, 4));
+        List<Change<? extends Integer>> changes = new ArrayList<>();
+        victim.addListener((ListChangeListener<Integer>) c -> changes.add(c));
+        victim.setMaxCapacity(2);
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(3, 4), victim);
+    }
+
+    @Test
+    public void clear() {
+        CircularObservableList<Integer> victim = new CircularObservableList<>(4);
+        victim.addAll(Arrays.asList(1, 2, 3, 4));
+        victim.clear();
+        assertTrue(victim.isEmpty());
+        victim.add(5);
+        assertEquals(Arrays.asList(5), victim);
+    }
 }
@@ -21,6 +21,7 @@ package org.pdfsam;
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.pdfsam.support.StartupTimeline.startupTimeline;
 import static org.pdfsam.ui.commons.SetActiveModuleRequest.activeteModule;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
@@ -29,9 +30,15 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.DurationFormatUtils;
@@ -45,6 +52,7 @@ import org.pdfsam.module.Module;
 import org.pdfsam.news.FetchLatestNewsRequest;
 import org.pdfsam.news.NewsService;
 import org.pdfsam.premium.FetchPremiumModulesRequest;
+import org.pdfsam.support.StartupTimeline.Phase;
 import org.pdfsam.ui.MainPane;
 import org.pdfsam.ui.SetLatestStageStatusRequest;
 import org.pdfsam.ui.StageMode;
@@ -62,7 +70,6 @@ import org.pdfsam.ui.log.LoggerConfig;
 import org.pdfsam.ui.module.OpenButton;
 import org.pdfsam.ui.notification.NotificationsContainer;
 import org.pdfsam.ui.workspace.LoadWorkspaceEvent;
-import org.pdfsam.ui.workspace.SaveWorkspaceEvent;
 import org.pdfsam.update.UpdateCheckRequest;
 import org.sejda.core.Sejda;
 import org.sejda.eventstudio.annotation.EventListener;
@@ -73,6 +80,7 @@ import org.slf4j.LoggerFactory;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.application.HostServices;
 import javafx.application.Platform;
@@ -95,6 +103,8 @@ public class PdfsamApp extends Application {
     private static final Logger LOG = LoggerFactory.getLogger(PdfsamApp.class);
 
     private static StopWatch STOPWATCH = new StopWatch();
+    private static final long STARTUP_PROFILE_TIMEOUT_SECONDS = 60;
+    private static final String FIRST_FRAME = "first frame";
     private Stage primaryStage;
     private UserContext userContext = new DefaultUserContext();
     private List<String> rawParameters;
@@ -105,6 +115,7 @@ public class PdfsamApp extends Application {
     @Override
     public void init() {
         STOPWATCH.start();
+        Phase phase = startupTimeline().begin("init");
         rawParameters = getParameters().getRaw();
         verboseIfRequired();
         startLogAppender();
@@ -127,6 +138,7 @@ public class PdfsamApp extends Application {
                 LOG.warn("Unable to set initial directory, default path is invalid.", e);
             }
         }
+        phase.end();
     }
 
     private void verboseIfRequired() {
@@ -157,28 +169,102 @@ public class PdfsamApp extends Application {
         primaryStage.getIcons().addAll(injector.instancesOfType(Image.class));
         primaryStage.setTitle(injector.instance(Pdfsam.class).name());
         primaryStage.setOnCloseRequest(e -> Platform.exit());
-        requestPremiumModulesDescriptionIfRequired();
         initWindowsStatusController(primaryStage);
         initDialogsOwner(primaryStage);
         initActiveModule();
-        loadWorkspaceIfRequired();
-        initOpenButtons();
-        primaryStage.show();
-
-        requestCheckForUpdateIfRequired();
-        requestLatestNewsIfRequired();
         eventStudio().addAnnotatedListeners(this);
+        StartupOrchestrator startup = initStartup();
+        primaryStage.show();
+        onFirstFrame(startup);
         closeSplash();
         STOPWATCH.stop();
         LOG.info(DefaultI18nContext.getInstance().i18n("Started in {0}",
                 DurationFormatUtils.formatDurationWords(STOPWATCH.getTime(), true, true)));
-        new InputPdfArgumentsController().accept(rawParameters);
+    }
+
+    /**
+     * Work that is not needed to show the main window. Tasks not touching the UI run on a background thread, the others on the JavaFX
+     * Application Thread, after the first frame is rendered.
+     */
+    private StartupOrchestrator initStartup() {
+        ExecutorService background = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Executor fx = Platform::runLater;
+        StartupOrchestrator startup = new StartupOrchestrator().milestone(FIRST_FRAME)
+                .task("premium modules request", background, this::requestPremiumModulesDescriptionIfRequired)
+                .task("workspace load request", background, this::loadWorkspaceIfRequired)
+                .task("open buttons", fx, this::initOpenButtons, FIRST_FRAME)
+                .task("modules panels", fx, () -> prewarm(injector.instancesOfType(Module.class).iterator()),
+                        FIRST_FRAME)
+                .task("update check request", background, this::requestCheckForUpdateIfRequired, FIRST_FRAME)
+                .task("news request", background, this::requestLatestNewsIfRequired, FIRST_FRAME)
+                .task("input pdf arguments", fx, () -> new InputPdfArgumentsController().accept(rawParameters),
+                        FIRST_FRAME, "open buttons");
+        startup.completion().whenComplete((r, e) -> background.shutdown());
+        return startup;
     }
 
     private Injector initInjector() {
-        Injector.addConfig(new PdfsamConfig(), new LoggerConfig(), new PreferenceConfig(), new DashboardConfig());
+        startupTimeline().measure("application config", () -> Injector.addConfig(new PdfsamConfig(),
+                new LoggerConfig(), new PreferenceConfig(), new DashboardConfig()));
         Services.initServices();
-        return Injector.start();
+        return startupTimeline().measure("injector start", Injector::start);
+    }
+
+    /**
+     * Waits for the first frame to be rendered and then closes the startup timeline, reporting the phases once they are all ended, and
+     * lets the startup continue with the tasks that were waiting for it
+     */
+    private void onFirstFrame(StartupOrchestrator startup) {
+        Phase phase = startupTimeline().begin(FIRST_FRAME);
+        new AnimationTimer() {
+            private int pulses = 0;
+
+            @Override
+            public void handle(long now) {
+                // the timer runs at the beginning of a pulse, the second one comes after the first frame is rendered
+                if (++pulses > 1) {
+                    stop();
+                    phase.end();
+                    LOG.info("First frame rendered in {}ms",
+                            TimeUnit.NANOSECONDS.toMillis(startupTimeline().elapsedNanos()));
+                    startupTimeline().close().orTimeout(STARTUP_PROFILE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                            .exceptionally(e -> startupTimeline().phases())
+                            .thenAccept(new StartupTimelineReport(startupProfile()));
+                    startup.complete(FIRST_FRAME);
+                }
+            }
+        }.start();
+    }
+
+    /**
+     * Builds the modules panels one at a time, letting the JavaFX Application Thread process other events in between
+     */
+    private static void prewarm(Iterator<Module> modules) {
+        if (modules.hasNext()) {
+            Platform.runLater(() -> {
+                modules.next().modulePanel();
+                prewarm(modules);
+            });
+        }
+    }
+
+    private Optional<Path> startupProfile() {
+        String destination = getParameters().getNamed().get("profile-startup");
+        try {
+            if (isNotBlank(destination)) {
+                return Optional.of(Paths.get(destination));
+            }
+        } catch (InvalidPathException e) {
+            LOG.warn("Invalid startup profile destination {}", destination, e);
+        }
+        if (rawParameters.contains("--profile-startup")) {
+            return Optional.of(Paths.get(System.getProperty("java.io.tmpdir"), "pdfsam-startup-profile.json"));
+        }
+        return Optional.empty();
     }
 
     private void initSejda() {
@@ -198,6 +284,7 @@ public class PdfsamApp extends Application {
     }
 
     private Scene initScene() {
+        Phase phase = startupTimeline().begin("scene");
         MainPane mainPane = injector.instance(MainPane.class);
 
         NotificationsContainer notifications = injector.instance(NotificationsContainer.class);
@@ -209,7 +296,8 @@ public class PdfsamApp extends Application {
         StylesConfig styles = injector.instance(StylesConfig.class);
 
         Scene mainScene = new Scene(main);
-        mainScene.getStylesheets().addAll(styles.styles());
+        phase.end();
+        startupTimeline().measure("stylesheets", () -> mainScene.getStylesheets().addAll(styles.styles()));
         mainScene.getAccelerators().put(new KeyCodeCombination(KeyCode.L, KeyCombination.SHORTCUT_DOWN),
                 () -> eventStudio().broadcast(ShowStageRequest.INSTANCE, "LogStage"));
         mainScene.getAccelerators().put(new KeyCodeCombination(KeyCode.Q, KeyCombination.SHORTCUT_DOWN),
@@ -226,7 +314,6 @@ public class PdfsamApp extends Application {
             status.setMode(StageMode.valueFor(this.primaryStage));
             eventStudio().broadcast(new SetLatestStageStatusRequest(status));
         }
-        saveWorkspaceIfRequired();
         eventStudio().broadcast(new ShutdownEvent());
         injector.close();
     }
@@ -310,15 +397,6 @@ public class PdfsamApp extends Application {
         }
     }
 
-    private void saveWorkspaceIfRequired() {
-        if (userContext.isSaveWorkspaceOnExit()) {
-            String workspace = userContext.getDefaultWorkspacePath();
-            if (isNotBlank(workspace) && Files.exists(Paths.get(workspace))) {
-                eventStudio().broadcast(new SaveWorkspaceEvent(new File(workspace), true));
-            }
-        }
-    }
-
     public static String getOpenCmd(String url) throws IOException {
         String os = System.getProperty("os.name").toLowerCase();
         if (os.indexOf("mac") >= 0) {
@@ -0,0 +1,116 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam;
+
+import static java.util.Objects.nonNull;
+import static org.pdfsam.support.RequireUtils.require;
+import static org.pdfsam.support.RequireUtils.requireNotBlank;
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+import static org.pdfsam.support.StartupTimeline.startupTimeline;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs the startup work that is not needed to show the main window. Each task runs on the given executor once the tasks and milestones
+ * it depends on are completed, a failing task is logged and doesn't prevent its dependents from running.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class StartupOrchestrator {
+    private static final Logger LOG = LoggerFactory.getLogger(StartupOrchestrator.class);
+
+    private final Map<String, CompletableFuture<Void>> steps = new LinkedHashMap<>();
+
+    /**
+     * Declares a milestone tasks can depend on, reached when {@link #complete(String)} is called
+     * 
+     * @param name
+     * @return this orchestrator
+     */
+    StartupOrchestrator milestone(String name) {
+        requireUnique(name);
+        steps.put(name, new CompletableFuture<>());
+        return this;
+    }
+
+    /**
+     * Declares a task
+     * 
+     * @param name
+     * @param executor
+     *            where the task runs
+     * @param action
+     * @param dependencies
+     *            names of the already declared tasks or milestones that have to complete before this task runs
+     * @return this orchestrator
+     */
+    StartupOrchestrator task(String name, Executor executor, Runnable action, String... dependencies) {
+        requireUnique(name);
+        requireNotNull(executor, "Executor cannot be null");
+        requireNotNull(action, "Action cannot be null");
+        CompletableFuture<?>[] prerequisites = Arrays.stream(dependencies).map(dependency -> {
+            require(steps.containsKey(dependency), "Unknown dependency " + dependency);
+            return steps.get(dependency);
+        }).toArray(CompletableFuture[]::new);
+        long declared = System.nanoTime();
+        steps.put(name, CompletableFuture.allOf(prerequisites).thenRunAsync(() -> {
+            long start = System.nanoTime();
+            startupTimeline().measure(name, action);
+            LOG.debug("Startup task {} completed in {}ms, {}ms after being declared", name,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - declared));
+        }, executor).whenComplete((r, e) -> {
+            if (nonNull(e)) {
+                LOG.warn("Startup task {} failed", name, e);
+            }
+        }).exceptionally(e -> null));
+        return this;
+    }
+
+    /**
+     * Completes the given milestone, running the tasks depending on it
+     * 
+     * @param milestone
+     */
+    void complete(String milestone) {
+        require(steps.containsKey(milestone), "Unknown milestone " + milestone);
+        steps.get(milestone).complete(null);
+    }
+
+    /**
+     * @return a future completing once all the tasks are completed
+     */
+    CompletableFuture<Void> completion() {
+        return CompletableFuture.allOf(steps.values().toArray(new CompletableFuture[0]));
+    }
+
+    private void requireUnique(String name) {
+        requireNotBlank(name, "Name cannot be blank");
+        require(!steps.containsKey(name), "Duplicated name " + name);
+    }
+}
@@ -0,0 +1,95 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.pdfsam.support.StartupTimeline.Phase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+/**
+ * Reports the startup phases to the log and, if a destination is given, to a JSON file
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class StartupTimelineReport implements Consumer<List<Phase>> {
+    private static final Logger LOG = LoggerFactory.getLogger(StartupTimelineReport.class);
+
+    private final Optional<Path> destination;
+
+    StartupTimelineReport(Optional<Path> destination) {
+        this.destination = destination;
+    }
+
+    @Override
+    public void accept(List<Phase> phases) {
+        for (Phase phase : phases) {
+            if (destination.isPresent()) {
+                LOG.info("Startup phase {} at {}ms: {}ms wall, {}ms cpu", phase, millis(phase.startNanos()),
+                        millis(phase.wallNanos()), millis(phase.cpuNanos()));
+            } else {
+                LOG.debug("Startup phase {} at {}ms: {}ms wall, {}ms cpu", phase, millis(phase.startNanos()),
+                        millis(phase.wallNanos()), millis(phase.cpuNanos()));
+            }
+        }
+        destination.ifPresent(file -> {
+            try {
+                JSON.std.with(JSON.Feature.PRETTY_PRINT_OUTPUT).write(toMap(phases), file.toFile());
+                LOG.info("Startup profile written to {}", file);
+            } catch (IOException e) {
+                LOG.warn("Unable to write the startup profile to {}", file, e);
+            }
+        });
+    }
+
+    static Map<String, Object> toMap(List<Phase> phases) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("phases", phases.stream().map(phase -> {
+            Map<String, Object> current = new LinkedHashMap<>();
+            current.put("name", phase.name());
+            current.put("thread", phase.thread());
+            current.put("startMillis", millis(phase.startNanos()));
+            current.put("wallMillis", millis(phase.wallNanos()));
+            current.put("cpuMillis", millis(phase.cpuNanos()));
+            return current;
+        }).collect(Collectors.toList()));
+        return report;
+    }
+
+    /**
+     * @return milliseconds with microseconds precision, -1 if the value is not available
+     */
+    private static double millis(long nanos) {
+        if (nanos < 0) {
+            return -1;
+        }
+        return Math.round(nanos / 1000d) / 1000d;
+    }
+}
@@ -18,56 +18,152 @@
  */
 package org.pdfsam.sound;
 
+import static java.util.Optional.ofNullable;
 import static org.pdfsam.support.RequireUtils.requireNotBlank;
+import static org.pdfsam.support.RequireUtils.requireNotNull;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
 import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.pdfsam.context.UserContext;
+import org.pdfsam.module.TaskExecutionRequestEvent;
 import org.sejda.eventstudio.annotation.EventListener;
 import org.sejda.injector.Auto;
 import org.sejda.model.notification.event.TaskExecutionCompletedEvent;
 import org.sejda.model.notification.event.TaskExecutionFailedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javafx.scene.media.AudioClip;
 
 /**
- * Controller responding to sound related events.
+ * Controller responding to sound related events. Sounds are decoded once, in background when a task is requested, and each sound is
+ * played at most once every {@link #MIN_INTERVAL_MILLIS} so that bursts of completed tasks don't pile up.
  * 
  * @author Andrea Vacondio
  * 
  */
 @Auto
 public class PlaySoundController {
+    private static final Logger LOG = LoggerFactory.getLogger(PlaySoundController.class);
+    static final long MIN_INTERVAL_MILLIS = 1000;
+
     private UserContext userContext;
-    private String okSoundURI;
-    private String errorSoundURI;
+    private Function<String, Runnable> loader;
+    private LongSupplier clock;
+    private Sound ok;
+    private Sound error;
+    private final ThreadPoolExecutor preloader = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), r -> {
+                Thread thread = new Thread(r, "sound-preload");
+                thread.setDaemon(true);
+                return thread;
+            });
 
     @Inject
     public PlaySoundController(UserContext userContext, @Named("okSound") String okSoundURI,
             @Named("errorSound") String errorSoundURI) {
+        this(userContext, okSoundURI, errorSoundURI, PlaySoundController::load, System::currentTimeMillis);
+    }
+
+    /**
+     * @param loader
+     *            function loading the sound at the given URI and returning the action playing it
+     * @param clock
+     */
+    PlaySoundController(UserContext userContext, String okSoundURI, String errorSoundURI,
+            Function<String, Runnable> loader, LongSupplier clock) {
         requireNotBlank(okSoundURI, "");
         requireNotBlank(errorSoundURI, "");
+        requireNotNull(loader, "Loader cannot be null");
+        requireNotNull(clock, "Clock cannot be null");
         this.userContext = userContext;
-        this.okSoundURI = okSoundURI;
-        this.errorSoundURI = errorSoundURI;
+        this.loader = loader;
+        this.clock = clock;
+        this.ok = new Sound(okSoundURI);
+        this.error = new Sound(errorSoundURI);
+        this.preloader.allowCoreThreadTimeOut(true);
         eventStudio().addAnnotatedListeners(this);
     }
 
+    @EventListener
+    public void preload(TaskExecutionRequestEvent event) {
+        if (userContext.isPlaySounds()) {
+            preloader.execute(() -> {
+                ok.clip();
+                error.clip();
+            });
+        }
+    }
+
     @EventListener
     public void playFailed(TaskExecutionFailedEvent event) {
-        playSound(errorSoundURI);
+        playSound(error);
     }
 
     @EventListener
     public void playCompleted(TaskExecutionCompletedEvent event) {
-        playSound(okSoundURI);
+        playSound(ok);
     }
 
-    private void playSound(String soundURI) {
+    private void playSound(Sound sound) {
         if (userContext.isPlaySounds()) {
-            new AudioClip(soundURI).play(1);
+            sound.play();
+        }
+    }
+
+    private static Runnable load(String soundURI) {
+        AudioClip clip = new AudioClip(soundURI);
+        return () -> clip.play(1);
+    }
+
+    /**
+     * A sound that is loaded once and played at most once every {@link PlaySoundController#MIN_INTERVAL_MILLIS}
+     */
+    private class Sound {
+        private final String uri;
+        private final AtomicLong lastPlayed = new AtomicLong(-1);
+        private boolean loaded = false;
+        private Runnable clip;
+
+        Sound(String uri) {
+            this.uri = uri;
+        }
+
+        void play() {
+            long now = clock.getAsLong();
+            long last = lastPlayed.get();
+            if (last >= 0 && now - last < MIN_INTERVAL_MILLIS) {
+                LOG.trace("Skipping sound {} played {}ms ago", uri, now - last);
+                return;
+            }
+            if (lastPlayed.compareAndSet(last, now)) {
+                clip().ifPresent(Runnable::run);
+            }
+        }
+
+        /**
+         * @return the loaded clip or an empty optional if the sound cannot be loaded, in which case loading is not attempted again
+         */
+        synchronized Optional<Runnable> clip() {
+            if (!loaded) {
+                loaded = true;
+                try {
+                    clip = loader.apply(uri);
+                } catch (RuntimeException e) {
+                    LOG.warn("Unable to load sound {}", uri, e);
+                }
+            }
+            return ofNullable(clip);
         }
     }
 }
@@ -18,25 +18,22 @@
  */
 package org.pdfsam.ui.dashboard.modules;
 
-import static java.util.Arrays.stream;
 import static org.pdfsam.ui.commons.SetActiveModuleRequest.activeteModule;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
-import java.io.File;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
 
 import org.pdfsam.module.Module;
 import org.pdfsam.pdf.PdfDocumentDescriptor;
 import org.pdfsam.pdf.PdfLoadRequestEvent;
-import org.pdfsam.support.io.FileType;
+import org.pdfsam.support.io.PdfFilesFinder;
 import org.pdfsam.ui.commons.UrlButton;
 
 import de.jensd.fx.glyphs.materialdesignicons.MaterialDesignIcon;
 import de.jensd.fx.glyphs.materialdesignicons.utils.MaterialDesignIconFactory;
+import javafx.application.Platform;
 import javafx.scene.input.DragEvent;
-import javafx.scene.input.Dragboard;
 import javafx.scene.input.TransferMode;
 import javafx.scene.layout.VBox;
 
@@ -80,22 +77,16 @@ class ModulesDashboardTile extends DashboardTile {
 
     private Consumer<DragEvent> onDragDropped() {
         return (DragEvent e) -> {
-            final PdfLoadRequestEvent loadEvent = new PdfLoadRequestEvent(id);
-            getFilesFromDragboard(e.getDragboard()).filter(f -> FileType.PDF.matches(f.getName()))
-                    .map(PdfDocumentDescriptor::newDescriptorNoPassword).forEach(loadEvent::add);
-            if (!loadEvent.getDocuments().isEmpty()) {
-                eventStudio().broadcast(activeteModule(id));
+            AtomicBoolean activated = new AtomicBoolean(false);
+            PdfFilesFinder.getInstance().find(e.getDragboard().getFiles(), files -> Platform.runLater(() -> {
+                final PdfLoadRequestEvent loadEvent = new PdfLoadRequestEvent(id);
+                files.stream().map(PdfDocumentDescriptor::newDescriptorNoPassword).forEach(loadEvent::add);
+                if (!activated.getAndSet(true)) {
+                    eventStudio().broadcast(activeteModule(id));
+                }
                 eventStudio().broadcast(loadEvent, id);
-            }
+            }));
             e.setDropCompleted(true);
         };
     }
-
-    private Stream<File> getFilesFromDragboard(Dragboard board) {
-        List<File> files = board.getFiles();
-        if (files.size() == 1 && files.get(0).isDirectory()) {
-            return stream(files.get(0).listFiles()).sorted();
-        }
-        return files.stream();
-    }
 }
@@ -117,8 +117,9 @@ public class OpenWithDialog extends Stage {
                 });
 
                 current.setOnAction((e) -> {
-                    eventStudio().broadcast(new ClearModuleEvent(), m.id());
+                    // activating the module builds its panel, so it's there to receive the events
                     eventStudio().broadcast(activeteModule(m.id()));
+                    eventStudio().broadcast(new ClearModuleEvent(), m.id());
                     hide();
                     PdfLoadRequestEvent loadEvent = new PdfLoadRequestEvent(m.id());
                     event.pdfs.stream().map(Path::toFile).map(PdfDocumentDescriptor::newDescriptorNoPassword)
@@ -18,10 +18,22 @@
  */
 package org.pdfsam.ui.dialog;
 
-import static org.apache.commons.lang3.ArrayUtils.isNotEmpty;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -38,6 +50,7 @@ import org.sejda.model.output.FileOrDirectoryTaskOutput;
 import org.sejda.model.output.FileTaskOutput;
 import org.sejda.model.output.TaskOutputDispatcher;
 import org.sejda.model.parameter.base.AbstractParameters;
+import org.sejda.model.parameter.base.SingleOrMultipleOutputTaskParameters;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -50,6 +63,10 @@ import org.slf4j.LoggerFactory;
 @Auto
 public class OverwriteDialogController {
     private static final Logger LOG = LoggerFactory.getLogger(OverwriteDialogController.class);
+    /**
+     * Variables in the output prefix, ex: [CURRENTPAGE] or [FILENUMBER###]
+     */
+    private static final Pattern PREFIX_VARIABLE = Pattern.compile("\\[[^\\]]*\\]");
 
     private Provider<OverwriteConfirmationDialog> dialog;
 
@@ -90,7 +107,7 @@ public class OverwriteDialogController {
     }
 
     private void onDirectory(AbstractParameters params, File dir) {
-        if (isNotEmpty(dir.listFiles())) {
+        if (containsCandidateOutput(dir, candidateOutputName(params))) {
             if (!dialog.get().title(DefaultI18nContext.getInstance().i18n("Directory not empty"))
                     .messageTitle(DefaultI18nContext.getInstance().i18n("The selected directory is not empty"))
                     .messageContent(DefaultI18nContext.getInstance()
@@ -116,4 +133,54 @@ public class OverwriteDialogController {
             params.setExistingOutputPolicy(ExistingOutputPolicy.OVERWRITE);
         }
     }
+
+    /**
+     * Streams the directory content stopping at the first file that might be overwritten by the task, without listing the whole
+     * directory in memory.
+     *
+     * @return true if the directory contains a file with a name that could be generated by the task
+     */
+    private static boolean containsCandidateOutput(File dir, Predicate<String> candidate) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir.toPath())) {
+            for (Path file : files) {
+                if (candidate.test(file.getFileName().toString())) {
+                    LOG.trace("Found existing file {} that might be overwritten", file);
+                    return true;
+                }
+            }
+        } catch (NoSuchFileException | NotDirectoryException e) {
+            LOG.trace("Output directory {} doesn't exist", dir);
+        } catch (IOException | DirectoryIteratorException e) {
+            LOG.warn("Unable to check the content of the output directory {}", dir, e);
+        }
+        return false;
+    }
+
+    /**
+     * Generated file names contain, in order, the literal parts of the output prefix. When a prefix is set we only consider the
+     * existing files containing those parts, otherwise any existing file is a potential collision.
+     */
+    private static Predicate<String> candidateOutputName(AbstractParameters params) {
+        if (params instanceof SingleOrMultipleOutputTaskParameters) {
+            String prefix = ((SingleOrMultipleOutputTaskParameters) params).getOutputPrefix();
+            if (isNotBlank(prefix)) {
+                List<String> literals = Arrays.stream(PREFIX_VARIABLE.split(prefix)).filter(s -> !s.isEmpty())
+                        .collect(Collectors.toList());
+                return name -> containsInOrder(name, literals);
+            }
+        }
+        return name -> true;
+    }
+
+    private static boolean containsInOrder(String name, List<String> literals) {
+        int from = 0;
+        for (String literal : literals) {
+            int index = name.indexOf(literal, from);
+            if (index < 0) {
+                return false;
+            }
+            from = index + literal.length();
+        }
+        return true;
+    }
 }
@@ -32,8 +32,8 @@ import javafx.scene.control.TabPane;
 class InfoPane extends TabPane {
 
     @Inject
-    InfoPane(SummaryTab summary, KeywordsTab keywords) {
+    InfoPane(SummaryTab summary, KeywordsTab keywords, PreviewTab preview) {
         setSide(Side.LEFT);
-        getTabs().addAll(summary, keywords);
+        getTabs().addAll(summary, keywords, preview);
     }
 }
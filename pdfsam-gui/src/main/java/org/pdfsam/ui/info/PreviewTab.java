@@ -0,0 +1,122 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.info;
+
+import static java.util.Optional.ofNullable;
+import static org.sejda.eventstudio.StaticStudio.eventStudio;
+
+import java.awt.image.BufferedImage;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import javax.inject.Inject;
+
+import org.pdfsam.i18n.DefaultI18nContext;
+import org.pdfsam.pdf.PdfDescriptorLoadingStatus;
+import org.pdfsam.pdf.PdfDocumentDescriptor;
+import org.pdfsam.thumbnail.ThumbnailsService;
+import org.pdfsam.ui.commons.ShowPdfDescriptorRequest;
+import org.sejda.eventstudio.annotation.EventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
+import javafx.embed.swing.SwingFXUtils;
+import javafx.geometry.Pos;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Tab;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.VBox;
+
+/**
+ * Tab displaying a thumbnail of the first page of the PDF document.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class PreviewTab extends Tab implements ChangeListener<PdfDescriptorLoadingStatus> {
+    private static final Logger LOG = LoggerFactory.getLogger(PreviewTab.class);
+    private static final Set<PdfDescriptorLoadingStatus> RENDERABLE = EnumSet.of(PdfDescriptorLoadingStatus.LOADED,
+            PdfDescriptorLoadingStatus.LOADED_WITH_USER_PWD_DECRYPTION);
+
+    private ThumbnailsService thumbnails;
+    private ImageView preview = new ImageView();
+    private PdfDocumentDescriptor current;
+    private CompletableFuture<BufferedImage> request;
+
+    @Inject
+    PreviewTab(ThumbnailsService thumbnails) {
+        this.thumbnails = thumbnails;
+        VBox content = new VBox(preview);
+        content.getStyleClass().add("info-props");
+        content.setAlignment(Pos.TOP_CENTER);
+        preview.getStyleClass().add("info-preview");
+        preview.setPreserveRatio(true);
+        setText(DefaultI18nContext.getInstance().i18n("Preview"));
+        setClosable(false);
+        ScrollPane scroll = new ScrollPane(content);
+        scroll.setFitToHeight(true);
+        scroll.setFitToWidth(true);
+        setContent(scroll);
+        eventStudio().addAnnotatedListeners(this);
+    }
+
+    @EventListener
+    void requestShow(ShowPdfDescriptorRequest event) {
+        if (current != event.getDescriptor()) {
+            current = event.getDescriptor();
+            current.loadingStatus().addListener(new WeakChangeListener<>(this));
+            preview.setImage(null);
+            requestPreview();
+        }
+    }
+
+    /**
+     * Requests the thumbnail of the first page, discarding any request still pending for a previously shown document
+     */
+    private void requestPreview() {
+        ofNullable(request).ifPresent(r -> r.cancel(true));
+        request = null;
+        if (RENDERABLE.contains(current.loadingStatus().getValue()) && current.pages().getValue() > 0) {
+            PdfDocumentDescriptor descriptor = current;
+            request = thumbnails.thumbnail(descriptor, 1);
+            request.thenAccept(image -> Platform.runLater(() -> {
+                if (current == descriptor) {
+                    preview.setImage(SwingFXUtils.toFXImage(image, null));
+                }
+            })).exceptionally(e -> {
+                LOG.debug("Unable to show the preview of {}", descriptor.getFileName(), e);
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public void changed(ObservableValue<? extends PdfDescriptorLoadingStatus> observable,
+            PdfDescriptorLoadingStatus oldValue, PdfDescriptorLoadingStatus newValue) {
+        if (RENDERABLE.contains(newValue)) {
+            LOG.trace("Descriptor loaded, updating preview tab");
+            Platform.runLater(() -> requestPreview());
+        }
+    }
+}
@@ -22,12 +22,15 @@ import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
 import java.io.File;
 import java.text.DateFormat;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.time.FastDateFormat;
 import org.pdfsam.i18n.DefaultI18nContext;
+import org.pdfsam.pdf.PagesGeometry;
 import org.pdfsam.pdf.PdfDescriptorLoadingStatus;
 import org.pdfsam.pdf.PdfDocumentDescriptor;
+import org.pdfsam.pdf.PdfLoadTimings;
 import org.pdfsam.ui.commons.ShowPdfDescriptorRequest;
 import org.sejda.eventstudio.annotation.EventListener;
 import org.sejda.model.pdf.PdfMetadataKey;
@@ -61,6 +64,8 @@ class SummaryTab extends BaseInfoTab implements ChangeListener<PdfDescriptorLoad
     private Label creator = createValueLabel();
     private Label producer = createValueLabel();
     private Label subject = createValueLabel();
+    private Label pageSize = createValueLabel();
+    private Label loadTime = createValueLabel();
     private PdfDocumentDescriptor current;
 
     SummaryTab() {
@@ -87,6 +92,10 @@ class SummaryTab extends BaseInfoTab implements ChangeListener<PdfDescriptorLoad
         grid().add(producer, 1, 9);
         grid().add(createTitleLabel("Subject"), 0, 10);
         grid().add(subject, 1, 10);
+        grid().add(createTitleLabel("Page size"), 0, 11);
+        grid().add(pageSize, 1, 11);
+        grid().add(createTitleLabel("Load time"), 0, 12);
+        grid().add(loadTime, 1, 12);
         eventStudio().addAnnotatedListeners(this);
     }
 
@@ -115,6 +124,36 @@ class SummaryTab extends BaseInfoTab implements ChangeListener<PdfDescriptorLoad
         creator.setText(current.getInformation(PdfMetadataKey.CREATOR.getKey()));
         subject.setText(current.getInformation(PdfMetadataKey.SUBJECT.getKey()));
         producer.setText(current.getInformation("Producer"));
+        pageSize.setText(formatPageSize(current.getPagesGeometry()));
+        loadTime.setText(formatLoadTimings(current.getLoadTimings()));
+    }
+
+    /**
+     * @return the size in millimeters of the first page, noting if the other pages have a different size
+     */
+    private static String formatPageSize(PagesGeometry geometry) {
+        if (geometry == null || geometry.numberOfPages() == 0) {
+            return "";
+        }
+        String size = String.format("%.0f x %.0f mm", toMillimeters(geometry.width(1)),
+                toMillimeters(geometry.height(1)));
+        if (geometry.isUniform()) {
+            return size;
+        }
+        return String.format("%s (%s)", size, DefaultI18nContext.getInstance().i18n("pages have different sizes"));
+    }
+
+    private static float toMillimeters(float points) {
+        return points * 25.4f / 72;
+    }
+
+    private static String formatLoadTimings(PdfLoadTimings timings) {
+        if (timings.isEmpty()) {
+            return "";
+        }
+        return String.format("%dms (%s)", timings.totalMillis(),
+                timings.phases().keySet().stream().map(p -> String.format("%s %dms", p, timings.millis(p)))
+                        .collect(Collectors.joining(", ")));
     }
 
     @Override
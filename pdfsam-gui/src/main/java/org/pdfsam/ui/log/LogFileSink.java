@@ -0,0 +1,106 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.log;
+
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+import static org.sejda.eventstudio.StaticStudio.eventStudio;
+
+import java.nio.file.Path;
+
+import org.pdfsam.ShutdownEvent;
+import org.sejda.eventstudio.annotation.EventListener;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import ch.qos.logback.core.rolling.SizeAndTimeBasedRollingPolicy;
+import ch.qos.logback.core.util.FileSize;
+
+/**
+ * Persistent sink for the application log. Logging events are written asynchronously, as structured records, to a file that is rolled
+ * daily or when it grows beyond a given size, retaining a bounded history of compressed files.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+public class LogFileSink {
+    static final String LOG_FILE_NAME = "pdfsam.log";
+    private static final int QUEUE_SIZE = 8192;
+    private static final String MAX_FILE_SIZE = "10MB";
+    private static final String TOTAL_SIZE_CAP = "100MB";
+    private static final int MAX_HISTORY_DAYS = 7;
+
+    private final AsyncAppender appender = new AsyncAppender();
+    private final RollingFileAppender<ILoggingEvent> fileAppender = new RollingFileAppender<>();
+
+    public LogFileSink(Path directory) {
+        requireNotNull(directory, "Logs directory cannot be null");
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(context);
+        encoder.start();
+
+        fileAppender.setContext(context);
+        fileAppender.setName("PDFSAM_FILE");
+        fileAppender.setFile(directory.resolve(LOG_FILE_NAME).toString());
+        fileAppender.setEncoder(encoder);
+        // the asynchronous appender already keeps the I/O off the logging threads, records are flushed immediately so the last ones
+        // are not lost if the application crashes or is killed
+        fileAppender.setImmediateFlush(true);
+
+        SizeAndTimeBasedRollingPolicy<ILoggingEvent> policy = new SizeAndTimeBasedRollingPolicy<>();
+        policy.setContext(context);
+        policy.setParent(fileAppender);
+        policy.setFileNamePattern(directory.resolve("pdfsam-%d{yyyy-MM-dd}.%i.log.gz").toString());
+        policy.setMaxFileSize(FileSize.valueOf(MAX_FILE_SIZE));
+        policy.setTotalSizeCap(FileSize.valueOf(TOTAL_SIZE_CAP));
+        policy.setMaxHistory(MAX_HISTORY_DAYS);
+        policy.start();
+        fileAppender.setRollingPolicy(policy);
+        fileAppender.start();
+
+        appender.setContext(context);
+        appender.setName("PDFSAM_ASYNC_FILE");
+        appender.setQueueSize(QUEUE_SIZE);
+        appender.setNeverBlock(true);
+        // caller data is not part of the records and the diagnostic context is captured by the appender itself
+        appender.setIncludeCallerData(false);
+        appender.addAppender(fileAppender);
+        appender.start();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(appender);
+        eventStudio().addAnnotatedListeners(this);
+    }
+
+    boolean isStarted() {
+        return appender.isStarted() && fileAppender.isStarted();
+    }
+
+    /**
+     * Flushes the pending records and closes the log file
+     */
+    @EventListener
+    public void onShutdown(ShutdownEvent event) {
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger(Logger.ROOT_LOGGER_NAME).detachAppender(appender);
+        appender.stop();
+    }
+}
@@ -0,0 +1,219 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.log;
+
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Incremental index over a buffer of {@link LogMessage}s where messages are appended at the tail and evicted from the head. Each message
+ * is identified by its position since the last compaction, levels are indexed with one bitset per {@link LogLevel} and text with the
+ * postings list of every trigram of the lower case message. Searches intersect the index to find candidates and only verify those.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class LogIndex {
+    static final int GRAM_LENGTH = 3;
+    private static final int COMPACTION_THRESHOLD = 4096;
+
+    private final Map<LogLevel, BitSet> levels = new EnumMap<>(LogLevel.class);
+    private final Map<String, Postings> grams = new HashMap<>();
+    /**
+     * position of the first message in the buffer
+     */
+    private int head = 0;
+    /**
+     * position of the next appended message
+     */
+    private int tail = 0;
+
+    LogIndex() {
+        for (LogLevel level : LogLevel.values()) {
+            levels.put(level, new BitSet());
+        }
+    }
+
+    void append(LogMessage message) {
+        int position = tail++;
+        levels.get(message.getLevel()).set(position);
+        for (String gram : grams(lowerCase(message.getMessage()))) {
+            grams.computeIfAbsent(gram, k -> new Postings()).add(position);
+        }
+    }
+
+    void appendAll(Collection<? extends LogMessage> messages) {
+        messages.forEach(this::append);
+    }
+
+    /**
+     * Evicts the given number of messages from the head of the buffer
+     * 
+     * @param count
+     */
+    void evict(int count) {
+        head = Math.min(tail, head + count);
+        if (head > COMPACTION_THRESHOLD && head > tail - head) {
+            compact();
+        }
+    }
+
+    void clear() {
+        levels.values().forEach(BitSet::clear);
+        grams.clear();
+        head = 0;
+        tail = 0;
+    }
+
+    int size() {
+        return tail - head;
+    }
+
+    /**
+     * Drops the evicted positions and shifts the remaining ones so that the head is at position zero
+     */
+    private void compact() {
+        int shift = head;
+        for (LogLevel level : LogLevel.values()) {
+            BitSet current = levels.get(level);
+            levels.put(level, current.get(shift, Math.max(shift, current.length())));
+        }
+        Iterator<Postings> postings = grams.values().iterator();
+        while (postings.hasNext()) {
+            if (postings.next().shift(shift) == 0) {
+                postings.remove();
+            }
+        }
+        head = 0;
+        tail -= shift;
+    }
+
+    /**
+     * @param messages
+     *            the indexed buffer
+     * @param filterLevels
+     *            levels to retain
+     * @param text
+     *            text the message has to contain, ignoring case, blank to retain any
+     * @return indexes in the buffer of the matching messages, in ascending order
+     */
+    int[] search(List<LogMessage> messages, Set<LogLevel> filterLevels, String text) {
+        BitSet candidates = new BitSet();
+        for (LogLevel level : filterLevels) {
+            candidates.or(levels.get(level));
+        }
+        candidates.clear(0, head);
+        String lowerText = lowerCase(text);
+        if (!isEmpty(lowerText)) {
+            for (String gram : grams(lowerText)) {
+                Postings current = grams.get(gram);
+                if (isNull(current)) {
+                    return new int[0];
+                }
+                candidates.and(current.toBitSet());
+            }
+        }
+        int[] results = new int[candidates.cardinality()];
+        int count = 0;
+        for (int position = candidates.nextSetBit(0); position >= 0; position = candidates.nextSetBit(position + 1)) {
+            int index = position - head;
+            if (isEmpty(lowerText) || lowerCase(messages.get(index).getMessage()).contains(lowerText)) {
+                results[count++] = index;
+            }
+        }
+        return Arrays.copyOf(results, count);
+    }
+
+    /**
+     * @return true if the message has one of the levels and contains the text, ignoring case
+     */
+    static boolean matches(LogMessage message, Set<LogLevel> filterLevels, String text) {
+        return filterLevels.contains(message.getLevel())
+                && (isEmpty(text) || lowerCase(message.getMessage()).contains(lowerCase(text)));
+    }
+
+    private static String lowerCase(String value) {
+        if (isNull(value)) {
+            return "";
+        }
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Ascending positions of the messages containing a trigram
+     */
+    private static class Postings {
+        private int[] positions = new int[4];
+        private int size = 0;
+
+        void add(int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        /**
+         * Removes the positions lower than the given shift and subtracts it from the remaining ones
+         * 
+         * @return the number of remaining positions
+         */
+        int shift(int shift) {
+            int retained = 0;
+            for (int i = 0; i < size; i++) {
+                if (positions[i] >= shift) {
+                    positions[retained++] = positions[i] - shift;
+                }
+            }
+            size = retained;
+            if (size < positions.length / 4) {
+                positions = Arrays.copyOf(positions, Math.max(4, size * 2));
+            }
+            return size;
+        }
+
+        BitSet toBitSet() {
+            BitSet bits = new BitSet();
+            for (int i = 0; i < size; i++) {
+                bits.set(positions[i]);
+            }
+            return bits;
+        }
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.pdfsam.ui.log;
 
+import org.pdfsam.i18n.DefaultI18nContext;
+
 import ch.qos.logback.classic.Level;
 
 /**
@@ -32,22 +34,42 @@ enum LogLevel {
         public String style() {
             return "info-log";
         }
+
+        @Override
+        public String description() {
+            return DefaultI18nContext.getInstance().i18n("Info");
+        }
     },
     WARN {
         @Override
         public String style() {
             return "warn-log";
         }
+
+        @Override
+        public String description() {
+            return DefaultI18nContext.getInstance().i18n("Warnings");
+        }
     },
     ERROR {
         @Override
         public String style() {
             return "error-log";
         }
+
+        @Override
+        public String description() {
+            return DefaultI18nContext.getInstance().i18n("Errors");
+        }
     };
 
     public abstract String style();
 
+    /**
+     * @return the translated name of the level
+     */
+    public abstract String description();
+
     public static LogLevel toLogLevel(int intLevel) {
         switch (intLevel) {
         case Level.ERROR_INT:
@@ -20,8 +20,16 @@ package org.pdfsam.ui.log;
 
 import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
+import static org.apache.commons.lang3.StringUtils.defaultString;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 import javax.inject.Inject;
 
 import org.pdfsam.context.UserContext;
@@ -29,6 +37,9 @@ import org.pdfsam.ui.support.CircularObservableList;
 import org.sejda.eventstudio.Listener;
 
 import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
 import javafx.scene.Scene;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
@@ -37,19 +48,28 @@ import javafx.stage.Window;
 import javafx.util.Callback;
 
 /**
- * {@link ListView} showing log messages
+ * {@link ListView} showing log messages. Messages are kept in a bounded buffer, indexed as they are appended, and the view can show all
+ * of them or only the ones matching a filter.
  * 
  * @author Andrea Vacondio
  *
  */
-class LogListView extends ListView<LogMessage> implements Listener<LogMessage> {
+class LogListView extends ListView<LogMessage> implements Listener<LogMessagesEvent> {
+
+    private final CircularObservableList<LogMessage> messages;
+    private final ObservableList<LogMessage> filtered = FXCollections.observableArrayList();
+    private final LogIndex index = new LogIndex();
+    private Set<LogLevel> filterLevels = EnumSet.allOf(LogLevel.class);
+    private String filterText = "";
 
     @Inject
     public LogListView(UserContext userContext) {
-        CircularObservableList<LogMessage> items = new CircularObservableList<>(userContext.getNumberOfLogRows());
-        eventStudio().add(MaxLogRowsChangedEvent.class, e -> items.setMaxCapacity(userContext.getNumberOfLogRows()));
+        messages = new CircularObservableList<>(userContext.getNumberOfLogRows());
+        messages.addListener(this::onMessagesChanged);
+        eventStudio().add(MaxLogRowsChangedEvent.class,
+                e -> messages.setMaxCapacity(userContext.getNumberOfLogRows()));
         setId("log-view");
-        setItems(items);
+        setItems(messages);
         getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
         setCellFactory(new Callback<ListView<LogMessage>, ListCell<LogMessage>>() {
             @Override
@@ -76,11 +96,94 @@ class LogListView extends ListView<LogMessage> implements Listener<LogMessage> {
     }
 
     @Override
-    public void onEvent(LogMessage event) {
-        Platform.runLater(() -> {
-            getItems().add(event);
+    public void onEvent(LogMessagesEvent event) {
+        if (Platform.isFxApplicationThread()) {
+            append(event);
+        } else {
+            Platform.runLater(() -> append(event));
+        }
+    }
+
+    private void append(LogMessagesEvent event) {
+        if (!event.getMessages().isEmpty()) {
+            messages.addAll(event.getMessages());
             scrollToBottomIfShowing();
-        });
+        }
+    }
+
+    /**
+     * @return the buffer of all the log messages, regardless of the current filter
+     */
+    ObservableList<LogMessage> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Shows only the messages with one of the given levels and containing the given text, ignoring case
+     * 
+     * @param levels
+     * @param text
+     *            blank to show messages with any text
+     */
+    void filter(Set<LogLevel> levels, String text) {
+        this.filterLevels = levels.isEmpty() ? Collections.emptySet() : EnumSet.copyOf(levels);
+        this.filterText = defaultString(text);
+        if (isFiltering()) {
+            refilter();
+            setItems(filtered);
+        } else {
+            filtered.clear();
+            setItems(messages);
+        }
+        scrollToBottomIfShowing();
+    }
+
+    boolean isFiltering() {
+        return filterLevels.size() < LogLevel.values().length || !isEmpty(filterText);
+    }
+
+    private void refilter() {
+        int[] matching = index.search(messages, filterLevels, filterText);
+        List<LogMessage> retained = new ArrayList<>(matching.length);
+        for (int current : matching) {
+            retained.add(messages.get(current));
+        }
+        filtered.setAll(retained);
+    }
+
+    private void onMessagesChanged(Change<? extends LogMessage> c) {
+        boolean rebuild = false;
+        while (c.next()) {
+            if (c.wasRemoved()) {
+                if (c.getFrom() == 0 && !c.wasAdded()) {
+                    index.evict(c.getRemovedSize());
+                    if (isFiltering()) {
+                        filtered.remove(0, (int) c.getRemoved().stream()
+                                .filter(m -> LogIndex.matches(m, filterLevels, filterText)).count());
+                    }
+                } else {
+                    rebuild = true;
+                }
+            }
+            if (c.wasAdded() && !c.wasRemoved()) {
+                if (c.getTo() == c.getList().size()) {
+                    index.appendAll(c.getAddedSubList());
+                    if (isFiltering()) {
+                        c.getAddedSubList().stream().filter(m -> LogIndex.matches(m, filterLevels, filterText))
+                                .forEach(filtered::add);
+                    }
+                } else {
+                    rebuild = true;
+                }
+            }
+        }
+        if (rebuild) {
+            index.clear();
+            index.appendAll(messages);
+            if (isFiltering()) {
+                refilter();
+            }
+        }
     }
 
     public void scrollToBottomIfShowing() {
@@ -21,9 +21,11 @@ package org.pdfsam.ui.log;
 import static java.util.Objects.nonNull;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
-import java.util.Scanner;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang3.StringUtils;
+import org.pdfsam.i18n.DefaultI18nContext;
 import org.slf4j.LoggerFactory;
 
 import ch.qos.logback.classic.Level;
@@ -33,16 +35,23 @@ import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.AppenderBase;
 import ch.qos.logback.core.Layout;
+import javafx.application.Platform;
 
 /**
- * A Logback appender appending log messages to a {@link LogListView}.
+ * A Logback appender appending log messages to a {@link LogListView}. Messages are put in a lock-free queue by the logging threads, which
+ * are never blocked, and the queue is drained on the JavaFX thread broadcasting the messages in batches, at most one drain is pending at
+ * any time.
  * 
  * @author Andrea Vacondio
  * 
  */
 public class LogMessageBroadcaster extends AppenderBase<ILoggingEvent> {
+    static final int QUEUE_CAPACITY = 100000;
+    static final int MAX_BATCH_SIZE = 5000;
 
     private PatternLayoutEncoder encoder;
+    private final LogMessagesQueue queue = new LogMessagesQueue(QUEUE_CAPACITY);
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
 
     public LogMessageBroadcaster(PatternLayoutEncoder encoder) {
         this.encoder = encoder;
@@ -66,19 +75,56 @@ public class LogMessageBroadcaster extends AppenderBase<ILoggingEvent> {
 
     private void doAppendMessage(String message, ILoggingEvent event) {
         if (StringUtils.isNotBlank(message)) {
-            try (Scanner scanner = new Scanner(message)) {
-                while (scanner.hasNextLine()) {
-                    eventStudio().broadcast(
-                            new LogMessage(scanner.nextLine(), LogLevel.toLogLevel(event.getLevel().toInt())),
-                            "LogStage");
+            LogLevel level = LogLevel.toLogLevel(event.getLevel().toInt());
+            int start = 0;
+            while (start < message.length()) {
+                int end = message.indexOf('\n', start);
+                if (end < 0) {
+                    end = message.length();
                 }
+                String line = StringUtils.stripEnd(message.substring(start, end), "\r");
+                if (StringUtils.isNotBlank(line)) {
+                    queue.offer(new LogMessage(line, level));
+                }
+                start = end + 1;
             }
+            scheduleDrain();
             if (event.getLevel().isGreaterOrEqual(Level.ERROR)) {
                 eventStudio().broadcast(new ErrorLoggedEvent());
             }
         }
     }
 
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                Platform.runLater(this::drain);
+            } catch (IllegalStateException e) {
+                // the JavaFX toolkit is not running
+                drainScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Broadcasts the queued messages as a single batch, notifying if some messages had to be dropped
+     */
+    void drain() {
+        drainScheduled.set(false);
+        List<LogMessage> batch = queue.drain(MAX_BATCH_SIZE);
+        long dropped = queue.takeDropped();
+        if (dropped > 0) {
+            batch.add(new LogMessage(DefaultI18nContext.getInstance().i18n("{0} log messages have been discarded",
+                    Long.toString(dropped)), LogLevel.WARN));
+        }
+        if (!batch.isEmpty()) {
+            eventStudio().broadcast(new LogMessagesEvent(batch), "LogStage");
+        }
+        if (!queue.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+
     public PatternLayoutEncoder getEncoder() {
         return encoder;
     }
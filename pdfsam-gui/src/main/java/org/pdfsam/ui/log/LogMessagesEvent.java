@@ -0,0 +1,43 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.log;
+
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A batch of {@link LogMessage}s to be displayed
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class LogMessagesEvent {
+    private final List<LogMessage> messages;
+
+    LogMessagesEvent(List<LogMessage> messages) {
+        requireNotNull(messages, "Messages cannot be null");
+        this.messages = Collections.unmodifiableList(messages);
+    }
+
+    public List<LogMessage> getMessages() {
+        return messages;
+    }
+}
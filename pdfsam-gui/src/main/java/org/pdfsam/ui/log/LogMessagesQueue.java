@@ -0,0 +1,86 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.log;
+
+import static org.pdfsam.support.RequireUtils.require;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, lock-free queue of {@link LogMessage}s written by many logging threads and drained in batches by a single consumer. Offering a
+ * message never blocks, when the queue is full the message is discarded and counted as dropped.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class LogMessagesQueue {
+    private final ConcurrentLinkedQueue<LogMessage> messages = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final int capacity;
+
+    LogMessagesQueue(int capacity) {
+        require(capacity > 0, "Capacity must be a positive value");
+        this.capacity = capacity;
+    }
+
+    /**
+     * @param message
+     * @return true if the message has been queued, false if it has been dropped because the queue is full
+     */
+    boolean offer(LogMessage message) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.incrementAndGet();
+            return false;
+        }
+        messages.offer(message);
+        return true;
+    }
+
+    /**
+     * @param max
+     *            max number of messages to drain
+     * @return the eldest queued messages, up to max
+     */
+    List<LogMessage> drain(int max) {
+        List<LogMessage> batch = new ArrayList<>(Math.max(0, Math.min(max, size.get())));
+        LogMessage current;
+        while (batch.size() < max && (current = messages.poll()) != null) {
+            batch.add(current);
+        }
+        size.addAndGet(-batch.size());
+        return batch;
+    }
+
+    boolean isEmpty() {
+        return messages.isEmpty();
+    }
+
+    /**
+     * @return the number of messages dropped since the last call
+     */
+    long takeDropped() {
+        return dropped.getAndSet(0);
+    }
+}
@@ -23,6 +23,9 @@ import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
 
 import javax.inject.Inject;
 
@@ -38,12 +41,16 @@ import javafx.beans.binding.BooleanBinding;
 import javafx.scene.control.ContextMenu;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.SeparatorMenuItem;
+import javafx.scene.control.TextField;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.input.Clipboard;
 import javafx.scene.input.ClipboardContent;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 
 /**
  * Panel displaying log messages
@@ -54,6 +61,8 @@ import javafx.scene.layout.BorderPane;
 public class LogPane extends BorderPane {
 
     private LogListView logView;
+    private TextField searchField = new TextField();
+    private Set<LogLevel> levels = EnumSet.allOf(LogLevel.class);
 
     @Inject
     public LogPane(LogListView view) {
@@ -62,6 +71,33 @@ public class LogPane extends BorderPane {
         setCenter(this.logView);
 
         I18nContext i18n = DefaultI18nContext.getInstance();
+        searchField.setId("logSearchField");
+        searchField.setPromptText(i18n.i18n("Search the log"));
+        searchField.textProperty().addListener((o, oldVal, newVal) -> filter());
+        searchField.setOnKeyPressed(e -> {
+            if (e.getCode() == KeyCode.ESCAPE) {
+                searchField.clear();
+            }
+        });
+        HBox.setHgrow(searchField, Priority.ALWAYS);
+        HBox filterBar = new HBox(searchField);
+        filterBar.getStyleClass().addAll(Style.HCONTAINER.css());
+        for (LogLevel level : LogLevel.values()) {
+            ToggleButton levelButton = new ToggleButton(level.description());
+            levelButton.setId(level.name().toLowerCase(Locale.ROOT) + "LogFilterButton");
+            levelButton.getStyleClass().add(level.style());
+            levelButton.setSelected(true);
+            levelButton.selectedProperty().addListener((o, oldVal, newVal) -> {
+                if (newVal) {
+                    levels.add(level);
+                } else {
+                    levels.remove(level);
+                }
+                filter();
+            });
+            filterBar.getChildren().add(levelButton);
+        }
+        setTop(filterBar);
         MenuItem copyItem = new MenuItem(i18n.i18n("Copy"));
         copyItem.setId("copyLogMenuItem");
         copyItem.setAccelerator(new KeyCodeCombination(KeyCode.C, KeyCombination.SHORTCUT_DOWN));
@@ -81,16 +117,16 @@ public class LogPane extends BorderPane {
 
         MenuItem clearItem = new MenuItem(i18n.i18n("Clear"));
         clearItem.setId("clearLogMenuItem");
-        clearItem.setOnAction(e -> logView.getItems().clear());
+        clearItem.setOnAction(e -> logView.getMessages().clear());
         // disable if there's no text
         clearItem.disableProperty().bind(new BooleanBinding() {
             {
-                bind(logView.getItems());
+                bind(logView.getMessages());
             }
 
             @Override
             protected boolean computeValue() {
-                return logView.getItems().isEmpty();
+                return logView.getMessages().isEmpty();
             }
         });
 
@@ -110,6 +146,10 @@ public class LogPane extends BorderPane {
         logView.focusedProperty().addListener(o -> eventStudio().broadcast(new LogAreaVisiblityChangedEvent()));
     }
 
+    private void filter() {
+        logView.filter(levels, searchField.getText());
+    }
+
     public void saveLog() {
         RememberingLatestFileChooserWrapper fileChooser = FileChoosers.getFileChooser(FileType.LOG,
                 DefaultI18nContext.getInstance().i18n("Select where to save the log file"));
@@ -18,7 +18,14 @@
  */
 package org.pdfsam.ui.log;
 
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.sejda.injector.Auto;
 import org.sejda.injector.Components;
+import org.sejda.injector.Provides;
 
 /**
  * @author Andrea Vacondio
@@ -26,5 +33,22 @@ import org.sejda.injector.Components;
  */
 @Components({ LogStage.class })
 public class LoggerConfig {
-    // nothing
+    /**
+     * System property to configure the directory where the log files are written
+     */
+    public static final String PDFSAM_LOGS_DIR = "org.pdfsam.logs.dir";
+
+    @Provides
+    @Auto
+    public LogFileSink logFileSink() {
+        return new LogFileSink(logsDirectory());
+    }
+
+    private static Path logsDirectory() {
+        String directory = System.getProperty(PDFSAM_LOGS_DIR);
+        if (isNotBlank(directory)) {
+            return Paths.get(directory);
+        }
+        return Paths.get(System.getProperty("user.home"), ".pdfsam", "logs");
+    }
 }
@@ -0,0 +1,90 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.log;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.pdfsam.task.TaskExecutionController;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+/**
+ * Encoder writing each logging event as a single line JSON record. Together with the text the record holds the id of the task and module
+ * and the milliseconds elapsed since the task started, when the event is logged during a task execution.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class StructuredLogEncoder extends EncoderBase<ILoggingEvent> {
+    private static final byte[] EMPTY = new byte[0];
+
+    @Override
+    public byte[] headerBytes() {
+        return EMPTY;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("time", Instant.ofEpochMilli(event.getTimeStamp()).toString());
+        record.put("level", event.getLevel().toString());
+        record.put("thread", event.getThreadName());
+        record.put("logger", event.getLoggerName());
+        Map<String, String> context = event.getMDCPropertyMap();
+        if (nonNull(context)) {
+            String task = context.get(TaskExecutionController.MDC_TASK_ID);
+            if (isNotBlank(task)) {
+                record.put("task", task);
+                record.put("module", context.get(TaskExecutionController.MDC_MODULE));
+                long start = NumberUtils.toLong(context.get(TaskExecutionController.MDC_TASK_START), 0);
+                if (start > 0) {
+                    record.put("elapsed", event.getTimeStamp() - start);
+                }
+            }
+        }
+        record.put("message", event.getFormattedMessage());
+        if (nonNull(event.getThrowableProxy())) {
+            record.put("exception", ThrowableProxyUtil.asString(event.getThrowableProxy()));
+        }
+        try {
+            return (JSON.std.asString(record) + CoreConstants.LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            addError("Unable to encode logging event", e);
+            return EMPTY;
+        }
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return EMPTY;
+    }
+}
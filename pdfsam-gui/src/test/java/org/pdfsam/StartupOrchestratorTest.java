@@ -0,0 +1,101 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class StartupOrchestratorTest {
+
+    private ExecutorService executor;
+    private List<String> executed;
+    private StartupOrchestrator victim;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        executed = new CopyOnWriteArrayList<>();
+        victim = new StartupOrchestrator();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownDependency() {
+        victim.task("task", executor, () -> executed.add("task"), "missing");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicatedName() {
+        victim.milestone("name").task("name", executor, () -> executed.add("task"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownMilestone() {
+        victim.complete("missing");
+    }
+
+    @Test
+    public void dependencies() throws Exception {
+        victim.task("first", executor, () -> executed.add("first"))
+                .task("second", executor, () -> executed.add("second"), "first")
+                .task("third", executor, () -> executed.add("third"), "second");
+        victim.completion().get(2, TimeUnit.SECONDS);
+        assertThat(executed, contains("first", "second", "third"));
+    }
+
+    @Test
+    public void waitsForMilestone() throws Exception {
+        victim.milestone("milestone").task("task", executor, () -> executed.add("task"), "milestone");
+        Thread.sleep(100);
+        assertTrue(executed.isEmpty());
+        assertFalse(victim.completion().isDone());
+        victim.complete("milestone");
+        victim.completion().get(2, TimeUnit.SECONDS);
+        assertThat(executed, contains("task"));
+    }
+
+    @Test
+    public void failingTaskDoesntBlockDependents() throws Exception {
+        victim.task("failing", executor, () -> {
+            throw new IllegalStateException("Failed");
+        }).task("task", executor, () -> executed.add("task"), "failing");
+        victim.completion().get(2, TimeUnit.SECONDS);
+        assertThat(executed, contains("task"));
+    }
+}
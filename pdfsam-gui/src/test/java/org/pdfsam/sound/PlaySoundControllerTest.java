@@ -18,18 +18,31 @@
  */
 package org.pdfsam.sound;
 
+import static com.google.code.tempusfugit.temporal.Duration.seconds;
+import static com.google.code.tempusfugit.temporal.Timeout.timeout;
+import static com.google.code.tempusfugit.temporal.WaitFor.waitOrTimeout;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.pdfsam.context.UserContext;
+import org.pdfsam.module.TaskExecutionRequestEvent;
 import org.pdfsam.test.ClearEventStudioRule;
 import org.sejda.model.notification.event.TaskExecutionCompletedEvent;
 import org.sejda.model.notification.event.TaskExecutionFailedEvent;
+import org.sejda.model.parameter.MergeParameters;
 
 /**
  * @author Andrea Vacondio
@@ -81,4 +94,67 @@ public class PlaySoundControllerTest {
         verify(userContext).isPlaySounds();
     }
 
+    @Test
+    public void loadedOnce() {
+        when(userContext.isPlaySounds()).thenReturn(Boolean.TRUE);
+        List<String> loaded = new ArrayList<>();
+        AtomicInteger played = new AtomicInteger();
+        AtomicLong clock = new AtomicLong();
+        PlaySoundController victim = new PlaySoundController(userContext, "ok", "error", uri -> {
+            loaded.add(uri);
+            return played::incrementAndGet;
+        }, clock::get);
+        eventStudio().broadcast(new TaskExecutionCompletedEvent(1, null));
+        clock.addAndGet(PlaySoundController.MIN_INTERVAL_MILLIS);
+        eventStudio().broadcast(new TaskExecutionCompletedEvent(1, null));
+        assertEquals(2, played.get());
+        assertEquals(1, loaded.size());
+        assertEquals("ok", loaded.get(0));
+    }
+
+    @Test
+    public void rateLimited() {
+        when(userContext.isPlaySounds()).thenReturn(Boolean.TRUE);
+        AtomicInteger played = new AtomicInteger();
+        AtomicLong clock = new AtomicLong();
+        PlaySoundController victim = new PlaySoundController(userContext, "ok", "error",
+                uri -> played::incrementAndGet, clock::get);
+        for (int i = 0; i < 10; i++) {
+            eventStudio().broadcast(new TaskExecutionCompletedEvent(1, null));
+            clock.addAndGet(10);
+        }
+        assertEquals(1, played.get());
+        eventStudio().broadcast(new TaskExecutionFailedEvent(null, null));
+        assertEquals(2, played.get());
+    }
+
+    @Test
+    public void notLoadableNotRetried() {
+        when(userContext.isPlaySounds()).thenReturn(Boolean.TRUE);
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicLong clock = new AtomicLong();
+        PlaySoundController victim = new PlaySoundController(userContext, "ok", "error", uri -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("Invalid sound");
+        }, clock::get);
+        eventStudio().broadcast(new TaskExecutionCompletedEvent(1, null));
+        clock.addAndGet(PlaySoundController.MIN_INTERVAL_MILLIS);
+        eventStudio().broadcast(new TaskExecutionCompletedEvent(1, null));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void preloadedOnDedicatedThread() throws InterruptedException, TimeoutException {
+        when(userContext.isPlaySounds()).thenReturn(Boolean.TRUE);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        PlaySoundController victim = new PlaySoundController(userContext, "ok", "error", uri -> {
+            threads.add(Thread.currentThread().getName());
+            return () -> {
+            };
+        }, System::currentTimeMillis);
+        eventStudio().broadcast(new TaskExecutionRequestEvent("id", new MergeParameters()));
+        waitOrTimeout(() -> threads.size() == 2, timeout(seconds(2)));
+        assertEquals("sound-preload", threads.get(0));
+        assertEquals("sound-preload", threads.get(1));
+    }
 }
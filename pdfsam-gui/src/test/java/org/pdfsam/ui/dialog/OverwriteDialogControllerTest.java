@@ -18,6 +18,7 @@
  */
 package org.pdfsam.ui.dialog;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -26,10 +27,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.IOException;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.pdfsam.configuration.StylesConfig;
 import org.pdfsam.module.TaskExecutionRequestEvent;
 import org.pdfsam.test.ClearEventStudioRule;
@@ -55,6 +58,8 @@ public class OverwriteDialogControllerTest {
     public ClearEventStudioRule clearEventStudio = new ClearEventStudioRule();
     @Rule
     public InitializeAndApplyJavaFxThreadRule javaFxThread = new InitializeAndApplyJavaFxThreadRule();
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     private Injector injector;
 
@@ -108,11 +113,7 @@ public class OverwriteDialogControllerTest {
     public void directoryIsEmpty() {
         SimpleSplitParameters parameters = new SimpleSplitParameters(PredefinedSetOfPages.ALL_PAGES);
         parameters.setExistingOutputPolicy(ExistingOutputPolicy.FAIL);
-        FileOrDirectoryTaskOutput output = mock(FileOrDirectoryTaskOutput.class);
-        File file = mock(File.class);
-        when(file.listFiles()).thenReturn(new File[0]);
-        when(output.getDestination()).thenReturn(file);
-        parameters.setOutput(output);
+        parameters.setOutput(FileOrDirectoryTaskOutput.directory(folder.getRoot()));
         injector.instance(OverwriteDialogController.class).request(new TaskExecutionRequestEvent("id", parameters));
         OverwriteConfirmationDialog dialog = injector.instance(OverwriteConfirmationDialog.class);
         verify(dialog, never()).title(anyString());
@@ -121,4 +122,58 @@ public class OverwriteDialogControllerTest {
         verify(dialog, never()).response();
     }
 
+    @Test
+    public void directoryDoesntExist() {
+        SimpleSplitParameters parameters = new SimpleSplitParameters(PredefinedSetOfPages.ALL_PAGES);
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.FAIL);
+        parameters.setOutput(FileOrDirectoryTaskOutput.directory(new File(folder.getRoot(), "missing")));
+        injector.instance(OverwriteDialogController.class).request(new TaskExecutionRequestEvent("id", parameters));
+        verify(injector.instance(OverwriteConfirmationDialog.class), never()).response();
+    }
+
+    @Test
+    public void noCollidingFiles() throws IOException {
+        folder.newFile("chuck.pdf");
+        folder.newFile("PDFsam.txt");
+        SimpleSplitParameters parameters = new SimpleSplitParameters(PredefinedSetOfPages.ALL_PAGES);
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.FAIL);
+        parameters.setOutputPrefix("[CURRENTPAGE]_PDFsam_[BASENAME]");
+        parameters.setOutput(FileOrDirectoryTaskOutput.directory(folder.getRoot()));
+        injector.instance(OverwriteDialogController.class).request(new TaskExecutionRequestEvent("id", parameters));
+        verify(injector.instance(OverwriteConfirmationDialog.class), never()).response();
+        assertEquals(ExistingOutputPolicy.FAIL, parameters.getExistingOutputPolicy());
+    }
+
+    @Test
+    public void collidingFiles() throws IOException {
+        folder.newFile("chuck.pdf");
+        folder.newFile("3_PDFsam_chuck.pdf");
+        SimpleSplitParameters parameters = new SimpleSplitParameters(PredefinedSetOfPages.ALL_PAGES);
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.FAIL);
+        parameters.setOutputPrefix("[CURRENTPAGE]_PDFsam_[BASENAME]");
+        parameters.setOutput(FileOrDirectoryTaskOutput.directory(folder.getRoot()));
+        OverwriteConfirmationDialog dialog = injector.instance(OverwriteConfirmationDialog.class);
+        when(dialog.title(anyString())).thenReturn(dialog);
+        when(dialog.messageTitle(anyString())).thenReturn(dialog);
+        when(dialog.messageContent(anyString())).thenReturn(dialog);
+        when(dialog.response()).thenReturn(Boolean.TRUE);
+        injector.instance(OverwriteDialogController.class).request(new TaskExecutionRequestEvent("id", parameters));
+        verify(dialog).response();
+        assertEquals(ExistingOutputPolicy.OVERWRITE, parameters.getExistingOutputPolicy());
+    }
+
+    @Test
+    public void anyFileCollidesWithoutPrefix() throws IOException {
+        folder.newFile("chuck.pdf");
+        SimpleSplitParameters parameters = new SimpleSplitParameters(PredefinedSetOfPages.ALL_PAGES);
+        parameters.setExistingOutputPolicy(ExistingOutputPolicy.FAIL);
+        parameters.setOutput(FileOrDirectoryTaskOutput.directory(folder.getRoot()));
+        OverwriteConfirmationDialog dialog = injector.instance(OverwriteConfirmationDialog.class);
+        when(dialog.title(anyString())).thenReturn(dialog);
+        when(dialog.messageTitle(anyString())).thenReturn(dialog);
+        when(dialog.messageContent(anyString())).thenReturn(dialog);
+        when(dialog.response()).thenReturn(Boolean.TRUE);
+        injector.instance(OverwriteDialogController.class).request(new TaskExecutionRequestEvent("id", parameters));
+        verify(dialog).response();
+    }
 }
@@ -29,6 +29,7 @@ import org.junit.Test;
 import org.pdfsam.configuration.StylesConfig;
 import org.pdfsam.pdf.PdfDocumentDescriptor;
 import org.pdfsam.test.ClearEventStudioRule;
+import org.pdfsam.thumbnail.ThumbnailsService;
 import org.pdfsam.ui.commons.ShowPdfDescriptorRequest;
 import org.sejda.injector.Components;
 import org.sejda.injector.Injector;
@@ -61,6 +62,11 @@ public class InfoStageTest extends ApplicationTest {
             return mock(StylesConfig.class);
         }
 
+        @Provides
+        ThumbnailsService thumbnails() {
+            return mock(ThumbnailsService.class);
+        }
+
         @Provides
         @Prototype
         public Image payoff() {
@@ -0,0 +1,122 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.info;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.pdfsam.pdf.PdfDescriptorLoadingStatus;
+import org.pdfsam.pdf.PdfDocumentDescriptor;
+import org.pdfsam.test.ClearEventStudioRule;
+import org.pdfsam.test.InitializeJavaFxThreadRule;
+import org.pdfsam.thumbnail.ThumbnailsService;
+import org.pdfsam.ui.commons.ShowPdfDescriptorRequest;
+import org.testfx.util.WaitForAsyncUtils;
+
+import javafx.scene.control.ScrollPane;
+import javafx.scene.image.ImageView;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class PreviewTabTest {
+    @Rule
+    public ClearEventStudioRule studio = new ClearEventStudioRule();
+    @Rule
+    public InitializeJavaFxThreadRule javaFxThread = new InitializeJavaFxThreadRule();
+    private ThumbnailsService thumbnails;
+    private PdfDocumentDescriptor descriptor;
+
+    @Before
+    public void setUp() {
+        thumbnails = mock(ThumbnailsService.class);
+        when(thumbnails.thumbnail(any(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(new BufferedImage(10, 20, BufferedImage.TYPE_INT_RGB)));
+        descriptor = PdfDocumentDescriptor.newDescriptorNoPassword(mock(File.class));
+    }
+
+    @Test
+    public void showRequest() throws Exception {
+        PreviewTab victim = new PreviewTab(thumbnails);
+        ImageView preview = preview(victim);
+        loaded(descriptor);
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.requestShow(new ShowPdfDescriptorRequest(descriptor)));
+        verify(thumbnails).thumbnail(descriptor, 1);
+        WaitForAsyncUtils.waitForFxEvents();
+        assertNotNull(preview.getImage());
+        assertEquals(20, preview.getImage().getHeight(), 0);
+    }
+
+    @Test
+    public void onLoad() throws Exception {
+        PreviewTab victim = new PreviewTab(thumbnails);
+        ImageView preview = preview(victim);
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.requestShow(new ShowPdfDescriptorRequest(descriptor)));
+        verify(thumbnails, never()).thumbnail(any(), anyInt());
+        assertNull(preview.getImage());
+        loaded(descriptor);
+        verify(thumbnails, timeout(2000)).thumbnail(descriptor, 1);
+        WaitForAsyncUtils.waitForFxEvents();
+        assertNotNull(preview.getImage());
+    }
+
+    @Test
+    public void pendingCancelledOnAnotherDocument() throws Exception {
+        CompletableFuture<BufferedImage> pending = new CompletableFuture<>();
+        when(thumbnails.thumbnail(descriptor, 1)).thenReturn(pending);
+        PreviewTab victim = new PreviewTab(thumbnails);
+        loaded(descriptor);
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.requestShow(new ShowPdfDescriptorRequest(descriptor)));
+        PdfDocumentDescriptor other = PdfDocumentDescriptor.newDescriptorNoPassword(mock(File.class));
+        loaded(other);
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.requestShow(new ShowPdfDescriptorRequest(other)));
+        assertTrue(pending.isCancelled());
+        verify(thumbnails).thumbnail(other, 1);
+    }
+
+    private static ImageView preview(PreviewTab victim) {
+        ImageView preview = (ImageView) ((ScrollPane) victim.getContent()).getContent().lookup(".info-preview");
+        assertNotNull(preview);
+        return preview;
+    }
+
+    private static void loaded(PdfDocumentDescriptor descriptor) {
+        descriptor.pages(2);
+        descriptor.moveStatusTo(PdfDescriptorLoadingStatus.REQUESTED);
+        descriptor.moveStatusTo(PdfDescriptorLoadingStatus.LOADING);
+        descriptor.moveStatusTo(PdfDescriptorLoadingStatus.LOADED);
+    }
+}
@@ -34,14 +34,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.time.FastDateFormat;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.pdfsam.pdf.PagesGeometry;
 import org.pdfsam.pdf.PdfDescriptorLoadingStatus;
 import org.pdfsam.pdf.PdfDocumentDescriptor;
+import org.pdfsam.pdf.PdfLoadTimings;
 import org.pdfsam.test.ClearEventStudioRule;
 import org.pdfsam.test.InitializeJavaFxThreadRule;
 import org.pdfsam.ui.commons.ShowPdfDescriptorRequest;
@@ -119,13 +122,21 @@ public class SummaryTabTest {
         descriptor.putInformation("FormattedCreationDate", "test.creationDate");
         descriptor.pages(2);
         descriptor.setVersion(PdfVersion.VERSION_1_5);
+        PdfLoadTimings timings = new PdfLoadTimings();
+        timings.record(PdfLoadTimings.PARSE, TimeUnit.MILLISECONDS.toNanos(5));
+        descriptor.setLoadTimings(timings);
+        PagesGeometry geometry = new PagesGeometry(2);
+        geometry.setPage(1, new float[] { 0, 0, 595.28f, 841.89f }, new float[] { 0, 0, 595.28f, 841.89f }, 0);
+        geometry.setPage(2, new float[] { 0, 0, 595.28f, 841.89f }, new float[] { 0, 0, 595.28f, 841.89f }, 0);
+        descriptor.setPagesGeometry(geometry);
     }
 
     private void assertInfoIsDisplayed(List<ChangeListener<? super String>> listeners, PdfDocumentDescriptor descriptor) {
         File file = descriptor.getFile();
         List<String> values = Arrays.asList("test.producer", file.getAbsolutePath(), descriptor.getVersionString(),
                 "2", "test.creationDate", "test.title", "test.author", "test.creator", "test.subject",
-                FileUtils.byteCountToDisplaySize(file.length()), FORMATTER.format(file.lastModified()));
+                FileUtils.byteCountToDisplaySize(file.length()), FORMATTER.format(file.lastModified()),
+                "210 x 297 mm", "5ms (parse 5ms)");
         listeners.forEach(l -> verify(l, timeout(2000).times(1)).changed(any(ObservableValue.class), anyString(),
                 argThat(isIn(values))));
     }
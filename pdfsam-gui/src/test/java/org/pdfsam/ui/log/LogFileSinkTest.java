@@ -0,0 +1,89 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.log;
+
+import static com.google.code.tempusfugit.temporal.Duration.seconds;
+import static com.google.code.tempusfugit.temporal.Timeout.timeout;
+import static com.google.code.tempusfugit.temporal.WaitFor.waitOrTimeout;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.sejda.eventstudio.StaticStudio.eventStudio;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pdfsam.ShutdownEvent;
+import org.pdfsam.test.ClearEventStudioRule;
+import org.slf4j.LoggerFactory;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class LogFileSinkTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    @Rule
+    public ClearEventStudioRule clearStudio = new ClearEventStudioRule();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullDirectory() {
+        new LogFileSink(null);
+    }
+
+    @Test
+    public void writeAndShutdown() throws IOException, InterruptedException, TimeoutException {
+        Path directory = folder.newFolder().toPath();
+        LogFileSink victim = new LogFileSink(directory);
+        assertTrue(victim.isStarted());
+        LoggerFactory.getLogger(LogFileSinkTest.class).warn("sink test message");
+        eventStudio().broadcast(new ShutdownEvent());
+        assertFalse(victim.isStarted());
+        Path file = directory.resolve(LogFileSink.LOG_FILE_NAME);
+        waitOrTimeout(() -> Files.exists(file), timeout(seconds(2)));
+        assertTrue(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).contains("sink test message"));
+    }
+
+    @Test
+    public void flushedBeforeShutdown() throws IOException, InterruptedException, TimeoutException {
+        Path directory = folder.newFolder().toPath();
+        LogFileSink victim = new LogFileSink(directory);
+        LoggerFactory.getLogger(LogFileSinkTest.class).error("flushed test message");
+        Path file = directory.resolve(LogFileSink.LOG_FILE_NAME);
+        try {
+            waitOrTimeout(() -> {
+                try {
+                    return new String(Files.readAllBytes(file), StandardCharsets.UTF_8)
+                            .contains("flushed test message");
+                } catch (IOException e) {
+                    return false;
+                }
+            }, timeout(seconds(2)));
+        } finally {
+            victim.onShutdown(new ShutdownEvent());
+        }
+    }
+}
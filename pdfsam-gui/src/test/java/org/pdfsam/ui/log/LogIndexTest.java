@@ -0,0 +1,121 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.log;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class LogIndexTest {
+
+    private LogIndex victim;
+    private List<LogMessage> messages;
+
+    @Before
+    public void setUp() {
+        victim = new LogIndex();
+        messages = new ArrayList<>(Arrays.asList(new LogMessage("Starting PDFsam", LogLevel.INFO),
+                new LogMessage("Unable to load the file", LogLevel.WARN),
+                new LogMessage("Merge failed", LogLevel.ERROR), new LogMessage("Merge completed", LogLevel.INFO)));
+        victim.appendAll(messages);
+    }
+
+    @Test
+    public void searchLevels() {
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, victim.search(messages, EnumSet.allOf(LogLevel.class), ""));
+        assertArrayEquals(new int[] { 1, 2 },
+                victim.search(messages, EnumSet.of(LogLevel.WARN, LogLevel.ERROR), null));
+        assertArrayEquals(new int[0], victim.search(messages, EnumSet.noneOf(LogLevel.class), ""));
+    }
+
+    @Test
+    public void searchText() {
+        assertArrayEquals(new int[] { 2, 3 }, victim.search(messages, EnumSet.allOf(LogLevel.class), "MERGE"));
+        assertArrayEquals(new int[] { 3 }, victim.search(messages, EnumSet.of(LogLevel.INFO), "merge"));
+        assertArrayEquals(new int[] { 1, 2, 3 }, victim.search(messages, EnumSet.allOf(LogLevel.class), "l"));
+        assertArrayEquals(new int[0], victim.search(messages, EnumSet.allOf(LogLevel.class), "missing"));
+    }
+
+    @Test
+    public void searchVerifiesCandidates() {
+        // contains all the trigrams of the query but not the query itself
+        LogMessage message = new LogMessage("abcd bcde", LogLevel.INFO);
+        messages.add(message);
+        victim.append(message);
+        assertArrayEquals(new int[0], victim.search(messages, EnumSet.allOf(LogLevel.class), "abcde"));
+    }
+
+    @Test
+    public void evict() {
+        messages.remove(0);
+        messages.remove(0);
+        victim.evict(2);
+        assertEquals(2, victim.size());
+        assertArrayEquals(new int[] { 0, 1 }, victim.search(messages, EnumSet.allOf(LogLevel.class), "merge"));
+        assertArrayEquals(new int[] { 1 }, victim.search(messages, EnumSet.of(LogLevel.INFO), ""));
+    }
+
+    @Test
+    public void evictAndCompact() {
+        for (int i = 0; i < 10000; i++) {
+            LogMessage message = new LogMessage("message " + i, LogLevel.values()[i % 3]);
+            messages.add(message);
+            victim.append(message);
+        }
+        messages.subList(0, 9000).clear();
+        victim.evict(9000);
+        assertEquals(1004, victim.size());
+        int[] results = victim.search(messages, EnumSet.of(LogLevel.ERROR), "message 99");
+        assertEquals(33, results.length);
+        for (int current : results) {
+            assertTrue(messages.get(current).getMessage().contains("message 99"));
+            assertEquals(LogLevel.ERROR, messages.get(current).getLevel());
+        }
+    }
+
+    @Test
+    public void clear() {
+        victim.clear();
+        messages.clear();
+        assertEquals(0, victim.size());
+        assertArrayEquals(new int[0], victim.search(messages, EnumSet.allOf(LogLevel.class), ""));
+    }
+
+    @Test
+    public void matches() {
+        LogMessage message = new LogMessage("Merge failed", LogLevel.ERROR);
+        assertTrue(LogIndex.matches(message, EnumSet.of(LogLevel.ERROR), "FAIL"));
+        assertTrue(LogIndex.matches(message, EnumSet.of(LogLevel.ERROR), ""));
+        assertFalse(LogIndex.matches(message, EnumSet.of(LogLevel.INFO), ""));
+        assertFalse(LogIndex.matches(message, EnumSet.of(LogLevel.ERROR), "completed"));
+    }
+}
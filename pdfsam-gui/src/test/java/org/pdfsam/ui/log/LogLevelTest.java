@@ -18,7 +18,9 @@
  */
 package org.pdfsam.ui.log;
 
+import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import org.junit.Test;
 
@@ -38,4 +40,11 @@ public class LogLevelTest {
         assertEquals(LogLevel.INFO, LogLevel.toLogLevel(Level.DEBUG_INT));
         assertEquals(LogLevel.INFO, LogLevel.toLogLevel(Level.TRACE_INT));
     }
+
+    @Test
+    public void description() {
+        for (LogLevel level : LogLevel.values()) {
+            assertFalse(isBlank(level.description()));
+        }
+    }
 }
@@ -21,10 +21,15 @@ package org.pdfsam.ui.log;
 import static com.google.code.tempusfugit.temporal.Duration.seconds;
 import static com.google.code.tempusfugit.temporal.Timeout.timeout;
 import static com.google.code.tempusfugit.temporal.WaitFor.waitOrTimeout;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.Before;
@@ -33,6 +38,7 @@ import org.junit.Test;
 import org.pdfsam.context.UserContext;
 import org.pdfsam.test.ClearEventStudioRule;
 import org.pdfsam.test.InitializeJavaFxThreadRule;
+import org.testfx.util.WaitForAsyncUtils;
 
 /**
  * @author Andrea Vacondio
@@ -55,8 +61,8 @@ public class LogListViewTest {
     public void append() throws InterruptedException, TimeoutException {
         when(userContext.getNumberOfLogRows()).thenReturn(200);
         LogListView victim = new LogListView(userContext);
-        victim.onEvent(new LogMessage("testMessage", LogLevel.WARN));
-        victim.onEvent(new LogMessage("anotherTestMessage", LogLevel.INFO));
+        victim.onEvent(new LogMessagesEvent(Arrays.asList(new LogMessage("testMessage", LogLevel.WARN),
+                new LogMessage("anotherTestMessage", LogLevel.INFO))));
         waitOrTimeout(() -> victim.getItems().size() == 2, timeout(seconds(2)));
         waitOrTimeout(() -> "testMessage".equals(victim.getItems().get(0).getMessage()), timeout(seconds(2)));
         waitOrTimeout(() -> "anotherTestMessage".equals(victim.getItems().get(1).getMessage()), timeout(seconds(2)));
@@ -66,10 +72,10 @@ public class LogListViewTest {
     public void appendSizeConstraint() throws InterruptedException, TimeoutException {
         when(userContext.getNumberOfLogRows()).thenReturn(2);
         LogListView victim = new LogListView(userContext);
-        victim.onEvent(new LogMessage("testMessage", LogLevel.WARN));
-        victim.onEvent(new LogMessage("anotherTestMessage", LogLevel.INFO));
-        victim.onEvent(new LogMessage("anotherTestMessage2", LogLevel.INFO));
-        victim.onEvent(new LogMessage("anotherTestMessage3", LogLevel.INFO));
+        victim.onEvent(new LogMessagesEvent(Arrays.asList(new LogMessage("testMessage", LogLevel.WARN),
+                new LogMessage("anotherTestMessage", LogLevel.INFO),
+                new LogMessage("anotherTestMessage2", LogLevel.INFO),
+                new LogMessage("anotherTestMessage3", LogLevel.INFO))));
         waitOrTimeout(() -> victim.getItems().size() == 2, timeout(seconds(2)));
         waitOrTimeout(() -> "anotherTestMessage2".equals(victim.getItems().get(0).getMessage()), timeout(seconds(2)));
         waitOrTimeout(() -> "anotherTestMessage3".equals(victim.getItems().get(1).getMessage()), timeout(seconds(2)));
@@ -79,11 +85,11 @@ public class LogListViewTest {
     public void maxNumberOfLogRowsChanged() throws InterruptedException, TimeoutException {
         when(userContext.getNumberOfLogRows()).thenReturn(5);
         LogListView victim = new LogListView(userContext);
-        victim.onEvent(new LogMessage("testMessage", LogLevel.WARN));
-        victim.onEvent(new LogMessage("anotherTestMessage", LogLevel.INFO));
-        victim.onEvent(new LogMessage("anotherTestMessage2", LogLevel.INFO));
-        victim.onEvent(new LogMessage("anotherTestMessage3", LogLevel.INFO));
-        victim.onEvent(new LogMessage("anotherTestMessage4", LogLevel.INFO));
+        victim.onEvent(new LogMessagesEvent(Arrays.asList(new LogMessage("testMessage", LogLevel.WARN),
+                new LogMessage("anotherTestMessage", LogLevel.INFO),
+                new LogMessage("anotherTestMessage2", LogLevel.INFO),
+                new LogMessage("anotherTestMessage3", LogLevel.INFO),
+                new LogMessage("anotherTestMessage4", LogLevel.INFO))));
         waitOrTimeout(() -> victim.getItems().size() == 5, timeout(seconds(2)));
         when(userContext.getNumberOfLogRows()).thenReturn(2);
         eventStudio().broadcast(new MaxLogRowsChangedEvent());
@@ -91,4 +97,41 @@ public class LogListViewTest {
         waitOrTimeout(() -> "anotherTestMessage3".equals(victim.getItems().get(0).getMessage()), timeout(seconds(2)));
         waitOrTimeout(() -> "anotherTestMessage4".equals(victim.getItems().get(1).getMessage()), timeout(seconds(2)));
     }
+
+    @Test
+    public void appendMultipleBatches() throws InterruptedException, TimeoutException {
+        when(userContext.getNumberOfLogRows()).thenReturn(3);
+        LogListView victim = new LogListView(userContext);
+        victim.onEvent(new LogMessagesEvent(Arrays.asList(new LogMessage("testMessage", LogLevel.WARN),
+                new LogMessage("anotherTestMessage", LogLevel.INFO))));
+        victim.onEvent(new LogMessagesEvent(Arrays.asList(new LogMessage("anotherTestMessage2", LogLevel.INFO),
+                new LogMessage("anotherTestMessage3", LogLevel.ERROR))));
+        waitOrTimeout(() -> victim.getItems().size() == 3, timeout(seconds(2)));
+        waitOrTimeout(() -> "anotherTestMessage".equals(victim.getItems().get(0).getMessage()), timeout(seconds(2)));
+        waitOrTimeout(() -> "anotherTestMessage3".equals(victim.getItems().get(2).getMessage()), timeout(seconds(2)));
+    }
+
+    @Test
+    public void filter() throws InterruptedException, TimeoutException {
+        when(userContext.getNumberOfLogRows()).thenReturn(3);
+        LogListView victim = new LogListView(userContext);
+        victim.onEvent(new LogMessagesEvent(Arrays.asList(new LogMessage("Merge started", LogLevel.INFO),
+                new LogMessage("Unable to load", LogLevel.WARN), new LogMessage("Merge failed", LogLevel.ERROR))));
+        waitOrTimeout(() -> victim.getItems().size() == 3, timeout(seconds(2)));
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.filter(EnumSet.allOf(LogLevel.class), "merge"));
+        assertTrue(victim.isFiltering());
+        assertEquals(2, victim.getItems().size());
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.filter(EnumSet.of(LogLevel.ERROR), "merge"));
+        assertEquals(1, victim.getItems().size());
+        assertEquals("Merge failed", victim.getItems().get(0).getMessage());
+        victim.onEvent(new LogMessagesEvent(Arrays.asList(new LogMessage("Merge failed again", LogLevel.ERROR),
+                new LogMessage("Another merge failed", LogLevel.ERROR), new LogMessage("Done", LogLevel.ERROR))));
+        // evicted messages are removed and the matching new ones are appended
+        waitOrTimeout(() -> victim.getItems().size() == 2, timeout(seconds(2)));
+        assertEquals("Merge failed again", victim.getItems().get(0).getMessage());
+        assertEquals("Another merge failed", victim.getItems().get(1).getMessage());
+        WaitForAsyncUtils.waitForAsyncFx(2000, () -> victim.filter(EnumSet.allOf(LogLevel.class), ""));
+        assertFalse(victim.isFiltering());
+        assertEquals(3, victim.getItems().size());
+    }
 }
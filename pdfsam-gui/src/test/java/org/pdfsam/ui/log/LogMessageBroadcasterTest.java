@@ -18,6 +18,7 @@
  */
 package org.pdfsam.ui.log;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -26,9 +27,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.pdfsam.test.ClearEventStudioRule;
 import org.pdfsam.test.InitializeJavaFxThreadRule;
 import org.sejda.eventstudio.Listener;
@@ -72,8 +77,8 @@ public class LogMessageBroadcasterTest {
 
     @Test
     public void infoLog() {
-        Listener<LogMessage> listener = mock(Listener.class);
-        eventStudio().add(LogMessage.class, listener, "LogStage");
+        Listener<LogMessagesEvent> listener = mock(Listener.class);
+        eventStudio().add(LogMessagesEvent.class, listener, "LogStage");
         LogMessageBroadcaster victim = injector.instance(LogMessageBroadcaster.class);
         PatternLayoutEncoder encoder = injector.instance(PatternLayoutEncoder.class);
         ILoggingEvent event = mock(ILoggingEvent.class);
@@ -81,7 +86,7 @@ public class LogMessageBroadcasterTest {
         when(event.getFormattedMessage()).thenReturn("myMessage");
         victim.start();
         victim.append(event);
-        verify(listener).onEvent(any(LogMessage.class));
+        verify(listener, timeout(1000).times(1)).onEvent(any(LogMessagesEvent.class));
     }
 
     @Test
@@ -96,4 +101,21 @@ public class LogMessageBroadcasterTest {
         victim.append(event);
         verify(listener, timeout(1000).times(1)).onEvent(any());
     }
+
+    @Test
+    public void multilineMessageIsBatched() {
+        Listener<LogMessagesEvent> listener = mock(Listener.class);
+        eventStudio().add(LogMessagesEvent.class, listener, "LogStage");
+        LogMessageBroadcaster victim = injector.instance(LogMessageBroadcaster.class);
+        ILoggingEvent event = mock(ILoggingEvent.class);
+        when(event.getLevel()).thenReturn(Level.INFO);
+        when(event.getFormattedMessage()).thenReturn("firstLine\n\nsecondLine\r\nthirdLine");
+        victim.start();
+        victim.append(event);
+        victim.drain();
+        ArgumentCaptor<LogMessagesEvent> captor = ArgumentCaptor.forClass(LogMessagesEvent.class);
+        verify(listener, timeout(1000).atLeastOnce()).onEvent(captor.capture());
+        assertEquals(Arrays.asList("firstLine", "secondLine", "thirdLine"), captor.getAllValues().stream()
+                .flatMap(e -> e.getMessages().stream()).map(LogMessage::getMessage).collect(Collectors.toList()));
+    }
 }
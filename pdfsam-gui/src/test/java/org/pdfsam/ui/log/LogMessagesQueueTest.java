@@ -0,0 +1,93 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class LogMessagesQueueTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCapacity() {
+        new LogMessagesQueue(0);
+    }
+
+    @Test
+    public void drainInOrder() {
+        LogMessagesQueue victim = new LogMessagesQueue(10);
+        assertTrue(victim.isEmpty());
+        assertTrue(victim.offer(new LogMessage("first", LogLevel.INFO)));
+        assertTrue(victim.offer(new LogMessage("second", LogLevel.WARN)));
+        assertTrue(victim.offer(new LogMessage("third", LogLevel.ERROR)));
+        List<LogMessage> batch = victim.drain(2);
+        assertEquals(2, batch.size());
+        assertEquals("first", batch.get(0).getMessage());
+        assertEquals("second", batch.get(1).getMessage());
+        assertFalse(victim.isEmpty());
+        batch = victim.drain(2);
+        assertEquals(1, batch.size());
+        assertEquals("third", batch.get(0).getMessage());
+        assertTrue(victim.isEmpty());
+    }
+
+    @Test
+    public void dropWhenFull() {
+        LogMessagesQueue victim = new LogMessagesQueue(2);
+        assertTrue(victim.offer(new LogMessage("first", LogLevel.INFO)));
+        assertTrue(victim.offer(new LogMessage("second", LogLevel.INFO)));
+        assertFalse(victim.offer(new LogMessage("third", LogLevel.INFO)));
+        assertFalse(victim.offer(new LogMessage("fourth", LogLevel.INFO)));
+        assertEquals(2, victim.takeDropped());
+        assertEquals(0, victim.takeDropped());
+        assertEquals(2, victim.drain(10).size());
+        assertTrue(victim.offer(new LogMessage("fifth", LogLevel.INFO)));
+    }
+
+    @Test
+    public void concurrentProducers() throws InterruptedException {
+        LogMessagesQueue victim = new LogMessagesQueue(1000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 500; j++) {
+                    victim.offer(new LogMessage("message", LogLevel.INFO));
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(1000, victim.drain(5000).size());
+        assertEquals(1000, victim.takeDropped());
+    }
+}
@@ -24,6 +24,9 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+import java.util.Locale;
+
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -36,6 +39,7 @@ import org.testfx.framework.junit.ApplicationTest;
 import org.testfx.util.WaitForAsyncUtils;
 
 import javafx.scene.Scene;
+import javafx.scene.control.ToggleButton;
 import javafx.scene.input.Clipboard;
 import javafx.stage.Stage;
 
@@ -65,8 +69,8 @@ public class LogPaneTest extends ApplicationTest {
         @Provides
         public LogListView view() {
             LogListView view = new LogListView(context());
-            view.onEvent(new LogMessage("A message", LogLevel.INFO));
-            view.onEvent(new LogMessage("An Error message", LogLevel.ERROR));
+            view.onEvent(new LogMessagesEvent(Arrays.asList(new LogMessage("A message", LogLevel.INFO),
+                    new LogMessage("An Error message", LogLevel.ERROR))));
             return view;
         }
     }
@@ -79,6 +83,14 @@ public class LogPaneTest extends ApplicationTest {
         stage.show();
     }
 
+    @Test
+    public void levelFilterButtons() {
+        for (LogLevel level : LogLevel.values()) {
+            ToggleButton button = lookup("#" + level.name().toLowerCase(Locale.ROOT) + "LogFilterButton").query();
+            assertEquals(level.description(), button.getText());
+        }
+    }
+
     @Test
     @Category(NoHeadless.class)
     public void clear() {
@@ -0,0 +1,94 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui.log;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pdfsam.task.TaskExecutionController;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.ThrowableProxy;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class StructuredLogEncoderTest {
+
+    private StructuredLogEncoder victim = new StructuredLogEncoder();
+
+    @Test
+    public void encode() throws Exception {
+        ILoggingEvent event = event();
+        String line = new String(victim.encode(event), StandardCharsets.UTF_8);
+        assertTrue(line.endsWith("\n"));
+        assertFalse(line.trim().contains("\n"));
+        Map<String, Object> record = JSON.std.mapFrom(line);
+        assertEquals("INFO", record.get("level"));
+        assertEquals("main", record.get("thread"));
+        assertEquals("org.pdfsam.Logger", record.get("logger"));
+        assertEquals("my \"message\"\nsecond line", record.get("message"));
+        assertFalse(record.containsKey("task"));
+        assertFalse(record.containsKey("exception"));
+    }
+
+    @Test
+    public void encodeTask() throws Exception {
+        ILoggingEvent event = event();
+        Map<String, String> context = new HashMap<>();
+        context.put(TaskExecutionController.MDC_TASK_ID, "3");
+        context.put(TaskExecutionController.MDC_MODULE, "merge");
+        context.put(TaskExecutionController.MDC_TASK_START, "1000");
+        when(event.getMDCPropertyMap()).thenReturn(context);
+        Map<String, Object> record = JSON.std.mapFrom(new String(victim.encode(event), StandardCharsets.UTF_8));
+        assertEquals("3", record.get("task"));
+        assertEquals("merge", record.get("module"));
+        assertEquals(500, ((Number) record.get("elapsed")).intValue());
+    }
+
+    @Test
+    public void encodeException() throws Exception {
+        ILoggingEvent event = event();
+        when(event.getThrowableProxy()).thenReturn(new ThrowableProxy(new IllegalStateException("failed")));
+        Map<String, Object> record = JSON.std.mapFrom(new String(victim.encode(event), StandardCharsets.UTF_8));
+        assertTrue(record.get("exception").toString().contains("IllegalStateException: failed"));
+    }
+
+    private static ILoggingEvent event() {
+        ILoggingEvent event = mock(ILoggingEvent.class);
+        when(event.getLevel()).thenReturn(Level.INFO);
+        when(event.getTimeStamp()).thenReturn(1500L);
+        when(event.getThreadName()).thenReturn("main");
+        when(event.getLoggerName()).thenReturn("org.pdfsam.Logger");
+        when(event.getFormattedMessage()).thenReturn("my \"message\"\nsecond line");
+        return event;
+    }
+}
@@ -23,8 +23,10 @@ import static org.sejda.eventstudio.StaticStudio.eventStudio;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.sejda.eventstudio.annotation.EventListener;
@@ -34,7 +36,8 @@ import org.xnap.commons.i18n.I18n;
 import org.xnap.commons.i18n.I18nFactory;
 
 /**
- * Default implementation of the {@link I18nContext}.
+ * Default implementation of the {@link I18nContext}. Translations and parsed message templates are cached for the current locale and
+ * discarded when the locale changes.
  * 
  * @author Andrea Vacondio
  * 
@@ -78,7 +81,9 @@ public final class DefaultI18nContext implements I18nContext {
         SUPPORTED_LOCALES = Collections.unmodifiableSet(supportedLocalesCache);
     }
 
-    private I18n i18n;
+    static final int MAX_CACHED_MESSAGES = 4096;
+
+    private volatile Messages messages;
 
     DefaultI18nContext() {
         Locale.setDefault(getBestLocale());
@@ -88,7 +93,7 @@ public final class DefaultI18nContext implements I18nContext {
 
     private void refreshBundles() {
         LOG.trace("Loading i18n bundle for {}", Locale.getDefault());
-        this.i18n = I18nFactory.getI18n(DefaultI18nContext.class);
+        this.messages = new Messages(I18nFactory.getI18n(DefaultI18nContext.class));
         LOG.debug("Locale set to {}", Locale.getDefault().getDisplayLanguage());
     }
 
@@ -125,17 +130,85 @@ public final class DefaultI18nContext implements I18nContext {
 
     @Override
     public String i18n(String input) {
-        return i18n.tr(input);
+        return messages.translation(input);
     }
 
     @Override
     public String i18n(String input, String value) {
-        return i18n.tr(input, value);
+        return messages.format(input, value);
     }
 
     @Override
     public String i18n(String input, String value0, String value1) {
-        return i18n.tr(input, value0, value1);
+        return messages.format(input, value0, value1);
+    }
+
+    @Override
+    public String i18n(String input, int value) {
+        return messages.format(input, value);
+    }
+
+    /**
+     * Translated messages and parsed templates for the current locale. Messages that cannot be parsed are formatted by the {@link I18n}.
+     * 
+     * @author Andrea Vacondio
+     *
+     */
+    private static final class Messages {
+        private static final MessageTemplate NOT_COMPILED = MessageTemplate.compile("");
+        private final I18n i18n;
+        private final Map<String, String> translations = new ConcurrentHashMap<>();
+        private final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+
+        Messages(I18n i18n) {
+            this.i18n = i18n;
+        }
+
+        String translation(String input) {
+            String translation = translations.get(input);
+            if (translation == null) {
+                translation = i18n.tr(input);
+                if (translations.size() < MAX_CACHED_MESSAGES) {
+                    translations.put(input, translation);
+                }
+            }
+            return translation;
+        }
+
+        private MessageTemplate template(String input) {
+            MessageTemplate template = templates.get(input);
+            if (template == null) {
+                template = Optional.ofNullable(MessageTemplate.compile(translation(input))).orElse(NOT_COMPILED);
+                if (templates.size() < MAX_CACHED_MESSAGES) {
+                    templates.put(input, template);
+                }
+            }
+            return template;
+        }
+
+        String format(String input, String value) {
+            MessageTemplate template = template(input);
+            if (template == NOT_COMPILED) {
+                return i18n.tr(input, value);
+            }
+            return template.format(value);
+        }
+
+        String format(String input, String value0, String value1) {
+            MessageTemplate template = template(input);
+            if (template == NOT_COMPILED) {
+                return i18n.tr(input, value0, value1);
+            }
+            return template.format(value0, value1);
+        }
+
+        String format(String input, int value) {
+            MessageTemplate template = template(input);
+            if (template == NOT_COMPILED) {
+                return i18n.tr(input, Integer.toString(value));
+            }
+            return template.format(value);
+        }
     }
 
     /**
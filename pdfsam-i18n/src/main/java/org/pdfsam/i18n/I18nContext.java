@@ -53,6 +53,15 @@ public interface I18nContext {
      */
     String i18n(String input, String value0, String value1);
 
+    /**
+     * @param input
+     *            input string
+     * @param value
+     *            value for a {0} placeholder, formatted as {@link Integer#toString(int)} does
+     * @return the internationalized message.
+     */
+    String i18n(String input, int value);
+
     /**
      * @param singular
      *            input string for singular
@@ -0,0 +1,130 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.i18n;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link MessageFormat} pattern parsed once, where every argument is a plain {@code {n}} placeholder. Formatting gives the same result
+ * {@link MessageFormat} gives for string arguments, without parsing the pattern again.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+final class MessageTemplate {
+    private final String[] literals;
+    private final int[] arguments;
+    private final int length;
+
+    private MessageTemplate(List<String> literals, List<Integer> arguments) {
+        this.literals = literals.toArray(new String[0]);
+        this.arguments = arguments.stream().mapToInt(Integer::intValue).toArray();
+        this.length = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * @param pattern
+     * @return the parsed template or null if the pattern is not valid or it contains arguments with a format type or style, that we leave
+     *         to {@link MessageFormat}
+     */
+    static MessageTemplate compile(String pattern) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(pattern.length());
+        boolean quoted = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            char current = pattern.charAt(i);
+            if (current == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i += 2;
+                    continue;
+                }
+                quoted = !quoted;
+            } else if (current == '{' && !quoted) {
+                int end = pattern.indexOf('}', i);
+                if (end < 0) {
+                    return null;
+                }
+                int index = argumentIndex(pattern, i + 1, end);
+                if (index < 0) {
+                    return null;
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                arguments.add(index);
+                i = end;
+            } else if (current == '}' && !quoted) {
+                // MessageFormat is fine with this but we don't want to deal with its edge cases
+                return null;
+            } else {
+                literal.append(current);
+            }
+            i++;
+        }
+        literals.add(literal.toString());
+        return new MessageTemplate(literals, arguments);
+    }
+
+    private static int argumentIndex(String pattern, int start, int end) {
+        String index = pattern.substring(start, end);
+        if (index.isEmpty() || index.length() > 4) {
+            return -1;
+        }
+        for (int i = 0; i < index.length(); i++) {
+            if (index.charAt(i) < '0' || index.charAt(i) > '9') {
+                return -1;
+            }
+        }
+        return Integer.parseInt(index);
+    }
+
+    String format(String... values) {
+        StringBuilder result = new StringBuilder(length + 16 * arguments.length);
+        for (int i = 0; i < arguments.length; i++) {
+            result.append(literals[i]);
+            int index = arguments[i];
+            if (index < values.length) {
+                result.append(values[index]);
+            } else {
+                result.append('{').append(index).append('}');
+            }
+        }
+        return result.append(literals[arguments.length]).toString();
+    }
+
+    /**
+     * Formats the template with a single integer argument, the number is formatted as {@link Integer#toString(int)} would do.
+     */
+    String format(int value) {
+        StringBuilder result = new StringBuilder(length + 11 * arguments.length);
+        for (int i = 0; i < arguments.length; i++) {
+            result.append(literals[i]);
+            if (arguments[i] == 0) {
+                result.append(value);
+            } else {
+                result.append('{').append(arguments[i]).append('}');
+            }
+        }
+        return result.append(literals[arguments.length]).toString();
+    }
+}
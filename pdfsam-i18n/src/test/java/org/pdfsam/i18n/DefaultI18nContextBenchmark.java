@@ -0,0 +1,64 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.i18n;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.xnap.commons.i18n.I18n;
+import org.xnap.commons.i18n.I18nFactory;
+
+/**
+ * Rough benchmark comparing the cached {@link DefaultI18nContext} with the previous implementation, delegating every call to the
+ * {@link I18n}. It's not a unit test, run it from the IDE or with
+ * {@code java -cp <test classpath> org.pdfsam.i18n.DefaultI18nContextBenchmark [iterations]}.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+public class DefaultI18nContextBenchmark {
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        I18n i18n = I18nFactory.getI18n(DefaultI18nContext.class);
+        I18nContext context = DefaultI18nContext.getInstance();
+        for (int i = 0; i < ROUNDS; i++) {
+            System.out.printf("Round %d%n", i + 1);
+            run("tr no arguments", iterations, n -> i18n.tr("Running"));
+            run("i18n no arguments", iterations, n -> context.i18n("Running"));
+            run("tr string argument", iterations, n -> i18n.tr("Running {0}%", Integer.toString(n % 100)));
+            run("i18n string argument", iterations, n -> context.i18n("Running {0}%", Integer.toString(n % 100)));
+            run("i18n int argument", iterations, n -> context.i18n("Running {0}%", n % 100));
+            run("tr two arguments", iterations, n -> i18n.tr("{0} of {1}", "first", "second"));
+            run("i18n two arguments", iterations, n -> context.i18n("{0} of {1}", "first", "second"));
+        }
+    }
+
+    private static void run(String name, int iterations, IntFunction<String> operation) {
+        long length = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            length += operation.apply(i).length();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("  %-22s %6dms %8.1fns/op (%d)%n", name, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                (double) elapsed / iterations, length);
+    }
+}
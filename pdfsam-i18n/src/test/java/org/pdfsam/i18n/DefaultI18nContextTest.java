@@ -73,4 +73,25 @@ public class DefaultI18nContextTest {
         Locale.setDefault(Locale.CANADA_FRENCH);
         assertEquals(Locale.FRENCH, victim.getBestLocale());
     }
+
+    @Test
+    public void integerArgument() {
+        DefaultI18nContext victim = new DefaultI18nContext();
+        assertEquals(victim.i18n("Running {0}%", "50"), victim.i18n("Running {0}%", 50));
+        assertEquals(victim.i18n("Running {0}%", "12345"), victim.i18n("Running {0}%", 12345));
+    }
+
+    @Test
+    public void cachedFormatting() {
+        DefaultI18nContext victim = new DefaultI18nContext();
+        assertEquals(victim.i18n("{0} of {1}", "A", "B"), victim.i18n("{0} of {1}", "A", "B"));
+        assertEquals("A of B", victim.i18n("{0} of {1}", "A", "B"));
+        assertEquals("C of D", victim.i18n("{0} of {1}", "C", "D"));
+    }
+
+    @Test
+    public void notCompiledFormatting() {
+        DefaultI18nContext victim = new DefaultI18nContext();
+        assertEquals("Closing } brace A", victim.i18n("Closing } brace {0}", "A"));
+    }
 }
@@ -0,0 +1,61 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.i18n;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.text.MessageFormat;
+
+import org.junit.Test;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class MessageTemplateTest {
+
+    @Test
+    public void sameAsMessageFormat() {
+        String[] patterns = { "", "No arguments", "Running {0}%", "{0}", "{0} of {1}", "{1} before {0}",
+                "Don''t {0}", "Quoted '{0}' argument", "Quoted ''{0}'' value", "Unterminated 'quote {0}", "'{'{0}'}'",
+                "Repeated {0} {0}", "Missing {2}" };
+        for (String pattern : patterns) {
+            MessageTemplate victim = MessageTemplate.compile(pattern);
+            assertEquals(pattern, new MessageFormat(pattern).format(new Object[] { "A", "B" }), victim.format("A", "B"));
+            assertEquals(pattern, new MessageFormat(pattern).format(new Object[] { "A" }), victim.format("A"));
+            assertEquals(pattern, new MessageFormat(pattern).format(new Object[] { "1234" }), victim.format(1234));
+        }
+    }
+
+    @Test
+    public void nullValue() {
+        assertEquals("Value null", MessageTemplate.compile("Value {0}").format((String) null));
+    }
+
+    @Test
+    public void notCompiled() {
+        assertNull(MessageTemplate.compile("{0,number,integer}"));
+        assertNull(MessageTemplate.compile("{0,choice,0#none|1#one}"));
+        assertNull(MessageTemplate.compile("Unterminated {0"));
+        assertNull(MessageTemplate.compile("Not an index {zero}"));
+        assertNull(MessageTemplate.compile("Closing } brace"));
+        assertNull(MessageTemplate.compile("{ 0 }"));
+    }
+}
@@ -22,6 +22,7 @@ import static org.pdfsam.module.ModuleDescriptorBuilder.builder;
 import static org.pdfsam.ui.support.Views.titledPane;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import javax.inject.Inject;
@@ -33,6 +34,7 @@ import org.pdfsam.module.ModuleCategory;
 import org.pdfsam.module.ModuleDescriptor;
 import org.pdfsam.module.ModuleInputOutputType;
 import org.pdfsam.module.ModulePriority;
+import org.pdfsam.module.RequiredPdfData;
 import org.pdfsam.ui.commons.ClearModuleEvent;
 import org.pdfsam.ui.io.BrowsablePdfOutputField;
 import org.pdfsam.ui.io.PdfDestinationPane;
@@ -63,8 +65,8 @@ public class MergeModule extends BaseTaskExecutionModule {
 
     private static final String MODULE_ID = "merge";
 
-    private MergeSelectionPane selectionPane = new MergeSelectionPane(MODULE_ID);
-    private MergeOptionsPane mergeOptions = new MergeOptionsPane();
+    private MergeSelectionPane selectionPane;
+    private MergeOptionsPane mergeOptions;
     private BrowsablePdfOutputField destinationFileField;
     private PdfDestinationPane destinationPane;
     private ModuleDescriptor descriptor = builder().category(ModuleCategory.MERGE)
@@ -79,7 +81,6 @@ public class MergeModule extends BaseTaskExecutionModule {
         super(footer);
         this.destinationFileField = destinationFileField;
         this.destinationPane = destinationPane;
-        initModuleSettingsPanel(settingPanel());
     }
 
     @Override
@@ -103,6 +104,11 @@ public class MergeModule extends BaseTaskExecutionModule {
         destinationPane.restoreStateFrom(data);
     }
 
+    @Override
+    protected CompletableFuture<Void> restored() {
+        return selectionPane.table().restored();
+    }
+
     @Override
     protected MergeParametersBuilder getBuilder(Consumer<String> onError) {
         MergeParametersBuilder builder = new MergeParametersBuilder();
@@ -113,7 +119,11 @@ public class MergeModule extends BaseTaskExecutionModule {
         return builder;
     }
 
-    private VBox settingPanel() {
+    @Override
+    protected VBox settingPanel() {
+        selectionPane = new MergeSelectionPane(MODULE_ID);
+        mergeOptions = new MergeOptionsPane();
+
         VBox pane = new VBox();
         pane.setAlignment(Pos.TOP_CENTER);
         VBox.setVgrow(selectionPane, Priority.ALWAYS);
@@ -138,6 +148,12 @@ public class MergeModule extends BaseTaskExecutionModule {
         }
     }
 
+    @Override
+    public RequiredPdfData[] requires() {
+        return new RequiredPdfData[] { RequiredPdfData.DEFAULT, RequiredPdfData.FINGERPRINT,
+                RequiredPdfData.PAGES_GEOMETRY };
+    }
+
     @Override
     public Node graphic() {
         return new ImageView("merge.png");
@@ -24,6 +24,7 @@ import java.util.Objects;
 import java.util.function.Consumer;
 
 import org.pdfsam.i18n.DefaultI18nContext;
+import org.pdfsam.support.params.PageRanges;
 import org.pdfsam.support.params.TaskParametersBuildStep;
 import org.pdfsam.ui.selection.multiple.FileColumn;
 import org.pdfsam.ui.selection.multiple.IntColumn;
@@ -32,6 +33,7 @@ import org.pdfsam.ui.selection.multiple.LongColumn;
 import org.pdfsam.ui.selection.multiple.MultipleSelectionPane;
 import org.pdfsam.ui.selection.multiple.PageRangesColumn;
 import org.pdfsam.ui.selection.multiple.SelectionTableColumn;
+import org.pdfsam.ui.selection.multiple.SelectionTableRowData;
 import org.sejda.conversion.exception.ConversionException;
 import org.sejda.model.input.PdfMergeInput;
 import org.slf4j.Logger;
@@ -58,8 +60,7 @@ public class MergeSelectionPane extends MultipleSelectionPane
     public void apply(MergeParametersBuilder builder, Consumer<String> onError) {
         try {
             table().getItems().stream().filter(s -> !Objects.equals("0", trim(s.pageSelection.get())))
-                    .map(i -> new PdfMergeInput(i.descriptor().toPdfFileSource(), i.toPageRangeSet()))
-                    .forEach(builder::addInput);
+                    .map(MergeSelectionPane::toMergeInput).forEach(builder::addInput);
             if (!builder.hasInput()) {
                 onError.accept(DefaultI18nContext.getInstance().i18n("No PDF document has been selected"));
             }
@@ -68,4 +69,13 @@ public class MergeSelectionPane extends MultipleSelectionPane
             onError.accept(e.getMessage());
         }
     }
+
+    private static PdfMergeInput toMergeInput(SelectionTableRowData row) throws ConversionException {
+        PageRanges ranges = row.toPageRanges();
+        if (ranges.hasIntersections()) {
+            throw new ConversionException(DefaultI18nContext.getInstance().i18n("Overlapping page ranges: {0}.",
+                    row.pageSelection.get()));
+        }
+        return new PdfMergeInput(row.descriptor().toPdfFileSource(), ranges.toPageRangeSet());
+    }
 }
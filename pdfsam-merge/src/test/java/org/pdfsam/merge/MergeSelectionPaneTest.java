@@ -107,6 +107,15 @@ public class MergeSelectionPaneTest {
         assertEquals(2, input.getValue().getPageSelection().size());
     }
 
+    @Test
+    public void overlappingPageSelection() throws Exception {
+        populate();
+        victim.table().getItems().get(0).pageSelection.set("1-5,3");
+        victim.apply(builder, onError);
+        verify(onError).accept(anyString());
+        verify(builder, never()).addInput(any());
+    }
+
     @Test
     public void converstionException() throws Exception {
         populate();
@@ -21,6 +21,7 @@ package org.pdfsam.rotate;
 import static org.pdfsam.module.ModuleDescriptorBuilder.builder;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import javax.inject.Inject;
@@ -66,11 +67,11 @@ public class RotateModule extends BaseTaskExecutionModule {
 
     private static final String MODULE_ID = "rotate";
 
-    private RotateSelectionPane selectionPane = new RotateSelectionPane(MODULE_ID);
-    private RotateOptionsPane rotateOptions = new RotateOptionsPane();
+    private RotateSelectionPane selectionPane;
+    private RotateOptionsPane rotateOptions;
     private BrowsableOutputDirectoryField destinationDirectoryField;
     private PdfDestinationPane destinationPane;
-    private PrefixPane prefix = new PrefixPane();
+    private PrefixPane prefix;
     private ModuleDescriptor descriptor = builder().category(ModuleCategory.OTHER)
             .inputTypes(ModuleInputOutputType.MULTIPLE_PDF, ModuleInputOutputType.SINGLE_PDF)
             .name(DefaultI18nContext.getInstance().i18n("Rotate"))
@@ -83,7 +84,6 @@ public class RotateModule extends BaseTaskExecutionModule {
         super(footer);
         this.destinationDirectoryField = destinationDirectoryField;
         this.destinationPane = destinationPane;
-        initModuleSettingsPanel(settingPanel());
     }
 
     @Override
@@ -120,7 +120,17 @@ public class RotateModule extends BaseTaskExecutionModule {
         prefix.restoreStateFrom(data);
     }
 
-    private VBox settingPanel() {
+    @Override
+    protected CompletableFuture<Void> restored() {
+        return selectionPane.table().restored();
+    }
+
+    @Override
+    protected VBox settingPanel() {
+        selectionPane = new RotateSelectionPane(MODULE_ID);
+        rotateOptions = new RotateOptionsPane();
+        prefix = new PrefixPane();
+
         VBox pane = new VBox();
         pane.setAlignment(Pos.TOP_CENTER);
         VBox.setVgrow(selectionPane, Priority.ALWAYS);
@@ -18,11 +18,17 @@
  */
 package org.pdfsam;
 
+import static org.pdfsam.support.StartupTimeline.startupTimeline;
+
+import java.util.function.Supplier;
+
+import org.pdfsam.http.HttpServiceConfig;
 import org.pdfsam.module.ModuleServiceConfig;
 import org.pdfsam.news.NewsServiceConfig;
 import org.pdfsam.pdf.PdfServiceConfig;
 import org.pdfsam.premium.PremiumServiceConfig;
 import org.pdfsam.task.TaskExecutionServiceConfig;
+import org.pdfsam.thumbnail.ThumbnailsServiceConfig;
 import org.pdfsam.ui.UIServiceConfig;
 import org.pdfsam.update.UpdateServiceConfig;
 import org.sejda.injector.Injector;
@@ -36,7 +42,18 @@ public class Services {
      * Adds configurations to the injector to create all the instances necessary to have the services up and running
      */
     public static void initServices() {
-        Injector.addConfig(new UpdateServiceConfig(), new UIServiceConfig(), new TaskExecutionServiceConfig(),
-                new PdfServiceConfig(), new NewsServiceConfig(), new ModuleServiceConfig(), new PremiumServiceConfig());
+        addConfig("http", HttpServiceConfig::new);
+        addConfig("update", UpdateServiceConfig::new);
+        addConfig("ui", UIServiceConfig::new);
+        addConfig("task execution", TaskExecutionServiceConfig::new);
+        addConfig("pdf", PdfServiceConfig::new);
+        addConfig("news", NewsServiceConfig::new);
+        addConfig("module", ModuleServiceConfig::new);
+        addConfig("premium", PremiumServiceConfig::new);
+        addConfig("thumbnails", ThumbnailsServiceConfig::new);
+    }
+
+    private static void addConfig(String name, Supplier<Object> config) {
+        startupTimeline().measure(name + " services config", () -> Injector.addConfig(config.get()));
     }
 }
@@ -0,0 +1,200 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.http;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.pdfsam.support.RequireUtils.require;
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link HttpService} with connect and read timeouts and an on disk cache of the responses honoring ETag, Last-Modified and the max-age
+ * and stale-while-revalidate Cache-Control directives. Non HTTP URLs are read without caching.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class DefaultHttpService implements HttpService {
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultHttpService.class);
+    static final int MAX_BODY_BYTES = 4 * 1024 * 1024;
+
+    private final HttpDiskCache cache;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+    private final LongSupplier clock;
+    private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor revalidation;
+
+    DefaultHttpService(HttpDiskCache cache, int connectTimeoutMillis, int readTimeoutMillis) {
+        this(cache, connectTimeoutMillis, readTimeoutMillis, System::currentTimeMillis);
+    }
+
+    DefaultHttpService(HttpDiskCache cache, int connectTimeoutMillis, int readTimeoutMillis, LongSupplier clock) {
+        requireNotNull(cache, "Cache cannot be null");
+        require(connectTimeoutMillis > 0, "Connect timeout must be positive");
+        require(readTimeoutMillis > 0, "Read timeout must be positive");
+        requireNotNull(clock, "Clock cannot be null");
+        this.cache = cache;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+        this.clock = clock;
+        this.revalidation = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "http-revalidation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.revalidation.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public byte[] get(URL url) throws IOException {
+        requireNotNull(url, "URL cannot be null");
+        if (!isHttp(url)) {
+            try (InputStream stream = open(url).getInputStream()) {
+                return read(stream);
+            }
+        }
+        Optional<HttpCacheEntry> cached = cache.get(url);
+        if (cached.isPresent()) {
+            HttpCacheEntry entry = cached.get();
+            long now = clock.getAsLong();
+            if (entry.isFresh(now)) {
+                LOG.trace("Serving {} from cache", url);
+                return entry.body();
+            }
+            if (entry.isRevalidatingInBackground(now)) {
+                LOG.trace("Serving stale {} from cache while revalidating", url);
+                revalidateInBackground(url, entry);
+                return entry.body();
+            }
+            try {
+                return fetch(url, entry).body();
+            } catch (IOException e) {
+                LOG.warn("Unable to revalidate {}, using the cached response", url, e);
+                return entry.body();
+            }
+        }
+        return fetch(url, null).body();
+    }
+
+    private void revalidateInBackground(URL url, HttpCacheEntry entry) {
+        String key = url.toExternalForm();
+        if (revalidating.add(key)) {
+            revalidation.execute(() -> {
+                try {
+                    fetch(url, entry);
+                } catch (IOException e) {
+                    LOG.debug("Unable to revalidate {}", url, e);
+                } finally {
+                    revalidating.remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Requests the resource, conditionally if we have a cached entry, and updates the cache with the response
+     */
+    private HttpCacheEntry fetch(URL url, HttpCacheEntry cached) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) open(url);
+        if (nonNull(cached)) {
+            if (isNotBlank(cached.etag())) {
+                connection.setRequestProperty("If-None-Match", cached.etag());
+            }
+            if (isNotBlank(cached.lastModified())) {
+                connection.setRequestProperty("If-Modified-Since", cached.lastModified());
+            }
+        }
+        int status = connection.getResponseCode();
+        HttpCacheEntry entry;
+        if (status == HttpURLConnection.HTTP_NOT_MODIFIED && nonNull(cached)) {
+            LOG.trace("{} not modified", url);
+            entry = cached.revalidated(connection::getHeaderField, clock.getAsLong());
+        } else if (status == HttpURLConnection.HTTP_OK) {
+            try (InputStream stream = connection.getInputStream()) {
+                entry = HttpCacheEntry.of(read(stream), connection::getHeaderField, clock.getAsLong());
+            }
+        } else {
+            discard(connection);
+            throw new IOException(String.format("Unexpected response %d from %s", status, url));
+        }
+        if (entry.isCacheable()) {
+            cache.put(url, entry);
+        } else {
+            cache.remove(url);
+        }
+        return entry;
+    }
+
+    private URLConnection open(URL url) throws IOException {
+        URLConnection connection = url.openConnection();
+        connection.setConnectTimeout(connectTimeoutMillis);
+        connection.setReadTimeout(readTimeoutMillis);
+        connection.setUseCaches(false);
+        return connection;
+    }
+
+    /**
+     * Consumes the error stream so the connection can be reused
+     */
+    private static void discard(HttpURLConnection connection) {
+        try (InputStream error = connection.getErrorStream()) {
+            if (nonNull(error)) {
+                error.transferTo(OutputStream.nullOutputStream());
+            }
+        } catch (IOException e) {
+            // nothing to do
+        }
+    }
+
+    private static byte[] read(InputStream stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = stream.read(buffer)) != -1) {
+            if (out.size() + read > MAX_BODY_BYTES) {
+                throw new IOException("Response body is too big");
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean isHttp(URL url) {
+        return "http".equalsIgnoreCase(url.getProtocol()) || "https".equalsIgnoreCase(url.getProtocol());
+    }
+}
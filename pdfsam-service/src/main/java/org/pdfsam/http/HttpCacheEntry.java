@@ -0,0 +1,190 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.http;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.apache.commons.lang3.StringUtils.trimToEmpty;
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+/**
+ * A cached HTTP response with the information needed to decide if it's still fresh and to revalidate it
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+final class HttpCacheEntry {
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
+    private static final String CACHE_CONTROL = "Cache-Control";
+
+    private final byte[] body;
+    private final String etag;
+    private final String lastModified;
+    private final long fetched;
+    private final long maxAgeSeconds;
+    private final long staleWhileRevalidateSeconds;
+    private final boolean noStore;
+
+    private HttpCacheEntry(byte[] body, String etag, String lastModified, long fetched, long maxAgeSeconds,
+            long staleWhileRevalidateSeconds, boolean noStore) {
+        requireNotNull(body, "Body cannot be null");
+        this.body = body;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.fetched = fetched;
+        this.maxAgeSeconds = maxAgeSeconds;
+        this.staleWhileRevalidateSeconds = staleWhileRevalidateSeconds;
+        this.noStore = noStore;
+    }
+
+    /**
+     * @param body
+     *            body of the response
+     * @param headers
+     *            function returning the value of the response header with the given name or null
+     * @param now
+     *            time the response was received
+     * @return the entry for the response
+     */
+    static HttpCacheEntry of(byte[] body, Function<String, String> headers, long now) {
+        CacheControl cacheControl = new CacheControl(headers.apply(CACHE_CONTROL));
+        return new HttpCacheEntry(body, headers.apply(ETAG), headers.apply(LAST_MODIFIED), now, cacheControl.maxAge,
+                cacheControl.staleWhileRevalidate, cacheControl.noStore);
+    }
+
+    /**
+     * @param headers
+     *            headers of the not modified response
+     * @param now
+     *            time the response was received
+     * @return a copy of this entry with the same body, updated using the headers of a not modified response
+     */
+    HttpCacheEntry revalidated(Function<String, String> headers, long now) {
+        CacheControl cacheControl = new CacheControl(headers.apply(CACHE_CONTROL));
+        String newEtag = headers.apply(ETAG);
+        String newLastModified = headers.apply(LAST_MODIFIED);
+        return new HttpCacheEntry(body, isNotBlank(newEtag) ? newEtag : etag,
+                isNotBlank(newLastModified) ? newLastModified : lastModified, now, cacheControl.maxAge,
+                cacheControl.staleWhileRevalidate, cacheControl.noStore);
+    }
+
+    byte[] body() {
+        return body;
+    }
+
+    String etag() {
+        return etag;
+    }
+
+    String lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * @return true if the response can be served without revalidating it
+     */
+    boolean isFresh(long now) {
+        return now < fetched + TimeUnit.SECONDS.toMillis(maxAgeSeconds);
+    }
+
+    /**
+     * @return true if the response is stale but it can be served while it's revalidated in the background
+     */
+    boolean isRevalidatingInBackground(long now) {
+        return !isFresh(now)
+                && now < fetched + TimeUnit.SECONDS.toMillis(maxAgeSeconds + staleWhileRevalidateSeconds);
+    }
+
+    /**
+     * @return true if the response can be stored
+     */
+    boolean isCacheable() {
+        return !noStore && (maxAgeSeconds > 0 || isNotBlank(etag) || isNotBlank(lastModified));
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("body", Base64.getEncoder().encodeToString(body));
+        map.put("etag", etag);
+        map.put("lastModified", lastModified);
+        map.put("fetched", fetched);
+        map.put("maxAge", maxAgeSeconds);
+        map.put("staleWhileRevalidate", staleWhileRevalidateSeconds);
+        return map;
+    }
+
+    static HttpCacheEntry fromMap(Map<String, Object> map) {
+        Object body = map.get("body");
+        requireNotNull(body, "Cached body cannot be null");
+        return new HttpCacheEntry(Base64.getDecoder().decode(body.toString()), (String) map.get("etag"),
+                (String) map.get("lastModified"), number(map.get("fetched")), number(map.get("maxAge")),
+                number(map.get("staleWhileRevalidate")), false);
+    }
+
+    private static long number(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return 0;
+    }
+
+    /**
+     * The Cache-Control response directives we care about
+     */
+    private static class CacheControl {
+        private long maxAge = 0;
+        private long staleWhileRevalidate = 0;
+        private boolean noStore = false;
+
+        CacheControl(String header) {
+            boolean noCache = false;
+            if (nonNull(header)) {
+                for (String directive : header.split(",")) {
+                    String[] nameValue = directive.split("=", 2);
+                    String name = trimToEmpty(nameValue[0]).toLowerCase(Locale.ROOT);
+                    String value = nameValue.length > 1 ? trimToEmpty(nameValue[1]).replace("\"", "") : "";
+                    if ("max-age".equals(name)) {
+                        maxAge = Math.max(0, NumberUtils.toLong(value));
+                    } else if ("stale-while-revalidate".equals(name)) {
+                        staleWhileRevalidate = Math.max(0, NumberUtils.toLong(value));
+                    } else if ("no-store".equals(name)) {
+                        noStore = true;
+                    } else if ("no-cache".equals(name)) {
+                        noCache = true;
+                    }
+                }
+            }
+            if (noCache) {
+                // can be stored but it has to be revalidated every time
+                maxAge = 0;
+                staleWhileRevalidate = 0;
+            }
+        }
+    }
+}
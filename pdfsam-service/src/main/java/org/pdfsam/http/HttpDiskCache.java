@@ -0,0 +1,127 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.http;
+
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+/**
+ * On disk cache of HTTP responses, one JSON file per URL. Entries read from disk are kept in memory.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class HttpDiskCache {
+    private static final Logger LOG = LoggerFactory.getLogger(HttpDiskCache.class);
+    private static final String EXTENSION = ".json";
+
+    private final Path directory;
+    private final Map<String, HttpCacheEntry> entries = new ConcurrentHashMap<>();
+
+    HttpDiskCache(Path directory) {
+        requireNotNull(directory, "Cache directory cannot be null");
+        this.directory = directory;
+    }
+
+    /**
+     * @param url
+     * @return the cached response or an empty optional if not cached or not readable
+     */
+    Optional<HttpCacheEntry> get(URL url) {
+        String id = id(url);
+        HttpCacheEntry entry = entries.get(id);
+        if (entry == null) {
+            Path file = directory.resolve(id + EXTENSION);
+            if (Files.isRegularFile(file)) {
+                try {
+                    entry = HttpCacheEntry.fromMap(JSON.std.mapFrom(file.toFile()));
+                    entries.putIfAbsent(id, entry);
+                } catch (IOException | RuntimeException e) {
+                    LOG.debug("Unable to read cached response for {}", url, e);
+                }
+            }
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    /**
+     * Stores the response. It's written to a temporary file first so that a concurrent reader never sees a partially written entry.
+     * 
+     * @param url
+     * @param entry
+     */
+    void put(URL url, HttpCacheEntry entry) {
+        String id = id(url);
+        entries.put(id, entry);
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, id, ".tmp");
+            try {
+                Files.write(tmp, JSON.std.asBytes(entry.toMap()));
+                Files.move(tmp, directory.resolve(id + EXTENSION), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to cache response for {}", url, e);
+        }
+    }
+
+    void remove(URL url) {
+        String id = id(url);
+        entries.remove(id);
+        try {
+            Files.deleteIfExists(directory.resolve(id + EXTENSION));
+        } catch (IOException e) {
+            LOG.debug("Unable to remove cached response for {}", url, e);
+        }
+    }
+
+    private static String id(URL url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1")
+                    .digest(url.toExternalForm().getBytes(StandardCharsets.UTF_8));
+            StringBuilder id = new StringBuilder(digest.length * 2);
+            for (byte current : digest) {
+                id.append(String.format("%02x", current));
+            }
+            return id.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-1
+            throw new IllegalStateException(e);
+        }
+    }
+}
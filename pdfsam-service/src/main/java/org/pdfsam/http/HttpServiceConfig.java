@@ -0,0 +1,53 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.http;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.sejda.injector.Provides;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class HttpServiceConfig {
+    /**
+     * System property to configure the directory where HTTP responses are cached. Cached responses are trusted, the directory must not be
+     * writable by other users.
+     */
+    public static final String PDFSAM_HTTP_CACHE_DIR = "org.pdfsam.http.cache.dir";
+    static final int CONNECT_TIMEOUT_MILLIS = 5000;
+    static final int READ_TIMEOUT_MILLIS = 10000;
+
+    @Provides
+    HttpService http() {
+        return new DefaultHttpService(new HttpDiskCache(cacheDirectory()), CONNECT_TIMEOUT_MILLIS, READ_TIMEOUT_MILLIS);
+    }
+
+    private static Path cacheDirectory() {
+        String directory = System.getProperty(PDFSAM_HTTP_CACHE_DIR);
+        if (isNotBlank(directory)) {
+            return Paths.get(directory);
+        }
+        return Paths.get(System.getProperty("user.home"), ".pdfsam", "cache", "http");
+    }
+}
@@ -24,8 +24,15 @@ import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.Preferences;
 
@@ -37,6 +44,9 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.jr.ob.JSON;
 
 /**
+ * Modules usage statistics. Usages are loaded from the {@link Preferences} once and counted in memory, changes are written back in batch
+ * periodically and on shutdown.
+ * 
  * @author Andrea Vacondio
  */
 class PreferencesUsageDataStore {
@@ -45,45 +55,75 @@ class PreferencesUsageDataStore {
     static final String USAGE_PATH = "/org/pdfsam/modules/usage";
     static final String MODULE_USAGE_KEY = "module.usage";
     static final String TASKS_EXECUTED_KEY = "tasks.executed";
+    static final long FLUSH_PERIOD_SECONDS = 60;
+
+    private final Map<String, UsageCounter> usages = new ConcurrentHashMap<>();
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicLong totalUsage = new AtomicLong();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicBoolean loaded = new AtomicBoolean(false);
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "usage-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public PreferencesUsageDataStore() {
         eventStudio().addAnnotatedListeners(this);
+        flusher.scheduleWithFixedDelay(this::flush, FLUSH_PERIOD_SECONDS, FLUSH_PERIOD_SECONDS, TimeUnit.SECONDS);
     }
 
-    public void incrementUsageFor(String moduleId) {
-        Preferences node = Preferences.userRoot().node(USAGE_PATH).node(moduleId);
-        String json = node.get(MODULE_USAGE_KEY, "");
-        try {
-            if (isNotBlank(json)) {
-                node.put(MODULE_USAGE_KEY, JSON.std.asString(JSON.std.beanFrom(ModuleUsage.class, json).inc()));
-            } else {
-                node.put(MODULE_USAGE_KEY, JSON.std.asString(ModuleUsage.fistUsage(moduleId)));
+    private void load() {
+        if (!loaded.get()) {
+            synchronized (this) {
+                if (!loaded.get()) {
+                    Preferences prefs = Preferences.userRoot().node(USAGE_PATH);
+                    try {
+                        for (String name : prefs.childrenNames()) {
+                            String json = prefs.node(name).get(MODULE_USAGE_KEY, "");
+                            if (isNotBlank(json)) {
+                                ModuleUsage usage = JSON.std.beanFrom(ModuleUsage.class, json);
+                                usages.put(usage.getModuleId(), new UsageCounter(usage));
+                            }
+                        }
+                    } catch (BackingStoreException | IOException e) {
+                        LOG.error("Unable to get modules usage statistics", e);
+                    }
+                    totalUsage.set(prefs.getLong(TASKS_EXECUTED_KEY, 0));
+                    loaded.set(true);
+                }
             }
-            LOG.trace("Usage incremented for module {}", moduleId);
-        } catch (IOException e) {
-            LOG.error("Unable to increment modules usage statistics", e);
-        } finally {
-            incrementTotalUsage();
         }
     }
 
+    public void incrementUsageFor(String moduleId) {
+        load();
+        usages.computeIfAbsent(moduleId, UsageCounter::new).inc();
+        dirty.add(moduleId);
+        totalUsage.incrementAndGet();
+        version.incrementAndGet();
+        LOG.trace("Usage incremented for module {}", moduleId);
+    }
+
     public List<ModuleUsage> getUsages() {
-        Preferences prefs = Preferences.userRoot().node(USAGE_PATH);
-        List<ModuleUsage> retList = new ArrayList<>();
-        try {
-            List<String> jsons = Arrays.stream(prefs.childrenNames()).parallel().map(name -> prefs.node(name))
-                    .map(node -> node.get(MODULE_USAGE_KEY, "")).filter(json -> isNotBlank(json)).collect(toList());
-            for (String json : jsons) {
-                retList.add(JSON.std.beanFrom(ModuleUsage.class, json));
-            }
-        } catch (BackingStoreException | IOException e) {
-            LOG.error("Unable to get modules usage statistics", e);
-        }
-        return retList;
+        load();
+        return usages.values().stream().map(UsageCounter::toModuleUsage).collect(toList());
     }
 
-    public void clear() {
+    /**
+     * @return a number that changes every time usages change
+     */
+    public long version() {
+        return version.get();
+    }
+
+    public synchronized void clear() {
         Preferences prefs = Preferences.userRoot().node(USAGE_PATH);
+        usages.clear();
+        dirty.clear();
+        totalUsage.set(0);
+        version.incrementAndGet();
+        loaded.set(true);
         try {
             prefs.removeNode();
             prefs.flush();
@@ -92,29 +132,70 @@ class PreferencesUsageDataStore {
         }
     }
 
-    private void incrementTotalUsage() {
-        Preferences node = Preferences.userRoot().node(USAGE_PATH);
-        node.putLong(TASKS_EXECUTED_KEY, node.getLong(TASKS_EXECUTED_KEY, 0) + 1);
-    }
-
     public long getTotalUsage() {
-        Preferences node = Preferences.userRoot().node(USAGE_PATH);
-        return node.getLong(TASKS_EXECUTED_KEY, 0);
+        load();
+        return totalUsage.get();
     }
 
     @EventListener
     public void onShutdown(ShutdownEvent event) {
+        flusher.shutdownNow();
         flush();
     }
 
-    public void flush() {
+    /**
+     * Writes the changed usages to the {@link Preferences}
+     */
+    public synchronized void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
         Preferences prefs = Preferences.userRoot().node(USAGE_PATH);
         try {
             LOG.trace("Flushing modules usage");
+            List<String> changed = new ArrayList<>(dirty);
+            dirty.removeAll(changed);
+            for (String moduleId : changed) {
+                UsageCounter counter = usages.get(moduleId);
+                if (counter != null) {
+                    prefs.node(moduleId).put(MODULE_USAGE_KEY, JSON.std.asString(counter.toModuleUsage()));
+                }
+            }
+            prefs.putLong(TASKS_EXECUTED_KEY, totalUsage.get());
             prefs.flush();
-        } catch (BackingStoreException e) {
+        } catch (BackingStoreException | IOException e) {
             LOG.error("Unable to flush modules usage statistics", e);
         }
     }
 
+    /**
+     * Usage of a module counted in memory
+     */
+    private static class UsageCounter {
+        private final String moduleId;
+        private final AtomicLong totalUsed;
+        private volatile long lastSeen;
+
+        UsageCounter(String moduleId) {
+            this.moduleId = moduleId;
+            this.totalUsed = new AtomicLong();
+        }
+
+        UsageCounter(ModuleUsage usage) {
+            this.moduleId = usage.getModuleId();
+            this.totalUsed = new AtomicLong(usage.getTotalUsed());
+            this.lastSeen = usage.getLastSeen();
+        }
+
+        void inc() {
+            totalUsed.incrementAndGet();
+            lastSeen = System.currentTimeMillis();
+        }
+
+        ModuleUsage toModuleUsage() {
+            ModuleUsage usage = ModuleUsage.usage(moduleId, lastSeen);
+            usage.setTotalUsed(totalUsed.get());
+            return usage;
+        }
+    }
 }
@@ -18,8 +18,10 @@
  */
 package org.pdfsam.module;
 
+import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.prefs.Preferences;
@@ -28,7 +30,8 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 
 /**
- * {@link UsageService} implemented ab/using the {@link Preferences} framework
+ * {@link UsageService} implemented ab/using the {@link Preferences} framework. Most used and most recently used modules are sorted once
+ * and served until usages change.
  * 
  * @author Andrea Vacondio
  * 
@@ -37,6 +40,7 @@ class StatefulPreferencesUsageService implements UsageService {
 
     private PreferencesUsageDataStore dataStore;
     private Map<String, Module> modulesMap;
+    private volatile SortedViews views = new SortedViews(-1, Collections.emptyList(), Collections.emptyList());
 
     @Inject
     StatefulPreferencesUsageService(List<Module> modules, PreferencesUsageDataStore dataStore) {
@@ -51,16 +55,34 @@ class StatefulPreferencesUsageService implements UsageService {
 
     @Override
     public List<Module> getMostUsed() {
-        List<ModuleUsage> used = dataStore.getUsages();
-        used.sort((a, b) -> Long.compare(b.getTotalUsed(), a.getTotalUsed()));
-        return used.stream().map(u -> modulesMap.get(u.getModuleId())).filter(m -> m != null).collect(toList());
+        return views().mostUsed;
     }
 
     @Override
     public List<Module> getMostRecentlyUsed() {
-        List<ModuleUsage> used = dataStore.getUsages();
-        used.sort((a, b) -> Long.compare(b.getLastSeen(), a.getLastSeen()));
-        return used.stream().map(u -> modulesMap.get(u.getModuleId())).filter(m -> m != null).collect(toList());
+        return views().mostRecentlyUsed;
+    }
+
+    /**
+     * @return the sorted views of the modules, sorted again only if usages changed since the last time
+     */
+    private SortedViews views() {
+        SortedViews current = views;
+        long version = dataStore.version();
+        if (current.version != version) {
+            List<ModuleUsage> used = dataStore.getUsages();
+            used.sort((a, b) -> Long.compare(b.getTotalUsed(), a.getTotalUsed()));
+            List<Module> mostUsed = toModules(used);
+            used.sort((a, b) -> Long.compare(b.getLastSeen(), a.getLastSeen()));
+            current = new SortedViews(version, mostUsed, toModules(used));
+            views = current;
+        }
+        return current;
+    }
+
+    private List<Module> toModules(List<ModuleUsage> used) {
+        return unmodifiableList(used.stream().map(u -> modulesMap.get(u.getModuleId())).filter(m -> m != null)
+                .collect(toList()));
     }
 
     @Override
@@ -73,4 +95,15 @@ class StatefulPreferencesUsageService implements UsageService {
         return dataStore.getTotalUsage();
     }
 
+    private static class SortedViews {
+        final long version;
+        final List<Module> mostUsed;
+        final List<Module> mostRecentlyUsed;
+
+        SortedViews(long version, List<Module> mostUsed, List<Module> mostRecentlyUsed) {
+            this.version = version;
+            this.mostUsed = mostUsed;
+            this.mostRecentlyUsed = mostRecentlyUsed;
+        }
+    }
 }
@@ -31,6 +31,7 @@ import javax.inject.Inject;
 
 import org.pdfsam.ConfigurableProperty;
 import org.pdfsam.Pdfsam;
+import org.pdfsam.http.HttpService;
 import org.pdfsam.i18n.DefaultI18nContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,18 +51,21 @@ public class DefaultNewsService implements NewsService {
     private static final String LATEST_NEWS_ID = "latest.news.id";
     private static final String LATEST_IMPORTANT_NEWS_ID = "latest.important.news.id";
     private Pdfsam pdfsam;
+    private HttpService http;
 
     @Inject
-    DefaultNewsService(Pdfsam pdfsam) {
+    DefaultNewsService(Pdfsam pdfsam, HttpService http) {
         requireNotNull(pdfsam, "Application info cannot be null");
+        requireNotNull(http, "HTTP service cannot be null");
         this.pdfsam = pdfsam;
+        this.http = http;
     }
 
     @Override
     public List<NewsData> getLatestNews() {
         try {
             return JSON.std.with(Feature.READ_ONLY, true).listOfFrom(NewsData.class,
-                    new URL(pdfsam.property(ConfigurableProperty.NEWS_URL)));
+                    http.get(new URL(pdfsam.property(ConfigurableProperty.NEWS_URL))));
         } catch (IOException e) {
             LOG.warn(DefaultI18nContext.getInstance().i18n("Unable to retrieve latest news"), e);
         }
@@ -0,0 +1,84 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.pdf;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import org.pdfsam.module.RequiredPdfData;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loader populating the descriptor with a fingerprint of the file content. To avoid a full read of the file, the fingerprint is made of the
+ * file size and a checksum of the first and the last block of the file. The blocks are read through a separate channel, they are usually
+ * still in the OS page cache since the parser has just read them to find the header and the trailer.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class FingerprintSAMBoxLoader implements PdfLoader<PDDocument> {
+    private static final Logger LOG = LoggerFactory.getLogger(FingerprintSAMBoxLoader.class);
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    @Override
+    public void accept(PDDocument document, PdfDocumentDescriptor descriptor) {
+        try {
+            descriptor.setFingerprint(fingerprint(descriptor.getFile()));
+        } catch (IOException e) {
+            LOG.warn("Unable to compute the fingerprint for {}", descriptor.getFileName(), e);
+        }
+    }
+
+    static String fingerprint(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer = ByteBuffer.allocate(BLOCK_SIZE);
+            long head = checksum(channel, 0, buffer);
+            long tail = head;
+            if (size > BLOCK_SIZE) {
+                tail = checksum(channel, Math.max(BLOCK_SIZE, size - BLOCK_SIZE), buffer);
+            }
+            return String.format("%x-%08x-%08x", size, head, tail);
+        }
+    }
+
+    private static long checksum(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = channel.read(buffer, position + buffer.position());
+        }
+        buffer.flip();
+        CRC32C crc = new CRC32C();
+        crc.update(buffer);
+        return crc.getValue();
+    }
+
+    @Override
+    public RequiredPdfData key() {
+        return RequiredPdfData.FINGERPRINT;
+    }
+
+}
@@ -0,0 +1,57 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.pdf;
+
+import org.pdfsam.module.RequiredPdfData;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+import org.sejda.sambox.pdmodel.common.PDRectangle;
+
+/**
+ * Loader populating the descriptor with the {@link PagesGeometry} of the document. The pages tree is walked once, using its iterator
+ * rather than looking up every page by number.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class PagesGeometrySAMBoxLoader implements PdfLoader<PDDocument> {
+
+    @Override
+    public void accept(PDDocument document, PdfDocumentDescriptor descriptor) {
+        PagesGeometry geometry = new PagesGeometry(document.getNumberOfPages());
+        int current = 1;
+        for (PDPage page : document.getPages()) {
+            if (current > geometry.numberOfPages()) {
+                break;
+            }
+            geometry.setPage(current++, toArray(page.getMediaBox()), toArray(page.getCropBox()), page.getRotation());
+        }
+        descriptor.setPagesGeometry(geometry);
+    }
+
+    private static float[] toArray(PDRectangle box) {
+        return new float[] { box.getLowerLeftX(), box.getLowerLeftY(), box.getUpperRightX(), box.getUpperRightY() };
+    }
+
+    @Override
+    public RequiredPdfData key() {
+        return RequiredPdfData.PAGES_GEOMETRY;
+    }
+
+}
@@ -0,0 +1,142 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.pdf;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.sejda.eventstudio.StaticStudio.eventStudio;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.pdfsam.ShutdownEvent;
+import org.sejda.eventstudio.annotation.EventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+/**
+ * Aggregates the {@link PdfLoadTimings} of the loaded documents so that percentiles of the time spent in every loading phase can be
+ * logged and exported. Only the latest samples of every phase are kept.
+ *
+ * @author Andrea Vacondio
+ *
+ */
+public class PdfLoadStatistics {
+    private static final Logger LOG = LoggerFactory.getLogger(PdfLoadStatistics.class);
+    /**
+     * System property holding the path of the file where the statistics are exported as JSON on shutdown
+     */
+    public static final String PDFSAM_LOAD_STATISTICS_FILE = "org.pdfsam.load.statistics.file";
+    static final int MAX_SAMPLES = 1024;
+
+    private final Map<String, Samples> samples = new LinkedHashMap<>();
+
+    public PdfLoadStatistics() {
+        eventStudio().addAnnotatedListeners(this);
+    }
+
+    /**
+     * Adds the phases of the given timings to the statistics
+     *
+     * @param timings
+     */
+    public synchronized void record(PdfLoadTimings timings) {
+        timings.phases().forEach((phase, nanos) -> samples.computeIfAbsent(phase, p -> new Samples()).add(nanos));
+    }
+
+    /**
+     * @return for every recorded phase, the number of samples and the 50th, 90th, 99th percentile and max time in milliseconds
+     */
+    public synchronized Map<String, Map<String, Long>> percentiles() {
+        Map<String, Map<String, Long>> result = new LinkedHashMap<>();
+        samples.forEach((phase, s) -> {
+            long[] sorted = s.sorted();
+            Map<String, Long> values = new LinkedHashMap<>();
+            values.put("count", s.count);
+            values.put("p50", toMillis(percentile(sorted, 50)));
+            values.put("p90", toMillis(percentile(sorted, 90)));
+            values.put("p99", toMillis(percentile(sorted, 99)));
+            values.put("max", toMillis(sorted[sorted.length - 1]));
+            result.put(phase, values);
+        });
+        return result;
+    }
+
+    /**
+     * Writes the percentiles as JSON to the given file
+     *
+     * @param destination
+     * @throws IOException
+     */
+    public void exportTo(File destination) throws IOException {
+        JSON.std.with(JSON.Feature.PRETTY_PRINT_OUTPUT).write(percentiles(), destination);
+    }
+
+    @EventListener
+    public void onShutdown(ShutdownEvent event) {
+        Map<String, Map<String, Long>> percentiles = percentiles();
+        if (!percentiles.isEmpty()) {
+            LOG.info("Documents load times: {}", percentiles);
+            String destination = System.getProperty(PDFSAM_LOAD_STATISTICS_FILE);
+            if (isNotBlank(destination)) {
+                try {
+                    exportTo(new File(destination));
+                } catch (IOException e) {
+                    LOG.warn("Unable to export documents load times to " + destination, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Nearest rank percentile
+     */
+    static long percentile(long[] sorted, int percentile) {
+        int rank = (int) Math.ceil((percentile / 100d) * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Fixed size ring of samples
+     */
+    private static class Samples {
+        private final long[] values = new long[MAX_SAMPLES];
+        private long count = 0;
+
+        void add(long value) {
+            values[(int) (count % MAX_SAMPLES)] = value;
+            count++;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, (int) Math.min(count, MAX_SAMPLES));
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -30,8 +30,9 @@ import org.sejda.injector.Provides;
 public class PdfServiceConfig {
 
     @Provides
-    PdfLoadService loadService() {
-        return new SAMBoxPdfLoadService(Arrays.asList(new DefaultSAMBoxLoader(), new BookmarksLevelSAMBoxLoader()));
+    PdfLoadService loadService(PdfLoadStatistics statistics) {
+        return new SAMBoxPdfLoadService(Arrays.asList(new DefaultSAMBoxLoader(), new BookmarksLevelSAMBoxLoader(),
+                new FingerprintSAMBoxLoader(), new PagesGeometrySAMBoxLoader()), statistics);
     }
 
 }
@@ -18,6 +18,7 @@
  */
 package org.pdfsam.pdf;
 
+import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
 import static org.pdfsam.pdf.PdfDescriptorLoadingStatus.ENCRYPTED;
 import static org.pdfsam.pdf.PdfDescriptorLoadingStatus.LOADED;
 import static org.pdfsam.pdf.PdfDescriptorLoadingStatus.LOADED_WITH_USER_PWD_DECRYPTION;
@@ -35,6 +36,7 @@ import org.pdfsam.i18n.DefaultI18nContext;
 import org.pdfsam.module.RequiredPdfData;
 import org.sejda.io.BufferedSeekableSource;
 import org.sejda.io.FileChannelSeekableSource;
+import org.sejda.io.SeekableSource;
 import org.sejda.sambox.input.PDFParser;
 import org.sejda.sambox.pdmodel.PDDocument;
 import org.sejda.sambox.pdmodel.encryption.InvalidPasswordException;
@@ -50,6 +52,7 @@ import javafx.application.Platform;
 class SAMBoxPdfLoadService implements PdfLoadService {
     private static final Logger LOG = LoggerFactory.getLogger(SAMBoxPdfLoadService.class);
     private final Map<RequiredPdfData, BiConsumer<PDDocument, PdfDocumentDescriptor>> consumers = new HashMap<>();
+    private final PdfLoadStatistics statistics;
 
     private static final BiConsumer<PDDocument, PdfDocumentDescriptor> STARTER = (r, descriptor) -> {
         // NO OP
@@ -64,7 +67,12 @@ class SAMBoxPdfLoadService implements PdfLoadService {
     };
 
     public SAMBoxPdfLoadService(List<PdfLoader<PDDocument>> loaders) {
-        loaders.forEach(l -> consumers.put(l.key(), l));
+        this(loaders, new PdfLoadStatistics());
+    }
+
+    public SAMBoxPdfLoadService(List<PdfLoader<PDDocument>> loaders, PdfLoadStatistics statistics) {
+        this.statistics = statistics;
+        loaders.forEach(l -> consumers.put(l.key(), timed(l)));
     }
 
     @Override
@@ -77,10 +85,18 @@ class SAMBoxPdfLoadService implements PdfLoadService {
             if (current.hasReferences()) {
                 LOG.trace("Loading {}", current.getFileName());
                 fxMoveStatusTo(current, LOADING);
-                try (PDDocument document = PDFParser.parse(
-                        new BufferedSeekableSource(new FileChannelSeekableSource(current.getFile())),
-                        current.getPassword())) {
-                    consumer.accept(document, current);
+                PdfLoadTimings timings = new PdfLoadTimings();
+                current.setLoadTimings(timings);
+                try {
+                    long start = System.nanoTime();
+                    SeekableSource source = new BufferedSeekableSource(
+                            new FileChannelSeekableSource(current.getFile()));
+                    timings.record(PdfLoadTimings.OPEN, System.nanoTime() - start);
+                    start = System.nanoTime();
+                    try (PDDocument document = PDFParser.parse(source, current.getPassword())) {
+                        timings.record(PdfLoadTimings.PARSE, System.nanoTime() - start);
+                        consumer.accept(document, current);
+                    }
                 } catch (InvalidPasswordException twpe) {
                     fxMoveStatusTo(current, ENCRYPTED);
                     LOG.warn("User password required for '{}'", current.getFileName(), twpe);
@@ -88,7 +104,9 @@ class SAMBoxPdfLoadService implements PdfLoadService {
                     LOG.error("An error occured loading the document '{}'", current.getFileName(), e);
                     fxMoveStatusTo(current, WITH_ERRORS);
                 }
-                LOG.info("{} loaded", current.getFileName());
+                statistics.record(timings);
+                LOG.info("{} loaded in {}ms", current.getFileName(), timings.totalMillis());
+                LOG.debug("{} load times {}", current.getFileName(), timings.phases());
             } else {
                 LOG.trace("Skipping invalidated document {}", current.getFileName());
             }
@@ -96,6 +114,21 @@ class SAMBoxPdfLoadService implements PdfLoadService {
         LOG.debug(DefaultI18nContext.getInstance().i18n("Documents loaded"));
     }
 
+    /**
+     * @return a consumer recording on the descriptor the time spent in the given loader
+     */
+    private static BiConsumer<PDDocument, PdfDocumentDescriptor> timed(PdfLoader<PDDocument> loader) {
+        String phase = defaultIfBlank(loader.getClass().getSimpleName(), loader.key().name());
+        return (document, descriptor) -> {
+            long start = System.nanoTime();
+            try {
+                loader.accept(document, descriptor);
+            } finally {
+                descriptor.getLoadTimings().record(phase, System.nanoTime() - start);
+            }
+        };
+    }
+
     private static void fxMoveStatusTo(PdfDocumentDescriptor descriptor, PdfDescriptorLoadingStatus status) {
         Platform.runLater(() -> descriptor.moveStatusTo(status));
     }
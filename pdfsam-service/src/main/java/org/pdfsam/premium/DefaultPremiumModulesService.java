@@ -29,6 +29,7 @@ import javax.inject.Inject;
 
 import org.pdfsam.ConfigurableProperty;
 import org.pdfsam.Pdfsam;
+import org.pdfsam.http.HttpService;
 import org.pdfsam.i18n.DefaultI18nContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,18 +45,21 @@ public class DefaultPremiumModulesService implements PremiumModulesService {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultPremiumModulesService.class);
     private Pdfsam pdfsam;
+    private HttpService http;
 
     @Inject
-    DefaultPremiumModulesService(Pdfsam pdfsam) {
+    DefaultPremiumModulesService(Pdfsam pdfsam, HttpService http) {
         requireNotNull(pdfsam, "Application info cannot be null");
+        requireNotNull(http, "HTTP service cannot be null");
         this.pdfsam = pdfsam;
+        this.http = http;
     }
 
     @Override
     public List<PremiumModule> getPremiumModules() {
         try {
             return JSON.std.with(Feature.READ_ONLY, true).listOfFrom(PremiumModule.class,
-                    new URL(pdfsam.property(ConfigurableProperty.PREMIUM_MODULES_URL)));
+                    http.get(new URL(pdfsam.property(ConfigurableProperty.PREMIUM_MODULES_URL))));
         } catch (IOException e) {
             LOG.warn(DefaultI18nContext.getInstance().i18n("Unable to retrieve premium features description"), e);
         }
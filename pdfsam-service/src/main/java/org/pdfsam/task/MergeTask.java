@@ -107,6 +107,7 @@ public class MergeTask extends BaseTask<MergeParameters> {
             LOG.debug("Adding pages");
             LookupTable<PDPage> pagesLookup = new LookupTable<>();
             long relativePagesCounter = 0;
+            PDPage lastPage = null;
             Set<Integer> pagesToImport = input.getPages(sourceDocumentHandler.getNumberOfPages());
             for (Integer currentPage : pagesToImport) {
                 executionContext().assertTaskNotCancelled();
@@ -114,8 +115,7 @@ public class MergeTask extends BaseTask<MergeParameters> {
                 relativePagesCounter++;
                 try {
                     PDPage page = sourceDocumentHandler.getPage(currentPage);
-                    // we keep rotation into account
-                    currentPageSize = page.getMediaBox().rotate(page.getRotation());
+                    lastPage = page;
                     // we don't use the original page because once added to the new tree we loose inheritable attributes
                     // so we use a page duplicate to explicitly assign inheritable resources
                     PDPage importedPage = destinationDocument.importPage(page);
@@ -128,7 +128,7 @@ public class MergeTask extends BaseTask<MergeParameters> {
                         if(parameters.isFirstInputCoverTitle() && inputsCounter == 1) {
                             // skip the cover/title document, don't add it to the ToC
                         } else {
-                            tocCreator.pageSizeIfNotSet(currentPageSize);
+                            tocCreator.pageSizeIfNotSet(pageSize(page));
                             if (ToCPolicy.DOC_TITLES == parameters.getTableOfContentsPolicy()) {
                                 sourceBaseName = ofNullable(
                                         sourceDocumentHandler.getUnderlyingPDDocument().getDocumentInformation())
@@ -166,6 +166,9 @@ public class MergeTask extends BaseTask<MergeParameters> {
                     annotationsLookup);
 
             if (parameters.isBlankPageIfOdd()) {
+                if (lastPage != null) {
+                    currentPageSize = pageSize(lastPage);
+                }
                 ofNullable(destinationDocument.addBlankPageIfOdd(currentPageSize)).ifPresent(p -> pagesCounter++);
             }
 
@@ -213,6 +216,16 @@ public class MergeTask extends BaseTask<MergeParameters> {
 
     }
 
+    /**
+     * The page size is only needed for the first page of an input (ToC) and the last one (blank page), we don't resolve the inheritable
+     * media box of every imported page.
+     *
+     * @return the media box of the page, keeping rotation into account
+     */
+    private static PDRectangle pageSize(PDPage page) {
+        return page.getMediaBox().rotate(page.getRotation());
+    }
+
     private void convertImageMergeInputToPdf(MergeParameters parameters) throws TaskException {
         // if images were supplied, convert them to PDF
         List<MergeInput> newInputList = new ArrayList<>();
@@ -23,6 +23,7 @@ import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.inject.Inject;
 
@@ -41,6 +42,7 @@ import org.sejda.model.notification.event.TaskExecutionFailedEvent;
 import org.sejda.model.notification.event.TaskExecutionStartedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 import javafx.application.Platform;
 
@@ -53,11 +55,24 @@ import javafx.application.Platform;
 @Auto
 public class TaskExecutionController {
     private static final Logger LOG = LoggerFactory.getLogger(TaskExecutionController.class);
+    /**
+     * Logging diagnostic context key for the id of the running task
+     */
+    public static final String MDC_TASK_ID = "pdfsam.task";
+    /**
+     * Logging diagnostic context key for the id of the module that requested the running task
+     */
+    public static final String MDC_MODULE = "pdfsam.module";
+    /**
+     * Logging diagnostic context key for the time, in milliseconds since the epoch, the running task started
+     */
+    public static final String MDC_TASK_START = "pdfsam.task.start";
 
     private TaskExecutionService executionService;
     private UsageService usageService;
     private ExecutorService executor = Executors.newSingleThreadExecutor();
     private String currentModule = StringUtils.EMPTY;
+    private final AtomicLong taskIds = new AtomicLong();
 
     @Inject
     public TaskExecutionController(TaskExecutionService executionService, UsageService usageService) {
@@ -84,7 +99,20 @@ public class TaskExecutionController {
         LOG.trace("Task execution request received");
         usageService.incrementUsageFor(event.getModuleId());
         currentModule = event.getModuleId();
-        executor.execute(() -> executionService.execute(event.getParameters()));
+        String taskId = Long.toString(taskIds.incrementAndGet());
+        String moduleId = event.getModuleId();
+        executor.execute(() -> {
+            MDC.put(MDC_TASK_ID, taskId);
+            MDC.put(MDC_MODULE, moduleId);
+            MDC.put(MDC_TASK_START, Long.toString(System.currentTimeMillis()));
+            try {
+                executionService.execute(event.getParameters());
+            } finally {
+                MDC.remove(MDC_TASK_ID);
+                MDC.remove(MDC_MODULE);
+                MDC.remove(MDC_TASK_START);
+            }
+        });
         LOG.trace("Task execution submitted");
     }
 
@@ -0,0 +1,294 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.thumbnail;
+
+import static org.pdfsam.support.RequireUtils.require;
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+import static org.sejda.eventstudio.StaticStudio.eventStudio;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.pdfsam.ShutdownEvent;
+import org.pdfsam.context.UserContext;
+import org.pdfsam.pdf.PdfDocumentDescriptor;
+import org.sejda.eventstudio.annotation.EventListener;
+import org.sejda.io.BufferedSeekableSource;
+import org.sejda.io.FileChannelSeekableSource;
+import org.sejda.sambox.input.PDFParser;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.common.PDRectangle;
+import org.sejda.sambox.rendering.ImageType;
+import org.sejda.sambox.rendering.PDFRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SAMBox based {@link ThumbnailsService}. Pages are rendered on a bounded pool of worker threads, most recent requests first, and the
+ * resulting thumbnails are kept in a {@link ThumbnailsMemoryCache} backed by a {@link ThumbnailsDiskCache}. Each document is parsed once
+ * and kept open until its descriptor is released, so that rendering its pages doesn't require parsing it again.
+ *
+ * @author Andrea Vacondio
+ *
+ */
+class SAMBoxThumbnailsService implements ThumbnailsService {
+    private static final Logger LOG = LoggerFactory.getLogger(SAMBoxThumbnailsService.class);
+
+    private final UserContext userContext;
+    private final ThumbnailsMemoryCache memoryCache;
+    private final ThumbnailsDiskCache diskCache;
+    private final ThreadPoolExecutor executor;
+    private final Map<PdfDocumentDescriptor, OpenDocument> documents = new HashMap<>();
+
+    SAMBoxThumbnailsService(UserContext userContext, ThumbnailsMemoryCache memoryCache, ThumbnailsDiskCache diskCache,
+            int threads) {
+        requireNotNull(userContext, "User context cannot be null");
+        requireNotNull(memoryCache, "Memory cache cannot be null");
+        requireNotNull(diskCache, "Disk cache cannot be null");
+        require(threads > 0, "Threads number must be positive");
+        this.userContext = userContext;
+        this.memoryCache = memoryCache;
+        this.diskCache = diskCache;
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LifoQueue(), r -> {
+            Thread thread = new Thread(r, "thumbnails-renderer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+        eventStudio().addAnnotatedListeners(this);
+    }
+
+    @Override
+    public CompletableFuture<BufferedImage> thumbnail(PdfDocumentDescriptor descriptor, int page) {
+        requireNotNull(descriptor, "Document descriptor cannot be null");
+        require(page > 0, "Page number must be positive");
+        int size = userContext.getThumbnailsSize();
+        boolean highQuality = userContext.isHighQualityThumbnails();
+        CompletableFuture<BufferedImage> result = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                // the key stats the file so it's created here rather than on the requesting thread
+                load(descriptor, new ThumbnailKey(descriptor.getFile(), page, size, highQuality), result);
+            } catch (Exception e) {
+                LOG.warn("Unable to generate thumbnail for page {} of {}", page, descriptor.getFileName(), e);
+                result.completeExceptionally(e);
+            }
+        }, null);
+        result.whenComplete((image, e) -> {
+            if (result.isCancelled() && executor.remove(task)) {
+                LOG.trace("Thumbnail request for page {} of {} cancelled", page, descriptor.getFileName());
+            }
+        });
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private void load(PdfDocumentDescriptor descriptor, ThumbnailKey key, CompletableFuture<BufferedImage> result)
+            throws IOException {
+        if (result.isDone()) {
+            return;
+        }
+        BufferedImage cached = memoryCache.get(key);
+        if (cached != null) {
+            result.complete(cached);
+            return;
+        }
+        if (!descriptor.hasReferences()) {
+            LOG.trace("Document has been released, discarding thumbnail request for {}", key);
+            result.cancel(false);
+            return;
+        }
+        BufferedImage image = diskCache.get(key).orElse(null);
+        if (image == null) {
+            if (result.isDone()) {
+                return;
+            }
+            long start = System.nanoTime();
+            image = render(descriptor, key);
+            LOG.trace("Rendered {} in {}ms", key, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            diskCache.put(key, image);
+        }
+        memoryCache.put(key, image);
+        result.complete(image);
+    }
+
+    private BufferedImage render(PdfDocumentDescriptor descriptor, ThumbnailKey key) throws IOException {
+        OpenDocument document = acquire(descriptor);
+        try {
+            return document.render(descriptor, key);
+        } finally {
+            release(descriptor, document);
+        }
+    }
+
+    private OpenDocument acquire(PdfDocumentDescriptor descriptor) {
+        synchronized (documents) {
+            OpenDocument document = documents.get(descriptor);
+            if (document == null) {
+                document = new OpenDocument();
+                documents.put(descriptor, document);
+                descriptor.onRelease(() -> {
+                    try {
+                        executor.execute(() -> closeIfUnused(descriptor));
+                    } catch (RejectedExecutionException e) {
+                        LOG.trace("Thumbnails service is shut down, documents already closed");
+                    }
+                });
+            }
+            document.users++;
+            return document;
+        }
+    }
+
+    private void release(PdfDocumentDescriptor descriptor, OpenDocument document) {
+        synchronized (documents) {
+            document.users--;
+        }
+        if (!descriptor.hasReferences() || executor.isShutdown()) {
+            closeIfUnused(descriptor);
+        }
+    }
+
+    /**
+     * Closes the document of a released descriptor unless a page is being rendered, in which case the document is closed once the render is
+     * done
+     */
+    private void closeIfUnused(PdfDocumentDescriptor descriptor) {
+        synchronized (documents) {
+            OpenDocument document = documents.get(descriptor);
+            if (document != null && document.users == 0) {
+                documents.remove(descriptor);
+                document.close();
+                LOG.trace("Closed document {}", descriptor.getFileName());
+            }
+        }
+    }
+
+    /**
+     * Supersampling, the page is rendered at twice the size and scaled down with bicubic interpolation
+     */
+    private static BufferedImage downscale(BufferedImage image) {
+        BufferedImage scaled = new BufferedImage(Math.max(1, image.getWidth() / 2), Math.max(1, image.getHeight() / 2),
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, scaled.getWidth(), scaled.getHeight(), null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    @Override
+    public void clearCache() {
+        memoryCache.clear();
+        executor.execute(diskCache::clear);
+    }
+
+    /**
+     * Deletes the least recently used thumbnails from the disk cache in background
+     *
+     * @param maxBytes
+     *            the max size of the disk cache
+     */
+    void pruneDiskCache(long maxBytes) {
+        executor.execute(() -> diskCache.prune(maxBytes));
+    }
+
+    /**
+     * @return the number of documents currently kept open
+     */
+    int openDocuments() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    @EventListener
+    public void onShutdown(ShutdownEvent event) {
+        executor.shutdownNow();
+        synchronized (documents) {
+            documents.keySet().stream().collect(Collectors.toList()).forEach(this::closeIfUnused);
+        }
+    }
+
+    /**
+     * A parsed document shared by the renders of its pages. {@link PDDocument} is not thread safe so pages of the same document are
+     * rendered one at a time, guarded by this instance, while the number of renders using it is guarded by the documents map.
+     */
+    private static class OpenDocument {
+        private PDDocument document;
+        private int users;
+
+        synchronized BufferedImage render(PdfDocumentDescriptor descriptor, ThumbnailKey key) throws IOException {
+            if (document == null) {
+                document = PDFParser.parse(
+                        new BufferedSeekableSource(new FileChannelSeekableSource(descriptor.getFile())),
+                        descriptor.getPassword());
+            }
+            PDRectangle box = document.getPage(key.page - 1).getCropBox();
+            float scale = key.size / Math.max(box.getWidth(), box.getHeight());
+            PDFRenderer renderer = new PDFRenderer(document);
+            if (key.highQuality) {
+                return downscale(renderer.renderImage(key.page - 1, scale * 2, ImageType.RGB));
+            }
+            return renderer.renderImage(key.page - 1, scale, ImageType.RGB);
+        }
+
+        synchronized void close() {
+            if (document != null) {
+                try {
+                    document.close();
+                } catch (IOException e) {
+                    LOG.warn("Unable to close the document", e);
+                }
+                document = null;
+            }
+        }
+    }
+
+    /**
+     * Queue serving the most recently submitted task first so that pages the user is currently looking at are rendered before those that
+     * have been requested earlier and are likely out of view
+     */
+    private static class LifoQueue extends LinkedBlockingDeque<Runnable> {
+
+        @Override
+        public boolean offer(Runnable e) {
+            return offerFirst(e);
+        }
+    }
+}
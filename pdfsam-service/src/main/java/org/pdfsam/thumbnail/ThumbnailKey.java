@@ -0,0 +1,101 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.thumbnail;
+
+import static org.pdfsam.support.RequireUtils.require;
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+/**
+ * Identifies a thumbnail by the identity of the file (path, size and last modification), the page and the rendering settings
+ *
+ * @author Andrea Vacondio
+ *
+ */
+class ThumbnailKey {
+    private final String path;
+    private final long length;
+    private final long lastModified;
+    final int page;
+    final int size;
+    final boolean highQuality;
+
+    ThumbnailKey(File file, int page, int size, boolean highQuality) {
+        requireNotNull(file, "File cannot be null");
+        require(page > 0, "Page number must be positive");
+        require(size > 0, "Thumbnail size must be positive");
+        this.path = file.getAbsolutePath();
+        this.length = file.length();
+        this.lastModified = file.lastModified();
+        this.page = page;
+        this.size = size;
+        this.highQuality = highQuality;
+    }
+
+    /**
+     * @return a digest of the key, suitable to be used as file name
+     */
+    String id() {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(
+                    String.format("%s|%d|%d|%d|%d|%b", path, length, lastModified, page, size, highQuality)
+                            .getBytes(StandardCharsets.UTF_8));
+            StringBuilder id = new StringBuilder(digest.length * 2);
+            for (byte current : digest) {
+                id.append(String.format("%02x", current));
+            }
+            return id.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-1
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ThumbnailKey)) {
+            return false;
+        }
+        ThumbnailKey key = (ThumbnailKey) other;
+        return new EqualsBuilder().append(path, key.path).append(length, key.length)
+                .append(lastModified, key.lastModified).append(page, key.page).append(size, key.size)
+                .append(highQuality, key.highQuality).isEquals();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().append(path).append(length).append(lastModified).append(page).append(size)
+                .append(highQuality).toHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s page %d (%dpx)", path, page, size);
+    }
+}
@@ -0,0 +1,146 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.thumbnail;
+
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On disk cache of thumbnails, stored as PNG files named after the {@link ThumbnailKey#id()}. Files are touched when read so that
+ * pruning can remove the least recently used.
+ *
+ * @author Andrea Vacondio
+ *
+ */
+class ThumbnailsDiskCache {
+    private static final Logger LOG = LoggerFactory.getLogger(ThumbnailsDiskCache.class);
+    private static final String EXTENSION = ".png";
+
+    private final Path directory;
+
+    ThumbnailsDiskCache(Path directory) {
+        requireNotNull(directory, "Cache directory cannot be null");
+        this.directory = directory;
+    }
+
+    /**
+     * @param key
+     * @return the cached thumbnail or an empty optional if not cached or not readable
+     */
+    Optional<BufferedImage> get(ThumbnailKey key) {
+        Path file = directory.resolve(key.id() + EXTENSION);
+        if (Files.isRegularFile(file)) {
+            try {
+                BufferedImage image = ImageIO.read(file.toFile());
+                if (image != null) {
+                    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+                    return Optional.of(image);
+                }
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOG.debug("Unable to read cached thumbnail for {}", key, e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Stores the thumbnail. The image is written to a temporary file first so that a concurrent reader never sees a partially written
+     * thumbnail.
+     *
+     * @param key
+     * @param image
+     */
+    void put(ThumbnailKey key, BufferedImage image) {
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, key.id(), ".tmp");
+            try {
+                ImageIO.write(image, "png", tmp.toFile());
+                Files.move(tmp, directory.resolve(key.id() + EXTENSION), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to cache thumbnail for {}", key, e);
+        }
+    }
+
+    /**
+     * Deletes the least recently used thumbnails until the cache is not bigger than the given size
+     *
+     * @param maxBytes
+     */
+    void prune(long maxBytes) {
+        List<Path> files = files();
+        files.sort(Comparator.comparingLong(ThumbnailsDiskCache::lastModified).reversed());
+        long total = 0;
+        for (Path file : files) {
+            try {
+                total += Files.size(file);
+                if (total > maxBytes) {
+                    Files.deleteIfExists(file);
+                }
+            } catch (IOException e) {
+                LOG.debug("Unable to prune cached thumbnail {}", file, e);
+            }
+        }
+    }
+
+    void clear() {
+        prune(0);
+    }
+
+    private List<Path> files() {
+        List<Path> files = new ArrayList<>();
+        if (Files.isDirectory(directory)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+                stream.forEach(files::add);
+            } catch (IOException e) {
+                LOG.warn("Unable to list cached thumbnails", e);
+            }
+        }
+        return files;
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
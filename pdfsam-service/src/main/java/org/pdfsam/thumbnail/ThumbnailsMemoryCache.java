@@ -0,0 +1,81 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.thumbnail;
+
+import static org.pdfsam.support.RequireUtils.require;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least recently used in memory cache of thumbnails, bounded by the memory occupied by the decoded images
+ *
+ * @author Andrea Vacondio
+ *
+ */
+class ThumbnailsMemoryCache {
+
+    private final long maxBytes;
+    private long bytes = 0;
+    private final Map<ThumbnailKey, BufferedImage> images = new LinkedHashMap<>(64, 0.75f, true);
+
+    ThumbnailsMemoryCache(long maxBytes) {
+        require(maxBytes > 0, "Cache size must be positive");
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @param key
+     * @return the cached thumbnail or null if not cached
+     */
+    synchronized BufferedImage get(ThumbnailKey key) {
+        return images.get(key);
+    }
+
+    synchronized void put(ThumbnailKey key, BufferedImage image) {
+        BufferedImage previous = images.put(key, image);
+        if (previous != null) {
+            bytes -= weight(previous);
+        }
+        bytes += weight(image);
+        Iterator<BufferedImage> eldest = images.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= weight(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    synchronized int size() {
+        return images.size();
+    }
+
+    synchronized void clear() {
+        images.clear();
+        bytes = 0;
+    }
+
+    /**
+     * @return an estimate of the bytes occupied by the image, assuming 4 bytes per pixel
+     */
+    static long weight(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+}
@@ -0,0 +1,50 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.thumbnail;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
+
+import org.pdfsam.pdf.PdfDocumentDescriptor;
+
+/**
+ * Service generating thumbnails for the pages of PDF documents
+ *
+ * @author Andrea Vacondio
+ *
+ */
+public interface ThumbnailsService {
+
+    /**
+     * Requests the thumbnail of a page. Thumbnails are generated asynchronously and the most recent requests are served first. Cancelling
+     * the returned future, for example when the page is no longer visible, discards the request if it has not been rendered yet.
+     *
+     * @param descriptor
+     *            the document
+     * @param page
+     *            the page number, starting from 1
+     * @return a future completing with the thumbnail, sized according to the user preferences
+     */
+    CompletableFuture<BufferedImage> thumbnail(PdfDocumentDescriptor descriptor, int page);
+
+    /**
+     * Removes all the cached thumbnails
+     */
+    void clearCache();
+}
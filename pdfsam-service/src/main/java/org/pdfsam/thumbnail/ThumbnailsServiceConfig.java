@@ -0,0 +1,57 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.thumbnail;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.pdfsam.context.UserContext;
+import org.sejda.injector.Provides;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class ThumbnailsServiceConfig {
+    /**
+     * System property to configure the directory where thumbnails are cached
+     */
+    public static final String PDFSAM_THUMBNAILS_CACHE_DIR = "org.pdfsam.thumbnails.cache.dir";
+    static final long MEMORY_CACHE_BYTES = 64 * 1024 * 1024;
+    static final long DISK_CACHE_BYTES = 256 * 1024 * 1024;
+
+    @Provides
+    ThumbnailsService thumbnails(UserContext userContext) {
+        SAMBoxThumbnailsService service = new SAMBoxThumbnailsService(userContext,
+                new ThumbnailsMemoryCache(MEMORY_CACHE_BYTES), new ThumbnailsDiskCache(cacheDirectory()),
+                Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)));
+        service.pruneDiskCache(DISK_CACHE_BYTES);
+        return service;
+    }
+
+    private static Path cacheDirectory() {
+        String directory = System.getProperty(PDFSAM_THUMBNAILS_CACHE_DIR);
+        if (isNotBlank(directory)) {
+            return Paths.get(directory);
+        }
+        return Paths.get(System.getProperty("user.home"), ".pdfsam", "cache", "thumbnails");
+    }
+}
@@ -21,33 +21,90 @@ package org.pdfsam.ui;
 import static org.pdfsam.support.RequireUtils.requireNotNull;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.util.Collections;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.pdfsam.i18n.DefaultI18nContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 /**
- * Implementation of the workspace service where data is stored and loaded in json format
+ * Implementation of the workspace service where data is stored and loaded in json format. Workspaces are streamed in a versioned format
+ * where each module has its own section, so that modules that are not requested are skipped without being materialized. Workspaces
+ * saved in the previous format, where each module is a flat object of strings, are still readable. Changes recorded in the
+ * {@link WorkspaceJournal} of a workspace are applied when it's loaded and discarded when it's saved.
  * 
  * @author Andrea Vacondio
  *
  */
 class JsonWorkspaceService implements WorkspaceService {
     private static final Logger LOG = LoggerFactory.getLogger(JsonWorkspaceService.class);
+    static final int VERSION = 2;
+    private static final String VERSION_FIELD = "version";
+    private static final String MODULES_FIELD = "modules";
+
+    private final JsonFactory factory = new JsonFactory();
 
     @Override
     public void saveWorkspace(Map<String, Map<String, String>> data, File destination) {
         requireNotNull(destination, "Destination file cannot be null");
         LOG.debug(DefaultI18nContext.getInstance().i18n("Saving workspace data to {0}", destination.getAbsolutePath()));
         try {
-            JSON.std.with(JSON.Feature.PRETTY_PRINT_OUTPUT).without(JSON.Feature.WRITE_NULL_PROPERTIES)
-                    .write(data, destination);
-            LOG.info(DefaultI18nContext.getInstance().i18n("Workspace saved"));
+            Path target = destination.toPath().toAbsolutePath();
+            if (Files.exists(target) && !Files.isWritable(target)) {
+                throw new IOException("Unable to write to " + target);
+            }
+            Path tmp = Files.createTempFile(target.getParent(), destination.getName(), ".tmp");
+            try {
+                write(data, tmp.toFile());
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            // the saved workspace already contains the journaled changes
+            new WorkspaceJournal(destination, factory).delete();
+        } catch (Exception e) {
+            // make it unchecked
+            throw new RuntimeException(e);
+        }
+        LOG.info(DefaultI18nContext.getInstance().i18n("Workspace saved"));
+    }
+
+    private void write(Map<String, Map<String, String>> data, File destination) throws IOException {
+        try (JsonGenerator generator = factory.createGenerator(destination, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeNumberField(VERSION_FIELD, VERSION);
+            generator.writeObjectFieldStart(MODULES_FIELD);
+            for (Map.Entry<String, Map<String, String>> module : data.entrySet()) {
+                generator.writeObjectFieldStart(module.getKey());
+                WorkspaceSection.write(module.getValue(), generator);
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    public int journalWorkspace(Map<String, Map<String, String>> previous, Map<String, Map<String, String>> current,
+            File workspace) {
+        requireNotNull(workspace, "Workspace file cannot be null");
+        requireNotNull(previous, "Previous data cannot be null");
+        requireNotNull(current, "Current data cannot be null");
+        try {
+            return new WorkspaceJournal(workspace, factory).append(previous, current);
         } catch (Exception e) {
             // make it unchecked
             throw new RuntimeException(e);
@@ -55,12 +112,47 @@ class JsonWorkspaceService implements WorkspaceService {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public Map<String, Map<String, String>> loadWorkspace(File workspace) {
+        return load(workspace, m -> true, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Map<String, Map<String, String>> loadWorkspace(File workspace, Set<String> modules) {
+        requireNotNull(modules, "Modules cannot be null");
+        return load(workspace, modules::contains, modules.size());
+    }
+
+    private Map<String, Map<String, String>> load(File workspace, Predicate<String> filter, int expected) {
         requireNotNull(workspace, "Workspace file cannot be null");
-        Map<String, Map<String, String>> data = Collections.emptyMap();
-        try (FileInputStream stream = new FileInputStream(workspace)) {
-            data = (Map) JSON.std.mapFrom(stream);
+        Map<String, Map<String, String>> data = new HashMap<>();
+        try (JsonParser parser = factory.createParser(workspace)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Workspace is not a json object");
+            }
+            int version = 1;
+            while (parser.nextToken() == JsonToken.FIELD_NAME && data.size() < expected) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (VERSION_FIELD.equals(name) && value.isNumeric()) {
+                    version = parser.getIntValue();
+                } else if (version >= VERSION && MODULES_FIELD.equals(name) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME && data.size() < expected) {
+                        String module = parser.getCurrentName();
+                        if (parser.nextToken() == JsonToken.START_OBJECT && filter.test(module)) {
+                            data.put(module, WorkspaceSection.read(parser));
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if (version < VERSION && value == JsonToken.START_OBJECT && filter.test(name)) {
+                    Map<String, String> moduleData = new HashMap<>();
+                    WorkspaceSection.readFlat(parser, moduleData);
+                    data.put(name, moduleData);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            new WorkspaceJournal(workspace, factory).replay(data, filter);
         } catch (Exception e) {
             // make it unchecked
             throw new RuntimeException(e);
@@ -25,7 +25,7 @@ import org.sejda.injector.Provides;
  * @author Andrea Vacondio
  *
  */
-@Components({ WorkspaceController.class, StageServiceController.class })
+@Components({ WorkspaceController.class, WorkspaceAutosaveController.class, StageServiceController.class })
 public class UIServiceConfig {
 
     @Provides
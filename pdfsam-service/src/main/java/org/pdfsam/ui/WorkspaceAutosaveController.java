@@ -0,0 +1,199 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui;
+
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static org.sejda.eventstudio.StaticStudio.eventStudio;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.inject.Inject;
+
+import org.pdfsam.ShutdownEvent;
+import org.pdfsam.context.UserContext;
+import org.pdfsam.i18n.DefaultI18nContext;
+import org.pdfsam.module.Module;
+import org.pdfsam.ui.workspace.LoadWorkspaceEvent;
+import org.pdfsam.ui.workspace.SaveWorkspaceEvent;
+import org.sejda.eventstudio.annotation.EventListener;
+import org.sejda.injector.Auto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javafx.application.Platform;
+
+/**
+ * Controller periodically saving the state of the modules to the default workspace when the user asked to save it on exit. Only the
+ * changes since the previous autosave are appended to the workspace journal, the journal is compacted into the workspace once it grows
+ * past a threshold. On shutdown the latest changes are journaled, the workspace itself is not written. Nothing is journaled while a workspace
+ * is being loaded, the modules state is only partially restored and the workspace file is the one being loaded. The modules state is
+ * collected on the JavaFX thread, so that it's consistent with what the user sees, while comparing and journaling it happens in
+ * background.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+@Auto
+public class WorkspaceAutosaveController {
+    private static final Logger LOG = LoggerFactory.getLogger(WorkspaceAutosaveController.class);
+    static final long AUTOSAVE_PERIOD_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    static final int COMPACTION_THRESHOLD = 1000;
+    static final long STATE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final List<Module> modules;
+    private final WorkspaceService service;
+    private final UserContext userContext;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "workspace-autosave");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private File workspace;
+    private Map<String, Map<String, String>> saved = Collections.emptyMap();
+    private int journaled = 0;
+    private volatile CompletableFuture<Void> loading = CompletableFuture.completedFuture(null);
+
+    @Inject
+    WorkspaceAutosaveController(List<Module> modules, WorkspaceService service, UserContext userContext) {
+        this.modules = modules;
+        this.service = service;
+        this.userContext = userContext;
+        eventStudio().addAnnotatedListeners(this);
+        executor.scheduleWithFixedDelay(this::autosave, AUTOSAVE_PERIOD_MILLIS, AUTOSAVE_PERIOD_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Modules restore their state asynchronously, we don't want to journal a partially restored state so we pause until the load
+     * completes. Waiting for the load on shutdown is not an option since it's notified on the JavaFX thread, the user is told instead.
+     */
+    @EventListener
+    public void onLoadWorkspace(LoadWorkspaceEvent event) {
+        loading = event.loaded();
+    }
+
+    @EventListener
+    public void onShutdown(ShutdownEvent event) {
+        executor.shutdownNow();
+        if (!loading.isDone()) {
+            LOG.info(DefaultI18nContext.getInstance()
+                    .i18n("A workspace is still loading, changes made since the last autosave have not been saved"));
+            return;
+        }
+        autosave();
+    }
+
+    synchronized void autosave() {
+        if (!loading.isDone()) {
+            LOG.debug("Workspace autosave skipped while loading a workspace");
+            return;
+        }
+        File current = autosaveWorkspace();
+        if (isNull(current)) {
+            workspace = null;
+            return;
+        }
+        try {
+            if (!current.equals(workspace)) {
+                saved = service.loadWorkspace(current);
+                journaled = 0;
+                workspace = current;
+            }
+            Map<String, Map<String, String>> data = modulesState(current);
+            if (isNull(data)) {
+                return;
+            }
+            journaled += service.journalWorkspace(saved, data, current);
+            saved = data;
+            if (journaled >= COMPACTION_THRESHOLD) {
+                LOG.debug("Compacting the journal of workspace {}", current);
+                service.saveWorkspace(data, current);
+                journaled = 0;
+            }
+        } catch (RuntimeException e) {
+            // we reload the workspace on the next run
+            workspace = null;
+            LOG.warn(DefaultI18nContext.getInstance().i18n("Unable to autosave workspace to {0}", current.getName()), e);
+        }
+    }
+
+    private File autosaveWorkspace() {
+        if (userContext.isSaveWorkspaceOnExit()) {
+            String path = userContext.getDefaultWorkspacePath();
+            if (isNotBlank(path)) {
+                File file = new File(path);
+                if (file.exists()) {
+                    return file;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Modules state is read from JavaFX controls so it's collected on the JavaFX thread
+     * 
+     * @return the modules state or null if it couldn't be collected
+     */
+    private Map<String, Map<String, String>> modulesState(File destination) {
+        if (Platform.isFxApplicationThread()) {
+            return collectModulesState(destination);
+        }
+        CompletableFuture<Map<String, Map<String, String>>> state = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                state.complete(collectModulesState(destination));
+            } catch (RuntimeException e) {
+                state.completeExceptionally(e);
+            }
+        });
+        try {
+            return state.get(STATE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.debug("Workspace autosave interrupted");
+        } catch (TimeoutException e) {
+            LOG.warn("Modules state not collected in {}ms, workspace autosave skipped", STATE_TIMEOUT_MILLIS);
+        } catch (ExecutionException e) {
+            LOG.warn(DefaultI18nContext.getInstance().i18n("Unable to autosave workspace to {0}", destination.getName()),
+                    e.getCause());
+        }
+        return null;
+    }
+
+    private Map<String, Map<String, String>> collectModulesState(File destination) {
+        SaveWorkspaceEvent event = new SaveWorkspaceEvent(destination);
+        modules.forEach(m -> eventStudio().broadcast(event, m.id()));
+        Map<String, Map<String, String>> data = new HashMap<>();
+        event.getData().forEach((module, values) -> data.put(module, new HashMap<>(values)));
+        return data;
+    }
+}
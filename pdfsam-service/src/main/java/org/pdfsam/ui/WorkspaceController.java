@@ -19,16 +19,29 @@
 package org.pdfsam.ui;
 
 import static java.util.Objects.nonNull;
+import static org.pdfsam.support.StartupTimeline.startupTimeline;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
+import org.pdfsam.ShutdownEvent;
 import org.pdfsam.i18n.DefaultI18nContext;
 import org.pdfsam.module.Module;
+import org.pdfsam.support.StartupTimeline.Phase;
 import org.pdfsam.ui.workspace.LoadWorkspaceEvent;
 import org.pdfsam.ui.workspace.SaveWorkspaceEvent;
 import org.pdfsam.ui.workspace.WorkspaceLoadedEvent;
@@ -38,7 +51,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Controller for workspace related service functionalities
+ * Controller for workspace related service functionalities. Modules save and restore their state on a dedicated executor, each of them
+ * within a timeout. The workspace is notified as loaded once the modules have also completed the asynchronous part of their restore.
  * 
  * @author Andrea Vacondio
  *
@@ -46,27 +60,59 @@ import org.slf4j.LoggerFactory;
 @Auto
 public class WorkspaceController {
     private static final Logger LOG = LoggerFactory.getLogger(WorkspaceController.class);
+    /**
+     * Max time a module has to save or restore its state
+     */
+    static final long MODULE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    /**
+     * Max time modules have to asynchronously complete restoring their state, like adding the restored documents to the selection
+     * tables
+     */
+    static final long RESTORE_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(60);
 
     private List<Module> modules;
     private WorkspaceService service;
     private RecentWorkspacesService recentWorkspace;
+    private final long moduleTimeoutMillis;
+    private final long restoreTimeoutMillis;
+    private final ThreadPoolExecutor executor;
 
     @Inject
     WorkspaceController(List<Module> modules, WorkspaceService service, RecentWorkspacesService recentWorkspace) {
+        this(modules, service, recentWorkspace, MODULE_TIMEOUT_MILLIS, RESTORE_TIMEOUT_MILLIS);
+    }
+
+    WorkspaceController(List<Module> modules, WorkspaceService service, RecentWorkspacesService recentWorkspace,
+            long moduleTimeoutMillis, long restoreTimeoutMillis) {
         this.modules = modules;
         this.service = service;
         this.recentWorkspace = recentWorkspace;
+        this.moduleTimeoutMillis = moduleTimeoutMillis;
+        this.restoreTimeoutMillis = restoreTimeoutMillis;
+        int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                r -> {
+                    Thread thread = new Thread(r, "workspace-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor.allowCoreThreadTimeOut(true);
         eventStudio().addAnnotatedListeners(this);
     }
 
     @EventListener
     public void saveWorkspace(SaveWorkspaceEvent event) {
         LOG.debug(DefaultI18nContext.getInstance().i18n("Requesting modules state"));
+        // a module failing or not saving its state in time doesn't prevent the others state from being saved
+        Set<String> saved = ConcurrentHashMap.newKeySet();
         CompletableFuture<Void> future = CompletableFuture
                 .allOf(modules.stream()
-                        .map(m -> CompletableFuture.runAsync(() -> eventStudio().broadcast(event, m.id())))
+                        .map(m -> timed(m, "save", () -> eventStudio().broadcast(event, m.id()))
+                                .thenRun(() -> saved.add(m.id())).exceptionally(e -> null))
                         .toArray(CompletableFuture[]::new))
-                .thenRun(() -> service.saveWorkspace(event.getData(), event.workspace())).whenComplete((r, e) -> {
+                .thenRun(() -> service.saveWorkspace(savedState(event, saved), event.workspace()))
+                .whenComplete((r, e) -> {
                     if (nonNull(e)) {
                         LOG.error(DefaultI18nContext.getInstance().i18n("Unable to save modules workspace"), e);
                     }
@@ -84,24 +130,82 @@ public class WorkspaceController {
     @EventListener
     public CompletableFuture<Void> loadWorspace(LoadWorkspaceEvent event) {
         LOG.debug(DefaultI18nContext.getInstance().i18n("Loading workspace from {0}", event.workspace().getName()));
-        return CompletableFuture.supplyAsync(() -> service.loadWorkspace(event.workspace())).thenCompose((data) -> {
-            if (!data.isEmpty()) {
-                event.setData(data);
-                return CompletableFuture.allOf(modules.stream()
-                        .map(m -> CompletableFuture.runAsync(() -> eventStudio().broadcast(event, m.id())))
-                        .toArray(CompletableFuture[]::new)).thenRun(() -> {
-                            recentWorkspace.addWorkspaceLastUsed(event.workspace());
-                            eventStudio().broadcast(new WorkspaceLoadedEvent(event.workspace()));
-                            LOG.info(DefaultI18nContext.getInstance().i18n("Workspace loaded"));
-                        });
+        Phase phase = startupTimeline().begin("workspace load");
+        Set<String> ids = modules.stream().map(Module::id).collect(Collectors.toSet());
+        return CompletableFuture.supplyAsync(() -> service.loadWorkspace(event.workspace(), ids), executor)
+                .thenCompose((data) -> {
+                    if (!data.isEmpty()) {
+                        event.setData(data);
+                        // a module failing to restore its state doesn't prevent the others from doing it
+                        return CompletableFuture.allOf(modules.stream()
+                                .map(m -> timed(m, "restore", () -> eventStudio().broadcast(event, m.id()))
+                                        .exceptionally(e -> null))
+                                .toArray(CompletableFuture[]::new)).thenCompose(v -> restored(event)).thenRun(() -> {
+                                    recentWorkspace.addWorkspaceLastUsed(event.workspace());
+                                    eventStudio().broadcast(new WorkspaceLoadedEvent(event.workspace()));
+                                    LOG.info(DefaultI18nContext.getInstance().i18n("Workspace loaded"));
+                                });
+                    }
+                    return CompletableFuture.completedFuture(null);
+                }).whenComplete((r, e) -> {
+                    phase.end();
+                    event.loadCompleted();
+                    if (nonNull(e)) {
+                        LOG.error(DefaultI18nContext.getInstance().i18n("Unable to load workspace from {0}",
+                                event.workspace().getName()), e);
+                    }
+                });
+
+    }
+
+    /**
+     * @return the state of the modules that completed saving it, those that failed or timed out may still be writing theirs
+     */
+    private static Map<String, Map<String, String>> savedState(SaveWorkspaceEvent event, Set<String> saved) {
+        Map<String, Map<String, String>> data = new HashMap<>();
+        event.getData().forEach((module, values) -> {
+            if (saved.contains(module)) {
+                data.put(module, values);
             }
-            return CompletableFuture.completedFuture(null);
-        }).whenComplete((r, e) -> {
-            if (nonNull(e)) {
-                LOG.error(DefaultI18nContext.getInstance().i18n("Unable to load workspace from {0}",
-                        event.workspace().getName()), e);
+        });
+        return data;
+    }
+
+    /**
+     * @return a future completing once the modules have completed restoring their state asynchronously, or the restore timeout expired
+     */
+    private CompletableFuture<Void> restored(LoadWorkspaceEvent event) {
+        return event.restored().orTimeout(restoreTimeoutMillis, TimeUnit.MILLISECONDS).exceptionally(e -> {
+            if (e instanceof TimeoutException) {
+                LOG.warn("Modules did not complete restoring their state within {}ms", restoreTimeoutMillis);
+            } else {
+                LOG.warn("Modules failed restoring their state", e);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Runs the action for the given module on the workspace executor, logging how long it took and failing if it doesn't complete within
+     * the module timeout
+     */
+    private CompletableFuture<Void> timed(Module module, String operation, Runnable action) {
+        return CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            action.run();
+            LOG.debug("Module {} {} completed in {}ms", module.id(), operation,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }, executor).orTimeout(moduleTimeoutMillis, TimeUnit.MILLISECONDS).whenComplete((r, e) -> {
+            if (e instanceof TimeoutException) {
+                LOG.warn("Module {} {} did not complete within {}ms", module.id(), operation, moduleTimeoutMillis);
+            } else if (nonNull(e)) {
+                LOG.warn("Module {} {} failed", module.id(), operation, e);
             }
         });
+    }
 
+    @EventListener
+    public void onShutdown(ShutdownEvent event) {
+        executor.shutdown();
     }
 }
@@ -0,0 +1,219 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.pdfsam.support.RequireUtils.requireNotNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Journal of the changes made to a workspace since it was last saved. The journal is stored next to the workspace file, one json record
+ * per line, each record setting or removing a key of a module. Records are synced to disk when appended so that the journal, applied on
+ * top of the workspace, gives the latest known state even after a crash.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+class WorkspaceJournal {
+    private static final Logger LOG = LoggerFactory.getLogger(WorkspaceJournal.class);
+    static final String EXTENSION = ".journal";
+    private static final String MODULE = "module";
+    private static final String KEY = "key";
+    private static final String VALUE = "value";
+
+    private final JsonFactory factory;
+    private final Path file;
+
+    WorkspaceJournal(File workspace, JsonFactory factory) {
+        requireNotNull(workspace, "Workspace file cannot be null");
+        requireNotNull(factory, "Json factory cannot be null");
+        this.file = new File(workspace.getAbsolutePath() + EXTENSION).toPath();
+        this.factory = factory;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /**
+     * Appends a record for every key that has been added, changed or removed going from the previous to the current state
+     * 
+     * @param previous
+     * @param current
+     * @return the number of appended records
+     * @throws IOException
+     */
+    int append(Map<String, Map<String, String>> previous, Map<String, Map<String, String>> current)
+            throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        int count = 0;
+        Set<String> modules = new HashSet<>(previous.keySet());
+        modules.addAll(current.keySet());
+        for (String module : modules) {
+            Map<String, String> before = previous.getOrDefault(module, Collections.emptyMap());
+            Map<String, String> after = current.getOrDefault(module, Collections.emptyMap());
+            for (Map.Entry<String, String> entry : after.entrySet()) {
+                if (nonNull(entry.getValue()) && !Objects.equals(entry.getValue(), before.get(entry.getKey()))) {
+                    write(records, module, entry.getKey(), entry.getValue());
+                    count++;
+                }
+            }
+            for (String key : before.keySet()) {
+                if (isNull(after.get(key)) && nonNull(before.get(key))) {
+                    write(records, module, key, null);
+                    count++;
+                }
+            }
+        }
+        if (count > 0) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                long size = channel.size();
+                ByteBuffer last = ByteBuffer.allocate(1);
+                if (size > 0 && channel.read(last, size - 1) == 1 && last.get(0) != '\n') {
+                    // a previous append has been interrupted, we start from a new line
+                    channel.write(ByteBuffer.wrap(new byte[] { '\n' }), size++);
+                }
+                channel.position(size);
+                ByteBuffer buffer = ByteBuffer.wrap(records.toByteArray());
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            LOG.trace("Appended {} records to the workspace journal {}", count, file);
+        }
+        return count;
+    }
+
+    private void write(ByteArrayOutputStream out, String module, String key, String value) throws IOException {
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField(MODULE, module);
+            generator.writeStringField(KEY, key);
+            if (nonNull(value)) {
+                generator.writeStringField(VALUE, value);
+            }
+            generator.writeEndObject();
+        }
+        out.write('\n');
+    }
+
+    /**
+     * Applies the records of the journal, if any, to the given data. Records that cannot be read, typically because the application
+     * crashed while writing them, are skipped.
+     * 
+     * @param data
+     *            the data to update
+     * @param modules
+     *            modules whose records should be applied
+     * @return the number of applied records
+     * @throws IOException
+     */
+    int replay(Map<String, Map<String, String>> data, Predicate<String> modules) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while (nonNull(line = reader.readLine())) {
+                if (!line.isBlank()) {
+                    try {
+                        apply(line, data, modules);
+                        count++;
+                    } catch (IOException | IllegalStateException e) {
+                        LOG.warn("Skipping invalid record of the workspace journal {}", file, e);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    private void apply(String line, Map<String, Map<String, String>> data, Predicate<String> modules)
+            throws IOException {
+        String module = null;
+        String key = null;
+        String value = null;
+        try (JsonParser parser = factory.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Invalid journal record");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                if (MODULE.equals(name)) {
+                    module = parser.getValueAsString();
+                } else if (KEY.equals(name)) {
+                    key = parser.getValueAsString();
+                } else if (VALUE.equals(name)) {
+                    value = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT || isNull(module) || isNull(key)) {
+                throw new IllegalStateException("Invalid journal record");
+            }
+        }
+        if (modules.test(module)) {
+            if (nonNull(value)) {
+                data.computeIfAbsent(module, m -> new HashMap<>()).put(key, value);
+            } else if (data.containsKey(module)) {
+                data.get(module).remove(key);
+            }
+        }
+    }
+
+    /**
+     * Deletes the journal
+     * 
+     * @throws IOException
+     */
+    void delete() throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
@@ -0,0 +1,239 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Streams the section of a module in the workspace. Modules store their state as a flat map where the selected documents are stored as
+ * indexed keys ({@code input.size}, {@code input.0}, {@code input.range.0}, {@code input.password.enc0}...); in the section those are
+ * written as arrays of typed objects, one per document, while every other key is written as it is.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+final class WorkspaceSection {
+    private static final String DATA = "data";
+    private static final String INPUTS = "inputs";
+    private static final String FILE = "file";
+    private static final String SIZE_SUFFIX = "input.size";
+    private static final String ENCRYPTED_PASSWORD = "password.enc";
+    private static final Set<String> BOOLEAN_ATTRIBUTES = Set.of("reverse");
+    private static final Set<String> NUMERIC_ATTRIBUTES = Set.of("pages", "length", "modified");
+    private static final List<String> ATTRIBUTES_ORDER = List.of(FILE, ENCRYPTED_PASSWORD, "password", "range", "step",
+            "reverse", "pages", "length", "modified");
+    private static final Comparator<String> ATTRIBUTES_COMPARATOR = Comparator
+            .<String> comparingInt(a -> ATTRIBUTES_ORDER.contains(a) ? ATTRIBUTES_ORDER.indexOf(a) : ATTRIBUTES_ORDER.size())
+            .thenComparing(Comparator.naturalOrder());
+
+    private static final Pattern SIZE_KEY = Pattern.compile("^(.*)input\\.size$");
+    private static final Pattern FILE_KEY = Pattern.compile("^(.*)input\\.(\\d+)$");
+    private static final Pattern ATTRIBUTE_KEY = Pattern.compile("^(.*)input\\.(password\\.enc|[a-z]+\\.)(\\d+)$");
+
+    private WorkspaceSection() {
+        // hide
+    }
+
+    /**
+     * Writes the fields of the section of the given module data
+     * 
+     * @param data
+     * @param generator
+     * @throws IOException
+     */
+    static void write(Map<String, String> data, JsonGenerator generator) throws IOException {
+        Map<String, Integer> sizes = new HashMap<>();
+        data.forEach((key, value) -> {
+            Matcher matcher = SIZE_KEY.matcher(key);
+            if (matcher.matches() && NumberUtils.toInt(value, -1) >= 0) {
+                sizes.put(matcher.group(1), NumberUtils.toInt(value));
+            }
+        });
+        Map<String, List<Map<String, String>>> inputs = new TreeMap<>();
+        sizes.forEach((prefix, size) -> inputs.put(prefix, new ArrayList<>(Collections.nCopies(size, null))));
+        Map<String, String> plain = new TreeMap<>();
+        data.forEach((key, value) -> {
+            if (isNull(value)) {
+                return;
+            }
+            Matcher file = FILE_KEY.matcher(key);
+            Matcher attribute = ATTRIBUTE_KEY.matcher(key);
+            if (file.matches() && isInput(inputs, file.group(1), file.group(2))) {
+                entry(inputs, file.group(1), file.group(2)).put(FILE, value);
+            } else if (attribute.matches() && isInput(inputs, attribute.group(1), attribute.group(3))) {
+                entry(inputs, attribute.group(1), attribute.group(3))
+                        .put(attributeName(attribute.group(2)), value);
+            } else if (!(SIZE_KEY.matcher(key).matches() && sizes.containsKey(key.substring(0,
+                    key.length() - SIZE_SUFFIX.length())))) {
+                plain.put(key, value);
+            }
+        });
+
+        generator.writeObjectFieldStart(DATA);
+        for (Map.Entry<String, String> current : plain.entrySet()) {
+            generator.writeStringField(current.getKey(), current.getValue());
+        }
+        generator.writeEndObject();
+        generator.writeObjectFieldStart(INPUTS);
+        for (Map.Entry<String, List<Map<String, String>>> current : inputs.entrySet()) {
+            generator.writeArrayFieldStart(current.getKey());
+            for (Map<String, String> entry : current.getValue()) {
+                generator.writeStartObject();
+                if (nonNull(entry)) {
+                    for (Map.Entry<String, String> field : entry.entrySet()) {
+                        writeTyped(field.getKey(), field.getValue(), generator);
+                    }
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    private static boolean isInput(Map<String, List<Map<String, String>>> inputs, String prefix, String index) {
+        List<Map<String, String>> entries = inputs.get(prefix);
+        return nonNull(entries) && NumberUtils.toInt(index, -1) < entries.size();
+    }
+
+    private static Map<String, String> entry(Map<String, List<Map<String, String>>> inputs, String prefix,
+            String index) {
+        List<Map<String, String>> entries = inputs.get(prefix);
+        int i = Integer.parseInt(index);
+        if (isNull(entries.get(i))) {
+            entries.set(i, new TreeMap<>(ATTRIBUTES_COMPARATOR));
+        }
+        return entries.get(i);
+    }
+
+    private static String attributeName(String keySegment) {
+        if (keySegment.endsWith(".")) {
+            return keySegment.substring(0, keySegment.length() - 1);
+        }
+        return keySegment;
+    }
+
+    private static String keySegment(String attributeName) {
+        if (ENCRYPTED_PASSWORD.equals(attributeName)) {
+            return attributeName;
+        }
+        return attributeName + ".";
+    }
+
+    private static void writeTyped(String name, String value, JsonGenerator generator) throws IOException {
+        if (BOOLEAN_ATTRIBUTES.contains(name) && ("true".equals(value) || "false".equals(value))) {
+            generator.writeBooleanField(name, Boolean.parseBoolean(value));
+        } else if (NUMERIC_ATTRIBUTES.contains(name) && NumberUtils.isDigits(value)) {
+            generator.writeNumberField(name, Long.parseLong(value));
+        } else {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    /**
+     * Reads a section, the parser is expected to be positioned at the start of the section object
+     * 
+     * @param parser
+     * @return the module data as a flat map
+     * @throws IOException
+     */
+    static Map<String, String> read(JsonParser parser) throws IOException {
+        Map<String, String> data = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (DATA.equals(name) && token == JsonToken.START_OBJECT) {
+                readFlat(parser, data);
+            } else if (INPUTS.equals(name) && token == JsonToken.START_OBJECT) {
+                readInputs(parser, data);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return data;
+    }
+
+    private static void readInputs(JsonParser parser, Map<String, String> data) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String prefix = parser.getCurrentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String attribute = parser.getCurrentName();
+                        JsonToken value = parser.nextToken();
+                        if (value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                            String key = FILE.equals(attribute) ? prefix + "input." + index
+                                    : prefix + "input." + keySegment(attribute) + index;
+                            data.put(key, parser.getValueAsString());
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+                index++;
+            }
+            data.put(prefix + SIZE_SUFFIX, Integer.toString(index));
+        }
+    }
+
+    /**
+     * Reads an object of scalar values, the parser is expected to be positioned at the start of the object
+     * 
+     * @param parser
+     * @param data
+     * @throws IOException
+     */
+    static void readFlat(JsonParser parser, Map<String, String> data) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                data.put(name, parser.getValueAsString());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+}
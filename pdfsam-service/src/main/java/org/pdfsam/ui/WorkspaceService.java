@@ -20,6 +20,7 @@ package org.pdfsam.ui;
 
 import java.io.File;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Services related to workspaces
@@ -30,7 +31,7 @@ import java.util.Map;
 public interface WorkspaceService {
 
     /**
-     * Saves the given map of data to the destination file.
+     * Saves the given map of data to the destination file, discarding its journal.
      * 
      * @param data
      *            map of maps. The key is a module id and the value is a key/value map used by the module to store its state
@@ -49,4 +50,33 @@ public interface WorkspaceService {
      *             in case of error
      */
     Map<String, Map<String, String>> loadWorkspace(File workspace);
+
+    /**
+     * Loads from the given workspace file only the data of the given modules. Implementations can skip the sections of the other
+     * modules without loading them and stop reading once all the given modules have been found.
+     * 
+     * @param workspace
+     * @param modules
+     *            ids of the modules to load
+     * @return a map of maps. The key is a module id and the value is a key/value map used by the module to store its state
+     * @throws RuntimeException
+     *             in case of error
+     */
+    Map<String, Map<String, String>> loadWorkspace(File workspace, Set<String> modules);
+
+    /**
+     * Records in the journal of the given workspace the keys that changed going from the previous to the current data. The journal is
+     * applied on top of the workspace when it's loaded and it's discarded when the workspace is saved.
+     * 
+     * @param previous
+     *            the data as currently stored by the workspace and its journal
+     * @param current
+     *            the current data
+     * @param workspace
+     * @return the number of records added to the journal
+     * @throws RuntimeException
+     *             in case of error
+     */
+    int journalWorkspace(Map<String, Map<String, String>> previous, Map<String, Map<String, String>> current,
+            File workspace);
 }
@@ -19,12 +19,15 @@
 package org.pdfsam.update;
 
 import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.pdfsam.support.RequireUtils.requireNotNull;
 
 import java.io.IOException;
+import java.net.URL;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.pdfsam.http.HttpService;
 import org.pdfsam.i18n.DefaultI18nContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,17 +44,21 @@ class DefaultUpdateService implements UpdateService {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultUpdateService.class);
     private static final String CURRENT_VERSION_KEY = "currentVersion";
 
+    private HttpService http;
     private Object jsonSource;
 
     @Inject
-    DefaultUpdateService(@Named("updatesUrl") Object jsonSource) {
+    DefaultUpdateService(HttpService http, @Named("updatesUrl") Object jsonSource) {
+        requireNotNull(http, "HTTP service cannot be null");
+        this.http = http;
         this.jsonSource = jsonSource;
     }
 
     @Override
     public String getLatestVersion() {
         try {
-            return JSON.std.mapFrom(jsonSource).getOrDefault(CURRENT_VERSION_KEY, "").toString();
+            Object source = jsonSource instanceof URL ? http.get((URL) jsonSource) : jsonSource;
+            return JSON.std.mapFrom(source).getOrDefault(CURRENT_VERSION_KEY, "").toString();
         } catch (IOException e) {
             LOG.warn(DefaultI18nContext.getInstance().i18n("Unable to find the latest available version."), e);
         }
@@ -0,0 +1,227 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.http;
+
+import static com.google.code.tempusfugit.temporal.Duration.seconds;
+import static com.google.code.tempusfugit.temporal.Timeout.timeout;
+import static com.google.code.tempusfugit.temporal.WaitFor.waitOrTimeout;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class DefaultHttpServiceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private HttpServer server;
+    private AtomicInteger requests = new AtomicInteger();
+    private AtomicReference<String> body = new AtomicReference<>("first");
+    private Map<String, String> responseHeaders = new ConcurrentHashMap<>();
+    private Map<String, String> requestHeaders = new ConcurrentHashMap<>();
+    private AtomicLong delay = new AtomicLong();
+    private AtomicInteger status = new AtomicInteger(200);
+    private AtomicLong clock = new AtomicLong(100000);
+    private URL url;
+    private File cacheDirectory;
+    private DefaultHttpService victim;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/resource", this::handle);
+        server.start();
+        url = new URL(String.format("http://%s:%d/resource", server.getAddress().getHostString(),
+                server.getAddress().getPort()));
+        cacheDirectory = folder.newFolder();
+        victim = newVictim();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private DefaultHttpService newVictim() {
+        return new DefaultHttpService(new HttpDiskCache(cacheDirectory.toPath()), 1000, 500, clock::get);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        requestHeaders.clear();
+        exchange.getRequestHeaders().forEach((k, v) -> requestHeaders.put(k.toLowerCase(), v.get(0)));
+        try {
+            Thread.sleep(delay.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        responseHeaders.forEach((k, v) -> exchange.getResponseHeaders().add(k, v));
+        String etag = responseHeaders.get("ETag");
+        if (etag != null && etag.equals(requestHeaders.get("if-none-match"))) {
+            exchange.sendResponseHeaders(304, -1);
+        } else {
+            byte[] bytes = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status.get(), bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+        exchange.close();
+    }
+
+    private String get() throws IOException {
+        return new String(victim.get(url), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void notCacheable() throws IOException {
+        assertEquals("first", get());
+        body.set("second");
+        assertEquals("second", get());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void freshFromCache() throws IOException {
+        responseHeaders.put("Cache-Control", "public, max-age=60");
+        assertEquals("first", get());
+        body.set("second");
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(59));
+        assertEquals("first", get());
+        assertEquals(1, requests.get());
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(2));
+        assertEquals("second", get());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void noStore() throws IOException {
+        responseHeaders.put("Cache-Control", "no-store, max-age=60");
+        get();
+        get();
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void persistedOnDisk() throws IOException {
+        responseHeaders.put("Cache-Control", "max-age=60");
+        assertEquals("first", get());
+        body.set("second");
+        victim = newVictim();
+        assertEquals("first", get());
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    public void etagRevalidation() throws IOException {
+        responseHeaders.put("ETag", "\"v1\"");
+        assertEquals("first", get());
+        assertNull(requestHeaders.get("if-none-match"));
+        body.set("second");
+        assertEquals("first", get());
+        assertEquals("\"v1\"", requestHeaders.get("if-none-match"));
+        responseHeaders.put("ETag", "\"v2\"");
+        assertEquals("second", get());
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void lastModifiedRevalidation() throws IOException {
+        responseHeaders.put("Last-Modified", "Wed, 21 Oct 2015 07:28:00 GMT");
+        get();
+        get();
+        assertEquals("Wed, 21 Oct 2015 07:28:00 GMT", requestHeaders.get("if-modified-since"));
+    }
+
+    @Test
+    public void staleWhileRevalidate() throws Exception {
+        responseHeaders.put("Cache-Control", "max-age=10, stale-while-revalidate=60");
+        assertEquals("first", get());
+        body.set("second");
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(30));
+        assertEquals("first", get());
+        waitOrTimeout(() -> requests.get() == 2, timeout(seconds(2)));
+        waitOrTimeout(() -> {
+            try {
+                return "second".equals(get());
+            } catch (IOException e) {
+                return false;
+            }
+        }, timeout(seconds(2)));
+        assertEquals(2, requests.get());
+    }
+
+    @Test(expected = IOException.class)
+    public void readTimeout() throws IOException {
+        delay.set(2000);
+        get();
+    }
+
+    @Test
+    public void staleOnTimeout() throws IOException {
+        responseHeaders.put("Cache-Control", "max-age=10");
+        assertEquals("first", get());
+        body.set("second");
+        delay.set(2000);
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(30));
+        assertEquals("first", get());
+    }
+
+    @Test(expected = IOException.class)
+    public void errorStatus() throws IOException {
+        status.set(500);
+        get();
+    }
+
+    @Test
+    public void notHttp() throws IOException {
+        File file = folder.newFile();
+        FileUtils.writeStringToFile(file, "content", StandardCharsets.UTF_8);
+        assertArrayEquals("content".getBytes(StandardCharsets.UTF_8), victim.get(file.toURI().toURL()));
+        assertEquals(0, requests.get());
+    }
+}
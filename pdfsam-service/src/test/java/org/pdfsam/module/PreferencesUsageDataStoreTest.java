@@ -20,6 +20,8 @@ package org.pdfsam.module;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
@@ -29,6 +31,7 @@ import java.util.prefs.Preferences;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.pdfsam.ShutdownEvent;
 
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
@@ -50,6 +53,7 @@ public class PreferencesUsageDataStoreTest {
     @Test
     public void incrementUsageFor() throws JSONObjectException, IOException {
         victim.incrementUsageFor("moduleId");
+        victim.flush();
         ModuleUsage usage = JSON.std.beanFrom(
                 ModuleUsage.class,
                 Preferences.userRoot().node(PreferencesUsageDataStore.USAGE_PATH).node("moduleId")
@@ -61,13 +65,14 @@ public class PreferencesUsageDataStoreTest {
     @Test
     public void multipleIncrementUsageFor() throws JSONObjectException, IOException, InterruptedException {
         victim.incrementUsageFor("moduleId");
+        victim.flush();
         ModuleUsage usage = JSON.std.beanFrom(
                 ModuleUsage.class,
                 Preferences.userRoot().node(PreferencesUsageDataStore.USAGE_PATH).node("moduleId")
                         .get(PreferencesUsageDataStore.MODULE_USAGE_KEY, ""));
-        victim.flush();
         Thread.sleep(1000);
         victim.incrementUsageFor("moduleId");
+        victim.flush();
         ModuleUsage usage2 = JSON.std.beanFrom(
                 ModuleUsage.class,
                 Preferences.userRoot().node(PreferencesUsageDataStore.USAGE_PATH).node("moduleId")
@@ -111,4 +116,38 @@ public class PreferencesUsageDataStoreTest {
         assertEquals(3, victim.getTotalUsage());
     }
 
+    @Test
+    public void notWrittenUntilFlushed() {
+        victim.incrementUsageFor("moduleId");
+        assertTrue(isBlank(Preferences.userRoot().node(PreferencesUsageDataStore.USAGE_PATH).node("moduleId")
+                .get(PreferencesUsageDataStore.MODULE_USAGE_KEY, "")));
+        victim.onShutdown(new ShutdownEvent());
+        assertFalse(isBlank(Preferences.userRoot().node(PreferencesUsageDataStore.USAGE_PATH).node("moduleId")
+                .get(PreferencesUsageDataStore.MODULE_USAGE_KEY, "")));
+    }
+
+    @Test
+    public void loadedFromPreferences() {
+        victim.incrementUsageFor("module1");
+        victim.incrementUsageFor("module1");
+        victim.incrementUsageFor("module2");
+        victim.flush();
+        PreferencesUsageDataStore another = new PreferencesUsageDataStore();
+        assertEquals(3, another.getTotalUsage());
+        List<ModuleUsage> result = another.getUsages();
+        assertEquals(2, result.size());
+        assertEquals(2, result.stream().filter(u -> "module1".equals(u.getModuleId())).findFirst().get()
+                .getTotalUsed());
+    }
+
+    @Test
+    public void version() {
+        long version = victim.version();
+        victim.incrementUsageFor("module1");
+        assertNotEquals(version, victim.version());
+        version = victim.version();
+        victim.clear();
+        assertNotEquals(version, victim.version());
+    }
+
 }
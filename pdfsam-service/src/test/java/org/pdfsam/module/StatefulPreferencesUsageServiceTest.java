@@ -20,6 +20,7 @@ package org.pdfsam.module;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pdfsam.module.ModuleDescriptorBuilder.builder;
@@ -121,4 +122,18 @@ public class StatefulPreferencesUsageServiceTest {
         assertEquals("module2", mostUsed.get(0).id());
     }
 
+    @Test
+    public void sortedOnlyWhenUsagesChange() {
+        PreferencesUsageDataStore dataStore = injector.instance(PreferencesUsageDataStore.class);
+        List<ModuleUsage> usages = Arrays.asList(new ModuleUsage[] { usage("module1", 2), usage("module2", 3) });
+        when(dataStore.getUsages()).thenReturn(usages);
+        StatefulPreferencesUsageService victim = injector.instance(StatefulPreferencesUsageService.class);
+        victim.getMostUsed();
+        victim.getMostRecentlyUsed();
+        verify(dataStore).getUsages();
+        when(dataStore.version()).thenReturn(1L);
+        assertEquals("module2", victim.getMostRecentlyUsed().get(0).id());
+        verify(dataStore, times(2)).getUsages();
+    }
+
 }
@@ -34,6 +34,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.pdfsam.ConfigurableProperty;
 import org.pdfsam.Pdfsam;
+import org.pdfsam.http.HttpService;
 
 /**
  * @author Andrea Vacondio
@@ -46,11 +47,13 @@ public class DefaultNewsServiceTest {
 
     private DefaultNewsService victim;
     private Pdfsam pdfsam;
+    private HttpService http;
 
     @Before
     public void setUp() {
         pdfsam = mock(Pdfsam.class);
-        victim = new DefaultNewsService(pdfsam);
+        http = mock(HttpService.class);
+        victim = new DefaultNewsService(pdfsam, http);
     }
 
     @Test
@@ -82,6 +85,7 @@ public class DefaultNewsServiceTest {
         File file = folder.newFile();
         FileUtils.copyInputStreamToFile(getClass().getResourceAsStream("/test_news.json"), file);
         when(pdfsam.property(ConfigurableProperty.NEWS_URL)).thenReturn(file.toURI().toString());
+        when(http.get(file.toURI().toURL())).thenReturn(FileUtils.readFileToByteArray(file));
         List<NewsData> news = victim.getLatestNews();
         assertEquals(1, news.size());
         assertEquals("news-title", news.get(0).getTitle());
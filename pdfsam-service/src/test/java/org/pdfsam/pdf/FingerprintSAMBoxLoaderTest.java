@@ -0,0 +1,100 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.pdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pdfsam.module.RequiredPdfData;
+import org.sejda.sambox.pdmodel.PDDocument;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class FingerprintSAMBoxLoaderTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void key() {
+        assertEquals(RequiredPdfData.FINGERPRINT, new FingerprintSAMBoxLoader().key());
+    }
+
+    @Test
+    public void sameContent() throws IOException {
+        File first = folder.newFile("first.pdf");
+        File second = folder.newFile("second.pdf");
+        FileUtils.copyInputStreamToFile(getClass().getResourceAsStream("/test_pdfsam.pdf"), first);
+        FileUtils.copyInputStreamToFile(getClass().getResourceAsStream("/test_pdfsam.pdf"), second);
+        PdfDocumentDescriptor firstDescriptor = PdfDocumentDescriptor.newDescriptorNoPassword(first);
+        PdfDocumentDescriptor secondDescriptor = PdfDocumentDescriptor.newDescriptorNoPassword(second);
+        new FingerprintSAMBoxLoader().accept(mock(PDDocument.class), firstDescriptor);
+        new FingerprintSAMBoxLoader().accept(mock(PDDocument.class), secondDescriptor);
+        assertNotNull(firstDescriptor.getFingerprint());
+        assertEquals(firstDescriptor.getFingerprint(), secondDescriptor.getFingerprint());
+    }
+
+    @Test
+    public void differentContent() throws IOException {
+        File first = folder.newFile("first.pdf");
+        File second = folder.newFile("second.pdf");
+        FileUtils.copyInputStreamToFile(getClass().getResourceAsStream("/test_pdfsam.pdf"), first);
+        FileUtils.copyInputStreamToFile(getClass().getResourceAsStream("/test_outline.pdf"), second);
+        assertNotEquals(FingerprintSAMBoxLoader.fingerprint(first), FingerprintSAMBoxLoader.fingerprint(second));
+    }
+
+    @Test
+    public void tailIsConsidered() throws IOException {
+        byte[] content = new byte[FingerprintSAMBoxLoader.BLOCK_SIZE * 3];
+        File first = folder.newFile("first.pdf");
+        FileUtils.writeByteArrayToFile(first, content);
+        content[content.length - 1] = 1;
+        File second = folder.newFile("second.pdf");
+        FileUtils.writeByteArrayToFile(second, content);
+        assertNotEquals(FingerprintSAMBoxLoader.fingerprint(first), FingerprintSAMBoxLoader.fingerprint(second));
+    }
+
+    @Test
+    public void sizeIsConsidered() throws IOException {
+        File first = folder.newFile("first.pdf");
+        FileUtils.writeByteArrayToFile(first, new byte[FingerprintSAMBoxLoader.BLOCK_SIZE * 3]);
+        File second = folder.newFile("second.pdf");
+        FileUtils.writeByteArrayToFile(second, new byte[FingerprintSAMBoxLoader.BLOCK_SIZE * 4]);
+        assertNotEquals(FingerprintSAMBoxLoader.fingerprint(first), FingerprintSAMBoxLoader.fingerprint(second));
+    }
+
+    @Test
+    public void missingFile() {
+        PdfDocumentDescriptor descriptor = PdfDocumentDescriptor
+                .newDescriptorNoPassword(new File(folder.getRoot(), "missing.pdf"));
+        new FingerprintSAMBoxLoader().accept(mock(PDDocument.class), descriptor);
+        assertNull(descriptor.getFingerprint());
+    }
+}
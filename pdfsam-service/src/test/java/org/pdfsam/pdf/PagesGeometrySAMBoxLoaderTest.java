@@ -0,0 +1,79 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.pdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pdfsam.module.RequiredPdfData;
+import org.sejda.common.ComponentsUtility;
+import org.sejda.io.SeekableSources;
+import org.sejda.sambox.input.PDFParser;
+import org.sejda.sambox.pdmodel.PDDocument;
+import org.sejda.sambox.pdmodel.PDPage;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class PagesGeometrySAMBoxLoaderTest {
+
+    private PDDocument document;
+    private PdfDocumentDescriptor descriptor;
+
+    @Before
+    public void setUp() throws IOException {
+        descriptor = PdfDocumentDescriptor.newDescriptorNoPassword(mock(File.class));
+        document = PDFParser
+                .parse(SeekableSources.inMemorySeekableSourceFrom(getClass().getResourceAsStream("/test_pdfsam.pdf")));
+    }
+
+    @After
+    public void tearDown() {
+        ComponentsUtility.nullSafeCloseQuietly(document);
+    }
+
+    @Test
+    public void accept() {
+        new PagesGeometrySAMBoxLoader().accept(document, descriptor);
+        PagesGeometry geometry = descriptor.getPagesGeometry();
+        assertNotNull(geometry);
+        assertEquals(document.getNumberOfPages(), geometry.numberOfPages());
+        for (int i = 1; i <= geometry.numberOfPages(); i++) {
+            PDPage page = document.getPage(i - 1);
+            assertEquals(page.getRotation(), geometry.rotation(i));
+            assertEquals(page.getMediaBox().getWidth(), geometry.mediaBox(i)[2] - geometry.mediaBox(i)[0], 0.01);
+            assertEquals(page.getCropBox().getHeight(), geometry.cropBox(i)[3] - geometry.cropBox(i)[1], 0.01);
+            assertTrue(geometry.width(i) > 0);
+        }
+    }
+
+    @Test
+    public void key() {
+        assertEquals(RequiredPdfData.PAGES_GEOMETRY, new PagesGeometrySAMBoxLoader().key());
+    }
+}
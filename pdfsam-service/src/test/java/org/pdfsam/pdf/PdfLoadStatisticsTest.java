@@ -0,0 +1,103 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.pdf;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pdfsam.test.ClearEventStudioRule;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class PdfLoadStatisticsTest {
+    @Rule
+    public ClearEventStudioRule clearEventStudio = new ClearEventStudioRule();
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void empty() {
+        assertTrue(new PdfLoadStatistics().percentiles().isEmpty());
+    }
+
+    @Test
+    public void percentiles() {
+        PdfLoadStatistics victim = new PdfLoadStatistics();
+        for (int i = 1; i <= 100; i++) {
+            PdfLoadTimings timings = new PdfLoadTimings();
+            timings.record(PdfLoadTimings.PARSE, TimeUnit.MILLISECONDS.toNanos(i));
+            victim.record(timings);
+        }
+        Map<String, Long> parse = victim.percentiles().get(PdfLoadTimings.PARSE);
+        assertEquals(100L, parse.get("count").longValue());
+        assertEquals(50L, parse.get("p50").longValue());
+        assertEquals(90L, parse.get("p90").longValue());
+        assertEquals(99L, parse.get("p99").longValue());
+        assertEquals(100L, parse.get("max").longValue());
+    }
+
+    @Test
+    public void onlyLatestSamples() {
+        PdfLoadStatistics victim = new PdfLoadStatistics();
+        for (int i = 0; i < PdfLoadStatistics.MAX_SAMPLES; i++) {
+            PdfLoadTimings timings = new PdfLoadTimings();
+            timings.record(PdfLoadTimings.OPEN, TimeUnit.MILLISECONDS.toNanos(100));
+            victim.record(timings);
+        }
+        for (int i = 0; i < PdfLoadStatistics.MAX_SAMPLES; i++) {
+            PdfLoadTimings timings = new PdfLoadTimings();
+            timings.record(PdfLoadTimings.OPEN, TimeUnit.MILLISECONDS.toNanos(1));
+            victim.record(timings);
+        }
+        Map<String, Long> open = victim.percentiles().get(PdfLoadTimings.OPEN);
+        assertEquals(2L * PdfLoadStatistics.MAX_SAMPLES, open.get("count").longValue());
+        assertEquals(1L, open.get("max").longValue());
+    }
+
+    @Test
+    public void percentile() {
+        assertEquals(1, PdfLoadStatistics.percentile(new long[] { 1 }, 50));
+        assertEquals(2, PdfLoadStatistics.percentile(new long[] { 1, 2, 3 }, 50));
+        assertEquals(3, PdfLoadStatistics.percentile(new long[] { 1, 2, 3 }, 99));
+    }
+
+    @Test
+    public void export() throws IOException {
+        PdfLoadStatistics victim = new PdfLoadStatistics();
+        PdfLoadTimings timings = new PdfLoadTimings();
+        timings.record(PdfLoadTimings.PARSE, TimeUnit.MILLISECONDS.toNanos(5));
+        victim.record(timings);
+        File destination = folder.newFile();
+        victim.exportTo(destination);
+        String json = FileUtils.readFileToString(destination, "UTF-8");
+        assertTrue(json.contains("\"parse\""));
+        assertTrue(json.contains("\"p50\" : 5"));
+    }
+}
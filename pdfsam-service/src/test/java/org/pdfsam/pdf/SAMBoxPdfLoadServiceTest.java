@@ -23,6 +23,7 @@ import static com.google.code.tempusfugit.temporal.Timeout.timeout;
 import static com.google.code.tempusfugit.temporal.WaitFor.waitOrTimeout;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
 import java.io.File;
@@ -74,6 +75,10 @@ public class SAMBoxPdfLoadServiceTest {
         assertEquals(2, item.pages().getValue().intValue());
         assertEquals("Me", item.getInformation(PdfMetadataKey.AUTHOR.getKey()));
         assertEquals("test", item.getInformation(PdfMetadataKey.KEYWORDS.getKey()));
+        assertTrue(item.getLoadTimings().millis(PdfLoadTimings.OPEN) >= 0);
+        assertTrue(item.getLoadTimings().millis(PdfLoadTimings.PARSE) >= 0);
+        assertTrue(item.getLoadTimings().millis(DefaultSAMBoxLoader.class.getSimpleName()) >= 0);
+        assertEquals(-1, item.getLoadTimings().millis(BookmarksLevelSAMBoxLoader.class.getSimpleName()));
     }
 
     @Test
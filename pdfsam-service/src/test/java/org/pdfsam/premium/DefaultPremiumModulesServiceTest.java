@@ -32,6 +32,7 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.pdfsam.ConfigurableProperty;
 import org.pdfsam.Pdfsam;
+import org.pdfsam.http.HttpService;
 
 /**
  * @author Andrea Vacondio
@@ -44,11 +45,13 @@ public class DefaultPremiumModulesServiceTest {
 
     private DefaultPremiumModulesService victim;
     private Pdfsam pdfsam;
+    private HttpService http;
 
     @Before
     public void setUp() {
         pdfsam = mock(Pdfsam.class);
-        victim = new DefaultPremiumModulesService(pdfsam);
+        http = mock(HttpService.class);
+        victim = new DefaultPremiumModulesService(pdfsam, http);
     }
 
     @Test
@@ -56,6 +59,7 @@ public class DefaultPremiumModulesServiceTest {
         File file = folder.newFile();
         FileUtils.copyInputStreamToFile(getClass().getResourceAsStream("/test_premium_modules.json"), file);
         when(pdfsam.property(ConfigurableProperty.PREMIUM_MODULES_URL)).thenReturn(file.toURI().toString());
+        when(http.get(file.toURI().toURL())).thenReturn(FileUtils.readFileToByteArray(file));
         List<PremiumModule> modules = victim.getPremiumModules();
         assertEquals(1, modules.size());
         assertEquals("module-name", modules.get(0).getName());
@@ -18,11 +18,21 @@
  */
 package org.pdfsam.task;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.Rule;
@@ -37,6 +47,7 @@ import org.sejda.core.service.TaskExecutionService;
 import org.sejda.eventstudio.Listener;
 import org.sejda.model.notification.event.TaskExecutionStartedEvent;
 import org.sejda.model.parameter.base.AbstractParameters;
+import org.slf4j.MDC;
 
 /**
  * @author Andrea Vacondio
@@ -73,6 +84,25 @@ public class TaskExecutionControllerTest {
         verify(executionService, timeout(1000).times(1)).execute(params);
     }
 
+    @Test
+    public void diagnosticContext() throws InterruptedException {
+        Map<String, String> context = new HashMap<>();
+        CountDownLatch executed = new CountDownLatch(1);
+        doAnswer(i -> {
+            context.put(TaskExecutionController.MDC_TASK_ID, MDC.get(TaskExecutionController.MDC_TASK_ID));
+            context.put(TaskExecutionController.MDC_MODULE, MDC.get(TaskExecutionController.MDC_MODULE));
+            context.put(TaskExecutionController.MDC_TASK_START, MDC.get(TaskExecutionController.MDC_TASK_START));
+            executed.countDown();
+            return null;
+        }).when(executionService).execute(any());
+        victim.request(new TaskExecutionRequestEvent("module", mock(AbstractParameters.class)));
+        executed.await(1, TimeUnit.SECONDS);
+        assertEquals("1", context.get(TaskExecutionController.MDC_TASK_ID));
+        assertEquals("module", context.get(TaskExecutionController.MDC_MODULE));
+        assertNotNull(context.get(TaskExecutionController.MDC_TASK_START));
+        assertNull(MDC.get(TaskExecutionController.MDC_MODULE));
+    }
+
     @Test
     public void onEventTaskEventBroadcaster() {
         String moduleId = "module";
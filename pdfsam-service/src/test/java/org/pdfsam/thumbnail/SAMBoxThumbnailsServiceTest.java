@@ -0,0 +1,181 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.thumbnail;
+
+import static com.google.code.tempusfugit.temporal.Duration.seconds;
+import static com.google.code.tempusfugit.temporal.Timeout.timeout;
+import static com.google.code.tempusfugit.temporal.WaitFor.waitOrTimeout;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.pdfsam.ShutdownEvent;
+import org.pdfsam.context.UserContext;
+import org.pdfsam.pdf.PdfDocumentDescriptor;
+import org.pdfsam.test.ClearEventStudioRule;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class SAMBoxThumbnailsServiceTest {
+    @Rule
+    public ClearEventStudioRule clearStudio = new ClearEventStudioRule();
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private UserContext userContext;
+    private ThumbnailsMemoryCache memoryCache;
+    private ThumbnailsDiskCache diskCache;
+    private PdfDocumentDescriptor descriptor;
+
+    @Before
+    public void setUp() throws IOException {
+        userContext = mock(UserContext.class);
+        when(userContext.getThumbnailsSize()).thenReturn(100);
+        memoryCache = new ThumbnailsMemoryCache(1024 * 1024);
+        diskCache = new ThumbnailsDiskCache(folder.newFolder().toPath());
+        File file = folder.newFile("test.pdf");
+        FileUtils.copyInputStreamToFile(getClass().getResourceAsStream("/test_pdfsam.pdf"), file);
+        descriptor = PdfDocumentDescriptor.newDescriptorNoPassword(file);
+    }
+
+    @Test
+    public void thumbnail() throws Exception {
+        SAMBoxThumbnailsService victim = new SAMBoxThumbnailsService(userContext, memoryCache, diskCache, 1);
+        BufferedImage image = victim.thumbnail(descriptor, 1).get(10, TimeUnit.SECONDS);
+        assertEquals(100, Math.max(image.getWidth(), image.getHeight()), 1);
+        assertSame(image, victim.thumbnail(descriptor, 1).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void highQualityThumbnail() throws Exception {
+        when(userContext.isHighQualityThumbnails()).thenReturn(true);
+        SAMBoxThumbnailsService victim = new SAMBoxThumbnailsService(userContext, memoryCache, diskCache, 1);
+        BufferedImage image = victim.thumbnail(descriptor, 1).get(10, TimeUnit.SECONDS);
+        assertEquals(100, Math.max(image.getWidth(), image.getHeight()), 1);
+    }
+
+    @Test
+    public void fromDiskCache() throws Exception {
+        ThumbnailsDiskCache disk = mock(ThumbnailsDiskCache.class);
+        BufferedImage cached = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+        when(disk.get(any())).thenReturn(Optional.of(cached));
+        SAMBoxThumbnailsService victim = new SAMBoxThumbnailsService(userContext, memoryCache, disk, 1);
+        assertSame(cached, victim.thumbnail(descriptor, 1).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void fromMemoryCache() throws Exception {
+        ThumbnailsDiskCache disk = mock(ThumbnailsDiskCache.class);
+        BufferedImage cached = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+        memoryCache.put(new ThumbnailKey(descriptor.getFile(), 1, 100, false), cached);
+        SAMBoxThumbnailsService victim = new SAMBoxThumbnailsService(userContext, memoryCache, disk, 1);
+        assertSame(cached, victim.thumbnail(descriptor, 1).get(10, TimeUnit.SECONDS));
+        verify(disk, never()).get(any());
+    }
+
+    @Test
+    public void cancelledIsNotRendered() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ThumbnailsDiskCache disk = mock(ThumbnailsDiskCache.class);
+        ThumbnailKey second = new ThumbnailKey(descriptor.getFile(), 2, 100, false);
+        when(disk.get(any())).then(a -> {
+            blocked.countDown();
+            release.await();
+            return Optional.of(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        });
+        SAMBoxThumbnailsService victim = new SAMBoxThumbnailsService(userContext, memoryCache, disk, 1);
+        CompletableFuture<BufferedImage> first = victim.thumbnail(descriptor, 1);
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        assertTrue(victim.thumbnail(descriptor, 2).cancel(true));
+        release.countDown();
+        first.get(10, TimeUnit.SECONDS);
+        verify(disk, Mockito.timeout(1000)).get(eq(new ThumbnailKey(descriptor.getFile(), 1, 100, false)));
+        verify(disk, never()).get(second);
+    }
+
+    @Test
+    public void documentParsedOnce() throws Exception {
+        SAMBoxThumbnailsService victim = new SAMBoxThumbnailsService(userContext, memoryCache, diskCache, 2);
+        CompletableFuture.allOf(victim.thumbnail(descriptor, 1), victim.thumbnail(descriptor, 2)).get(10,
+                TimeUnit.SECONDS);
+        assertEquals(1, victim.openDocuments());
+    }
+
+    @Test
+    public void documentClosedOnRelease() throws Exception {
+        SAMBoxThumbnailsService victim = new SAMBoxThumbnailsService(userContext, memoryCache, diskCache, 1);
+        victim.thumbnail(descriptor, 1).get(10, TimeUnit.SECONDS);
+        assertEquals(1, victim.openDocuments());
+        descriptor.releaseAll();
+        waitOrTimeout(() -> victim.openDocuments() == 0, timeout(seconds(2)));
+    }
+
+    @Test
+    public void releasedIsNotRendered() throws Exception {
+        SAMBoxThumbnailsService victim = new SAMBoxThumbnailsService(userContext, memoryCache, diskCache, 1);
+        descriptor.releaseAll();
+        CompletableFuture<BufferedImage> thumbnail = victim.thumbnail(descriptor, 1);
+        thumbnail.handle((r, e) -> e).get(10, TimeUnit.SECONDS);
+        assertTrue(thumbnail.isCancelled());
+        assertEquals(0, victim.openDocuments());
+    }
+
+    @Test
+    public void documentClosedOnShutdown() throws Exception {
+        SAMBoxThumbnailsService victim = new SAMBoxThumbnailsService(userContext, memoryCache, diskCache, 1);
+        victim.thumbnail(descriptor, 1).get(10, TimeUnit.SECONDS);
+        victim.onShutdown(new ShutdownEvent());
+        assertEquals(0, victim.openDocuments());
+    }
+
+    @Test
+    public void clearCache() throws Exception {
+        SAMBoxThumbnailsService victim = new SAMBoxThumbnailsService(userContext, memoryCache, diskCache, 1);
+        victim.thumbnail(descriptor, 1).get(10, TimeUnit.SECONDS);
+        victim.clearCache();
+        assertEquals(0, memoryCache.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPage() {
+        new SAMBoxThumbnailsService(userContext, memoryCache, diskCache, 1).thumbnail(descriptor, 0);
+    }
+}
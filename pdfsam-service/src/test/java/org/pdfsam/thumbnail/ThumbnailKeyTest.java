@@ -0,0 +1,82 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.thumbnail;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class ThumbnailKeyTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullFile() {
+        new ThumbnailKey(null, 1, 100, true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPage() throws IOException {
+        new ThumbnailKey(folder.newFile(), 0, 100, true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSize() throws IOException {
+        new ThumbnailKey(folder.newFile(), 1, 0, true);
+    }
+
+    @Test
+    public void equalsAndHashCode() throws IOException {
+        File file = folder.newFile();
+        ThumbnailKey victim = new ThumbnailKey(file, 1, 100, true);
+        ThumbnailKey same = new ThumbnailKey(file, 1, 100, true);
+        assertEquals(victim, same);
+        assertEquals(victim.hashCode(), same.hashCode());
+        assertEquals(victim.id(), same.id());
+        assertNotEquals(victim, new ThumbnailKey(file, 2, 100, true));
+        assertNotEquals(victim, new ThumbnailKey(file, 1, 120, true));
+        assertNotEquals(victim, new ThumbnailKey(file, 1, 100, false));
+        assertNotEquals(victim, new ThumbnailKey(folder.newFile(), 1, 100, true));
+    }
+
+    @Test
+    public void fileIdentity() throws IOException {
+        File file = folder.newFile();
+        ThumbnailKey victim = new ThumbnailKey(file, 1, 100, true);
+        assertTrue(file.setLastModified(file.lastModified() - 10000));
+        assertNotEquals(victim, new ThumbnailKey(file, 1, 100, true));
+        assertNotEquals(victim.id(), new ThumbnailKey(file, 1, 100, true).id());
+    }
+
+    @Test
+    public void id() throws IOException {
+        assertTrue(new ThumbnailKey(folder.newFile(), 1, 100, true).id().matches("[0-9a-f]{40}"));
+    }
+}
@@ -0,0 +1,101 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.thumbnail;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class ThumbnailsDiskCacheTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private File cache;
+    private ThumbnailsDiskCache victim;
+
+    @Before
+    public void setUp() {
+        cache = new File(folder.getRoot(), "cache");
+        victim = new ThumbnailsDiskCache(cache.toPath());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullDirectory() {
+        new ThumbnailsDiskCache(null);
+    }
+
+    @Test
+    public void missing() throws IOException {
+        assertFalse(victim.get(new ThumbnailKey(folder.newFile(), 1, 10, true)).isPresent());
+    }
+
+    @Test
+    public void putAndGet() throws IOException {
+        ThumbnailKey key = new ThumbnailKey(folder.newFile(), 1, 10, true);
+        victim.put(key, new BufferedImage(10, 20, BufferedImage.TYPE_INT_RGB));
+        assertTrue(new File(cache, key.id() + ".png").exists());
+        BufferedImage image = victim.get(key).get();
+        assertEquals(10, image.getWidth());
+        assertEquals(20, image.getHeight());
+        assertEquals(1, cache.listFiles().length);
+    }
+
+    @Test
+    public void corruptedIsDiscarded() throws IOException {
+        ThumbnailKey key = new ThumbnailKey(folder.newFile(), 1, 10, true);
+        assertTrue(cache.mkdirs());
+        Files.write(new File(cache, key.id() + ".png").toPath(), new byte[] { 1, 2, 3 });
+        assertFalse(victim.get(key).isPresent());
+    }
+
+    @Test
+    public void prune() throws IOException {
+        ThumbnailKey first = new ThumbnailKey(folder.newFile(), 1, 10, true);
+        ThumbnailKey second = new ThumbnailKey(folder.newFile(), 1, 10, true);
+        victim.put(first, new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        victim.put(second, new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        File firstFile = new File(cache, first.id() + ".png");
+        Files.setLastModifiedTime(firstFile.toPath(), FileTime.fromMillis(firstFile.lastModified() - 10000));
+        victim.prune(new File(cache, second.id() + ".png").length());
+        assertFalse(victim.get(first).isPresent());
+        assertTrue(victim.get(second).isPresent());
+    }
+
+    @Test
+    public void clear() throws IOException {
+        ThumbnailKey key = new ThumbnailKey(folder.newFile(), 1, 10, true);
+        victim.put(key, new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        victim.clear();
+        assertFalse(victim.get(key).isPresent());
+    }
+}
@@ -0,0 +1,90 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.thumbnail;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class ThumbnailsMemoryCacheTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSize() {
+        new ThumbnailsMemoryCache(0);
+    }
+
+    @Test
+    public void putAndGet() throws IOException {
+        ThumbnailsMemoryCache victim = new ThumbnailsMemoryCache(1024);
+        ThumbnailKey key = new ThumbnailKey(folder.newFile(), 1, 10, true);
+        BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+        assertNull(victim.get(key));
+        victim.put(key, image);
+        assertEquals(image, victim.get(key));
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvicted() throws IOException {
+        ThumbnailsMemoryCache victim = new ThumbnailsMemoryCache(2 * 400);
+        ThumbnailKey first = new ThumbnailKey(folder.newFile(), 1, 10, true);
+        ThumbnailKey second = new ThumbnailKey(folder.newFile(), 1, 10, true);
+        ThumbnailKey third = new ThumbnailKey(folder.newFile(), 1, 10, true);
+        victim.put(first, new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        victim.put(second, new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        victim.get(first);
+        victim.put(third, new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        assertEquals(2, victim.size());
+        assertNotNull(victim.get(first));
+        assertNull(victim.get(second));
+        assertNotNull(victim.get(third));
+    }
+
+    @Test
+    public void replace() throws IOException {
+        ThumbnailsMemoryCache victim = new ThumbnailsMemoryCache(2 * 400);
+        ThumbnailKey first = new ThumbnailKey(folder.newFile(), 1, 10, true);
+        ThumbnailKey second = new ThumbnailKey(folder.newFile(), 1, 10, true);
+        victim.put(first, new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        victim.put(first, new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        victim.put(second, new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        assertEquals(2, victim.size());
+    }
+
+    @Test
+    public void clear() throws IOException {
+        ThumbnailsMemoryCache victim = new ThumbnailsMemoryCache(1024);
+        victim.put(new ThumbnailKey(folder.newFile(), 1, 10, true),
+                new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB));
+        victim.clear();
+        assertEquals(0, victim.size());
+    }
+}
@@ -18,8 +18,10 @@
  */
 package org.pdfsam.ui;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -27,8 +29,10 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.io.FileUtils;
+import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -109,4 +113,108 @@ public class JsonWorkspaceServiceTest {
         victim.loadWorkspace(file);
     }
 
+    @Test
+    public void roundTrip() throws IOException {
+        File file = folder.newFile();
+        Map<String, Map<String, String>> data = new HashMap<>();
+        Map<String, String> moduleData = new HashMap<>();
+        moduleData.put("key", "value");
+        moduleData.put("selectioninput.size", "2");
+        moduleData.put("selectioninput.0", "/path/first.pdf");
+        moduleData.put("selectioninput.password.enc0", "encrypted");
+        moduleData.put("selectioninput.range.0", "1-3");
+        moduleData.put("selectioninput.step.0", "1");
+        moduleData.put("selectioninput.reverse.0", "true");
+        moduleData.put("selectioninput.pages.0", "12");
+        moduleData.put("selectioninput.length.0", "1024");
+        moduleData.put("selectioninput.modified.0", "1500000000000");
+        moduleData.put("selectioninput.1", "/path/second.pdf");
+        moduleData.put("selectioninput.range.1", "");
+        moduleData.put("selectioninput.reverse.1", "false");
+        moduleData.put("selectioninput.5", "/path/out_of_size.pdf");
+        moduleData.put("input.password.enc", "single");
+        data.put("module", moduleData);
+        Map<String, String> anotherModuleData = new HashMap<>();
+        anotherModuleData.put("key", "anotherValue");
+        data.put("anotherModule", anotherModuleData);
+        victim.saveWorkspace(data, file);
+        assertEquals(data, victim.loadWorkspace(file));
+    }
+
+    @Test
+    public void savedWithInputsAsArrays() throws IOException {
+        File file = folder.newFile();
+        Map<String, Map<String, String>> data = new HashMap<>();
+        Map<String, String> moduleData = new HashMap<>();
+        moduleData.put("input.size", "1");
+        moduleData.put("input.0", "/path/first.pdf");
+        moduleData.put("input.reverse.0", "true");
+        moduleData.put("input.pages.0", "12");
+        data.put("module", moduleData);
+        victim.saveWorkspace(data, file);
+        String json = FileUtils.readFileToString(file, "UTF-8");
+        assertThat(json, Matchers.startsWith("{\"version\":2,"));
+        assertThat(json,
+                Matchers.containsString("\"inputs\":{\"\":[{\"file\":\"/path/first.pdf\",\"reverse\":true,\"pages\":12}]}"));
+    }
+
+    @Test
+    public void loadSelectedModules() throws IOException {
+        File file = folder.newFile();
+        Map<String, Map<String, String>> data = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            Map<String, String> moduleData = new HashMap<>();
+            moduleData.put("key", "value" + i);
+            data.put("module" + i, moduleData);
+        }
+        victim.saveWorkspace(data, file);
+        Map<String, Map<String, String>> result = victim.loadWorkspace(file, Set.of("module3", "module7", "missing"));
+        assertEquals(2, result.size());
+        assertEquals("value3", result.get("module3").get("key"));
+        assertEquals("value7", result.get("module7").get("key"));
+    }
+
+    @Test
+    public void loadSelectedModulesFromPreviousFormat() throws IOException {
+        File file = folder.newFile();
+        FileUtils.copyInputStreamToFile(getClass().getResourceAsStream("/workspace.json"), file);
+        Map<String, Map<String, String>> result = victim.loadWorkspace(file, Set.of("split.bybookmarks"));
+        assertEquals(1, result.size());
+        assertEquals("VERSION_1_5", result.get("split.bybookmarks").get("version"));
+        assertTrue(victim.loadWorkspace(file, Set.of("merge")).isEmpty());
+    }
+
+    @Test
+    public void loadAppliesJournal() throws IOException {
+        File file = folder.newFile();
+        Map<String, Map<String, String>> data = new HashMap<>();
+        Map<String, String> moduleData = new HashMap<>();
+        moduleData.put("key", "value");
+        moduleData.put("removed", "value");
+        data.put("module", moduleData);
+        victim.saveWorkspace(data, file);
+        Map<String, Map<String, String>> current = new HashMap<>();
+        Map<String, String> currentModuleData = new HashMap<>();
+        currentModuleData.put("key", "changed");
+        current.put("module", currentModuleData);
+        assertEquals(2, victim.journalWorkspace(data, current, file));
+        assertEquals(current, victim.loadWorkspace(file));
+        assertEquals(current, victim.loadWorkspace(file, Set.of("module")));
+    }
+
+    @Test
+    public void saveDiscardsJournal() throws IOException {
+        File file = folder.newFile();
+        Map<String, Map<String, String>> data = new HashMap<>();
+        Map<String, String> moduleData = new HashMap<>();
+        moduleData.put("key", "value");
+        data.put("module", moduleData);
+        victim.journalWorkspace(Collections.emptyMap(), data, file);
+        File journal = new File(file.getAbsolutePath() + WorkspaceJournal.EXTENSION);
+        assertTrue(journal.exists());
+        victim.saveWorkspace(data, file);
+        assertFalse(journal.exists());
+        assertEquals(data, victim.loadWorkspace(file));
+    }
+
 }
@@ -0,0 +1,178 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.sejda.eventstudio.StaticStudio.eventStudio;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pdfsam.ShutdownEvent;
+import org.pdfsam.context.UserContext;
+import org.pdfsam.test.ClearEventStudioRule;
+import org.pdfsam.test.DefaultPriorityTestModule;
+import org.pdfsam.test.InitializeJavaFxThreadRule;
+import org.pdfsam.ui.workspace.LoadWorkspaceEvent;
+import org.pdfsam.ui.workspace.SaveWorkspaceEvent;
+
+import javafx.application.Platform;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class WorkspaceAutosaveControllerTest {
+
+    @Rule
+    public ClearEventStudioRule clearStudio = new ClearEventStudioRule();
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    @Rule
+    public InitializeJavaFxThreadRule javaFX = new InitializeJavaFxThreadRule();
+
+    private WorkspaceAutosaveController victim;
+    private WorkspaceService service;
+    private UserContext userContext;
+    private File file;
+    private Map<String, Map<String, String>> expected;
+    private List<Boolean> onFxThread;
+
+    @Before
+    public void setUp() throws IOException {
+        file = folder.newFile();
+        service = mock(WorkspaceService.class);
+        when(service.loadWorkspace(file)).thenReturn(Collections.emptyMap());
+        userContext = mock(UserContext.class);
+        when(userContext.isSaveWorkspaceOnExit()).thenReturn(true);
+        when(userContext.getDefaultWorkspacePath()).thenReturn(file.getAbsolutePath());
+        onFxThread = new CopyOnWriteArrayList<>();
+        eventStudio().add(SaveWorkspaceEvent.class, e -> {
+            onFxThread.add(Platform.isFxApplicationThread());
+            e.addValue(DefaultPriorityTestModule.ID, "key", "value");
+        }, DefaultPriorityTestModule.ID);
+        expected = new HashMap<>();
+        expected.put(DefaultPriorityTestModule.ID, Collections.singletonMap("key", "value"));
+        victim = new WorkspaceAutosaveController(Collections.singletonList(new DefaultPriorityTestModule()), service,
+                userContext);
+    }
+
+    @Test
+    public void autosave() {
+        victim.autosave();
+        verify(service).loadWorkspace(file);
+        verify(service).journalWorkspace(Collections.emptyMap(), expected, file);
+        verify(service, never()).saveWorkspace(anyMap(), any());
+        victim.autosave();
+        verify(service).journalWorkspace(expected, expected, file);
+        verify(service).loadWorkspace(file);
+    }
+
+    @Test
+    public void stateCollectedOnFxThread() {
+        victim.autosave();
+        assertEquals(Collections.singletonList(true), onFxThread);
+    }
+
+    @Test
+    public void notRequired() {
+        when(userContext.isSaveWorkspaceOnExit()).thenReturn(false);
+        victim.autosave();
+        verify(service, never()).journalWorkspace(anyMap(), anyMap(), any());
+    }
+
+    @Test
+    public void missingWorkspace() {
+        when(userContext.getDefaultWorkspacePath()).thenReturn(new File(folder.getRoot(), "missing").getAbsolutePath());
+        victim.autosave();
+        verify(service, never()).journalWorkspace(anyMap(), anyMap(), any());
+    }
+
+    @Test
+    public void compaction() {
+        when(service.journalWorkspace(anyMap(), anyMap(), any()))
+                .thenReturn(WorkspaceAutosaveController.COMPACTION_THRESHOLD);
+        victim.autosave();
+        verify(service).saveWorkspace(expected, file);
+    }
+
+    @Test
+    public void pausedWhileLoading() {
+        victim.onLoadWorkspace(new LoadWorkspaceEvent(file));
+        victim.autosave();
+        verify(service, never()).journalWorkspace(anyMap(), anyMap(), any());
+    }
+
+    @Test
+    public void resumedWhenLoaded() {
+        LoadWorkspaceEvent event = new LoadWorkspaceEvent(file);
+        victim.onLoadWorkspace(event);
+        event.loadCompleted();
+        victim.autosave();
+        verify(service).journalWorkspace(Collections.emptyMap(), expected, file);
+    }
+
+    @Test
+    public void journalOnShutdownRightAfterLoad() {
+        LoadWorkspaceEvent event = new LoadWorkspaceEvent(file);
+        victim.onLoadWorkspace(event);
+        event.loadCompleted();
+        victim.onShutdown(new ShutdownEvent());
+        verify(service).journalWorkspace(Collections.emptyMap(), expected, file);
+    }
+
+    @Test
+    public void notJournaledOnShutdownWhileLoading() {
+        victim.onLoadWorkspace(new LoadWorkspaceEvent(file));
+        victim.onShutdown(new ShutdownEvent());
+        verify(service, never()).journalWorkspace(anyMap(), anyMap(), any());
+    }
+
+    @Test
+    public void failingJournalReloads() {
+        when(service.journalWorkspace(anyMap(), anyMap(), any())).thenThrow(new RuntimeException("mock"));
+        victim.autosave();
+        victim.autosave();
+        verify(service, times(2)).loadWorkspace(file);
+    }
+
+    @Test
+    public void journalOnShutdown() {
+        victim.onShutdown(new ShutdownEvent());
+        verify(service).journalWorkspace(Collections.emptyMap(), expected, file);
+        verify(service, never()).saveWorkspace(anyMap(), any());
+    }
+}
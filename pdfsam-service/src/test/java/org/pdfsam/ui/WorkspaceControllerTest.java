@@ -18,6 +18,11 @@
  */
 package org.pdfsam.ui;
 
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyMap;
 import static org.mockito.Matchers.eq;
@@ -30,6 +35,7 @@ import static org.sejda.eventstudio.StaticStudio.eventStudio;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -43,6 +49,7 @@ import org.junit.Test;
 import org.pdfsam.module.Module;
 import org.pdfsam.test.ClearEventStudioRule;
 import org.pdfsam.test.DefaultPriorityTestModule;
+import org.pdfsam.test.HighPriorityTestModule;
 import org.pdfsam.ui.workspace.LoadWorkspaceEvent;
 import org.pdfsam.ui.workspace.SaveWorkspaceEvent;
 import org.pdfsam.ui.workspace.WorkspaceLoadedEvent;
@@ -88,23 +95,26 @@ public class WorkspaceControllerTest {
         SaveWorkspaceEvent event = new SaveWorkspaceEvent(file, true);
         doThrow(new RuntimeException("mock")).when(listener).onEvent(event);
         victim.saveWorkspace(event);
+        verify(service).saveWorkspace(Collections.emptyMap(), file);
     }
 
     @Test
     public void loadEmptyWorkspace() throws InterruptedException, ExecutionException {
         Listener<LoadWorkspaceEvent> listener = mock(Listener.class);
         eventStudio().add(LoadWorkspaceEvent.class, listener, DefaultPriorityTestModule.ID);
-        when(service.loadWorkspace(any())).thenReturn(Collections.emptyMap());
-        CompletableFuture<Void> future = victim.loadWorspace(new LoadWorkspaceEvent(file));
+        when(service.loadWorkspace(any(), any())).thenReturn(Collections.emptyMap());
+        LoadWorkspaceEvent event = new LoadWorkspaceEvent(file);
+        CompletableFuture<Void> future = victim.loadWorspace(event);
         future.get();
         verify(listener, never()).onEvent(any());
+        assertTrue(event.loaded().isDone());
     }
 
     @Test(expected = ExecutionException.class)
     public void loadWorkspaceWithException() throws InterruptedException, ExecutionException {
         Listener<LoadWorkspaceEvent> listener = mock(Listener.class);
         eventStudio().add(LoadWorkspaceEvent.class, listener, DefaultPriorityTestModule.ID);
-        when(service.loadWorkspace(eq(file))).thenThrow(new RuntimeException("mock"));
+        when(service.loadWorkspace(eq(file), any())).thenThrow(new RuntimeException("mock"));
         CompletableFuture<Void> future = victim.loadWorspace(new LoadWorkspaceEvent(file));
         future.get();
     }
@@ -119,9 +129,10 @@ public class WorkspaceControllerTest {
         Map<String, String> moduleData = new HashMap<>();
         moduleData.put("key", "value");
         data.put("module", moduleData);
-        when(service.loadWorkspace(any())).thenReturn(data);
+        when(service.loadWorkspace(any(), any())).thenReturn(data);
         CompletableFuture<Void> future = victim.loadWorspace(new LoadWorkspaceEvent(file));
         future.get();
+        verify(service).loadWorkspace(file, Collections.singleton(DefaultPriorityTestModule.ID));
         verify(listener).onEvent(any());
         verify(recentWorkspaces).addWorkspaceLastUsed(file);
         verify(loadedListener).onEvent(any());
@@ -135,11 +146,91 @@ public class WorkspaceControllerTest {
         Map<String, String> moduleData = new HashMap<>();
         moduleData.put("key", "value");
         data.put("anotherModule", moduleData);
-        when(service.loadWorkspace(any())).thenReturn(data);
+        when(service.loadWorkspace(any(), any())).thenReturn(data);
         CompletableFuture<Void> future = victim.loadWorspace(new LoadWorkspaceEvent(file));
         future.get();
         verify(listener, never()).onEvent(any());
         verify(recentWorkspaces).addWorkspaceLastUsed(any());
     }
 
+    @Test
+    public void saveWorkspaceOnWorkspaceThreads() {
+        List<String> threads = new ArrayList<>();
+        eventStudio().add(SaveWorkspaceEvent.class, e -> threads.add(Thread.currentThread().getName()),
+                DefaultPriorityTestModule.ID);
+        victim.saveWorkspace(new SaveWorkspaceEvent(file, true));
+        assertEquals(1, threads.size());
+        assertThat(threads.get(0), startsWith("workspace-"));
+    }
+
+    @Test
+    public void saveWorkspaceModuleTimeout() {
+        victim = new WorkspaceController(Arrays.asList(new DefaultPriorityTestModule(), new HighPriorityTestModule()),
+                service, recentWorkspaces, 50, 50);
+        eventStudio().add(SaveWorkspaceEvent.class, e -> {
+            sleep();
+            e.addValue(DefaultPriorityTestModule.ID, "key", "value");
+        }, DefaultPriorityTestModule.ID);
+        eventStudio().add(SaveWorkspaceEvent.class, e -> e.addValue(HighPriorityTestModule.ID, "key", "value"),
+                HighPriorityTestModule.ID);
+        victim.saveWorkspace(new SaveWorkspaceEvent(file, true));
+        verify(service).saveWorkspace(
+                Collections.singletonMap(HighPriorityTestModule.ID, Collections.singletonMap("key", "value")), file);
+    }
+
+    @Test
+    public void loadWorkspaceModuleTimeout() throws InterruptedException, ExecutionException {
+        victim = new WorkspaceController(Collections.singletonList(new DefaultPriorityTestModule()), service,
+                recentWorkspaces, 50, 50);
+        eventStudio().add(LoadWorkspaceEvent.class, e -> sleep(), DefaultPriorityTestModule.ID);
+        Listener<WorkspaceLoadedEvent> loadedListener = mock(Listener.class);
+        eventStudio().add(WorkspaceLoadedEvent.class, loadedListener);
+        Map<String, Map<String, String>> data = new HashMap<>();
+        data.put(DefaultPriorityTestModule.ID, Collections.singletonMap("key", "value"));
+        when(service.loadWorkspace(any(), any())).thenReturn(data);
+        victim.loadWorspace(new LoadWorkspaceEvent(file)).get();
+        verify(recentWorkspaces).addWorkspaceLastUsed(file);
+        verify(loadedListener).onEvent(any());
+    }
+
+    @Test
+    public void loadedAfterAsynchronousRestore() throws InterruptedException, ExecutionException {
+        CompletableFuture<Void> restore = new CompletableFuture<>();
+        eventStudio().add(LoadWorkspaceEvent.class, e -> e.restoring(restore), DefaultPriorityTestModule.ID);
+        Listener<WorkspaceLoadedEvent> loadedListener = mock(Listener.class);
+        eventStudio().add(WorkspaceLoadedEvent.class, loadedListener);
+        Map<String, Map<String, String>> data = new HashMap<>();
+        data.put(DefaultPriorityTestModule.ID, Collections.singletonMap("key", "value"));
+        when(service.loadWorkspace(any(), any())).thenReturn(data);
+        CompletableFuture<Void> future = victim.loadWorspace(new LoadWorkspaceEvent(file));
+        Thread.sleep(100);
+        assertFalse(future.isDone());
+        verify(loadedListener, never()).onEvent(any());
+        restore.complete(null);
+        future.get();
+        verify(loadedListener).onEvent(any());
+    }
+
+    @Test
+    public void loadedOnAsynchronousRestoreTimeout() throws InterruptedException, ExecutionException {
+        victim = new WorkspaceController(Collections.singletonList(new DefaultPriorityTestModule()), service,
+                recentWorkspaces, 50, 50);
+        eventStudio().add(LoadWorkspaceEvent.class, e -> e.restoring(new CompletableFuture<>()),
+                DefaultPriorityTestModule.ID);
+        Listener<WorkspaceLoadedEvent> loadedListener = mock(Listener.class);
+        eventStudio().add(WorkspaceLoadedEvent.class, loadedListener);
+        Map<String, Map<String, String>> data = new HashMap<>();
+        data.put(DefaultPriorityTestModule.ID, Collections.singletonMap("key", "value"));
+        when(service.loadWorkspace(any(), any())).thenReturn(data);
+        victim.loadWorspace(new LoadWorkspaceEvent(file)).get();
+        verify(loadedListener).onEvent(any());
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
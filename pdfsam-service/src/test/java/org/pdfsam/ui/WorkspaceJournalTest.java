@@ -0,0 +1,139 @@
+/* 
+ * This file is part of the PDF Split And Merge source code
+ * Created on 19/ott/2026
+ * Copyright 2017 by Sober Lemur S.a.s. di Vacondio Andrea (info@pdfsam.org).
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as 
+ * published by the Free Software Foundation, either version 3 of the 
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.pdfsam.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * @author Andrea Vacondio
+ *
+ */
+public class WorkspaceJournalTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private WorkspaceJournal victim;
+
+    @Before
+    public void setUp() throws IOException {
+        victim = new WorkspaceJournal(folder.newFile("workspace.json"), new JsonFactory());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullWorkspace() {
+        new WorkspaceJournal(null, new JsonFactory());
+    }
+
+    @Test
+    public void appendOnlyChanges() throws IOException {
+        Map<String, Map<String, String>> previous = new HashMap<>();
+        previous.put("module", map("key", "value", "removed", "value"));
+        Map<String, Map<String, String>> current = new HashMap<>();
+        current.put("module", map("key", "value", "added", "value"));
+        current.put("another", map("key", "anotherValue"));
+        assertEquals(3, victim.append(previous, current));
+        assertEquals(3, Files.readAllLines(victim.file()).size());
+        assertEquals(0, victim.append(current, current));
+        assertEquals(3, Files.readAllLines(victim.file()).size());
+    }
+
+    @Test
+    public void noChangesNoJournal() throws IOException {
+        Map<String, Map<String, String>> data = Collections.singletonMap("module", map("key", "value"));
+        assertEquals(0, victim.append(data, data));
+        assertFalse(Files.exists(victim.file()));
+    }
+
+    @Test
+    public void replay() throws IOException {
+        Map<String, Map<String, String>> previous = new HashMap<>();
+        previous.put("module", map("key", "value", "removed", "value"));
+        Map<String, Map<String, String>> current = new HashMap<>();
+        current.put("module", map("key", "changed", "multi", "line\n\"value\""));
+        current.put("another", map("key", "anotherValue"));
+        victim.append(previous, current);
+        Map<String, Map<String, String>> data = new HashMap<>();
+        data.put("module", map("key", "value", "removed", "value"));
+        assertEquals(4, victim.replay(data, m -> true));
+        assertEquals(current, data);
+    }
+
+    @Test
+    public void replaySelectedModules() throws IOException {
+        Map<String, Map<String, String>> current = new HashMap<>();
+        current.put("module", map("key", "value"));
+        current.put("another", map("key", "anotherValue"));
+        victim.append(Collections.emptyMap(), current);
+        Map<String, Map<String, String>> data = new HashMap<>();
+        victim.replay(data, "another"::equals);
+        assertEquals(Collections.singletonMap("another", map("key", "anotherValue")), data);
+    }
+
+    @Test
+    public void replayMissingJournal() throws IOException {
+        Map<String, Map<String, String>> data = new HashMap<>();
+        assertEquals(0, victim.replay(data, m -> true));
+        assertTrue(data.isEmpty());
+    }
+
+    @Test
+    public void interruptedAppend() throws IOException {
+        victim.append(Collections.emptyMap(), Collections.singletonMap("module", map("key", "value")));
+        Files.write(victim.file(), "{\"module\":\"module\",\"key\":\"ke".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        victim.append(Collections.emptyMap(), Collections.singletonMap("module", map("another", "value")));
+        Map<String, Map<String, String>> data = new HashMap<>();
+        assertEquals(2, victim.replay(data, m -> true));
+        assertEquals(Collections.singletonMap("module", map("key", "value", "another", "value")), data);
+    }
+
+    @Test
+    public void delete() throws IOException {
+        victim.append(Collections.emptyMap(), Collections.singletonMap("module", map("key", "value")));
+        assertTrue(Files.exists(victim.file()));
+        victim.delete();
+        assertFalse(Files.exists(victim.file()));
+    }
+
+    private static Map<String, String> map(String... keyValues) {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put(keyValues[i], keyValues[i + 1]);
+        }
+        return map;
+    }
+}
@@ -19,9 +19,16 @@
 package org.pdfsam.update;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Rule;
 import org.junit.Test;
+import org.pdfsam.http.HttpService;
 import org.pdfsam.test.ClearEventStudioRule;
 import org.pdfsam.test.InitializeJavaFxThreadRule;
 
@@ -38,13 +45,32 @@ public class DefaultUpdateServiceTest {
 
     @Test
     public void pasitiveCheckForUpdates() {
-        DefaultUpdateService victim = new DefaultUpdateService("{\"currentVersion\" : \"3.0.0\"}");
+        DefaultUpdateService victim = new DefaultUpdateService(mock(HttpService.class),
+                "{\"currentVersion\" : \"3.0.0\"}");
         assertEquals("3.0.0", victim.getLatestVersion());
     }
 
     @Test
     public void negativeCheckForUpdates() {
-        DefaultUpdateService victim = new DefaultUpdateService("ChuckNorris");
+        DefaultUpdateService victim = new DefaultUpdateService(mock(HttpService.class), "ChuckNorris");
+        assertEquals("", victim.getLatestVersion());
+    }
+
+    @Test
+    public void checkForUpdatesFromUrl() throws IOException {
+        HttpService http = mock(HttpService.class);
+        URL url = new URL("http://localhost/current-version");
+        when(http.get(url)).thenReturn("{\"currentVersion\" : \"4.0.0\"}".getBytes(StandardCharsets.UTF_8));
+        DefaultUpdateService victim = new DefaultUpdateService(http, url);
+        assertEquals("4.0.0", victim.getLatestVersion());
+    }
+
+    @Test
+    public void failingCheckForUpdatesFromUrl() throws IOException {
+        HttpService http = mock(HttpService.class);
+        URL url = new URL("http://localhost/current-version");
+        when(http.get(url)).thenThrow(new IOException("timeout"));
+        DefaultUpdateService victim = new DefaultUpdateService(http, url);
         assertEquals("", victim.getLatestVersion());
     }
 }
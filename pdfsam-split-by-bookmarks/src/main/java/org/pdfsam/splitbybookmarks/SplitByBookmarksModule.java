@@ -71,8 +71,8 @@ public class SplitByBookmarksModule extends BaseTaskExecutionModule {
     private TaskParametersBuilderSingleSelectionPane selectionPane;
     private BrowsableOutputDirectoryField destinationDirectoryField;
     private PdfDestinationPane destinationPane;
-    private SplitOptionsPane splitOptions = new SplitOptionsPane();
-    private PrefixPane prefix = new PrefixPane();
+    private SplitOptionsPane splitOptions;
+    private PrefixPane prefix;
     private ModuleDescriptor descriptor = builder().category(ModuleCategory.SPLIT)
             .inputTypes(ModuleInputOutputType.SINGLE_PDF)
             .name(DefaultI18nContext.getInstance().i18n("Split by bookmarks"))
@@ -87,11 +87,6 @@ public class SplitByBookmarksModule extends BaseTaskExecutionModule {
         super(footer);
         this.destinationDirectoryField = destinationDirectoryField;
         this.destinationPane = destinationPane;
-        this.selectionPane = new TaskParametersBuilderSingleSelectionPane(id());
-        this.selectionPane.setPromptText(
-                DefaultI18nContext.getInstance().i18n("Select or drag and drop the PDF you want to split"));
-        this.selectionPane.addOnLoaded(d -> splitOptions.setValidBookmarkLevels(d.getValidBookmarksLevels()));
-        initModuleSettingsPanel(settingPanel());
     }
 
     @Override
@@ -128,7 +123,15 @@ public class SplitByBookmarksModule extends BaseTaskExecutionModule {
         return builder;
     }
 
-    private VBox settingPanel() {
+    @Override
+    protected VBox settingPanel() {
+        splitOptions = new SplitOptionsPane();
+        prefix = new PrefixPane();
+        selectionPane = new TaskParametersBuilderSingleSelectionPane(id());
+        selectionPane.setPromptText(
+                DefaultI18nContext.getInstance().i18n("Select or drag and drop the PDF you want to split"));
+        selectionPane.addOnLoaded(d -> splitOptions.setValidBookmarkLevels(d.getValidBookmarksLevels()));
+
         VBox pane = new VBox();
         pane.setAlignment(Pos.TOP_CENTER);
 
@@ -70,8 +70,8 @@ public class SplitBySizeModule extends BaseTaskExecutionModule {
     private TaskParametersBuilderSingleSelectionPane selectionPane;
     private BrowsableOutputDirectoryField destinationDirectoryField;
     private PdfDestinationPane destinationPane;
-    private SplitOptionsPane splitOptions = new SplitOptionsPane();
-    private PrefixPane prefix = new PrefixPane();
+    private SplitOptionsPane splitOptions;
+    private PrefixPane prefix;
     private ModuleDescriptor descriptor = builder().category(ModuleCategory.SPLIT)
             .inputTypes(ModuleInputOutputType.SINGLE_PDF).name(DefaultI18nContext.getInstance().i18n("Split by size"))
             .description(
@@ -84,10 +84,6 @@ public class SplitBySizeModule extends BaseTaskExecutionModule {
         super(footer);
         this.destinationDirectoryField = destinationDirectoryField;
         this.destinationPane = destinationPane;
-        this.selectionPane = new TaskParametersBuilderSingleSelectionPane(id());
-        this.selectionPane.setPromptText(
-                DefaultI18nContext.getInstance().i18n("Select or drag and drop the PDF you want to split"));
-        initModuleSettingsPanel(settingPanel());
     }
 
     @Override
@@ -124,7 +120,14 @@ public class SplitBySizeModule extends BaseTaskExecutionModule {
         return builder;
     }
 
-    private VBox settingPanel() {
+    @Override
+    protected VBox settingPanel() {
+        splitOptions = new SplitOptionsPane();
+        prefix = new PrefixPane();
+        selectionPane = new TaskParametersBuilderSingleSelectionPane(id());
+        selectionPane.setPromptText(
+                DefaultI18nContext.getInstance().i18n("Select or drag and drop the PDF you want to split"));
+
         VBox pane = new VBox();
         pane.setAlignment(Pos.TOP_CENTER);
 